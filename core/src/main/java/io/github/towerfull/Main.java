@@ -6,31 +6,86 @@
 package io.github.towerfull;
 
 import com.badlogic.gdx.Game;
-import io.github.towerfull.screen.MainMenuScreen;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import io.github.towerfull.enumElements.ScreenId;
+import io.github.towerfull.screen.ScreenManager;
+import io.github.towerfull.tools.DisposableTracker;
 import io.github.towerfull.tools.GameAssets;
+import io.github.towerfull.tools.log.AsyncLogSink;
+import io.github.towerfull.tools.log.Log;
 
 /**
  * The main class of the Tower Defense game.
  * It initializes the game assets and sets the initial screen to the main menu.
  */
 public class Main extends Game {
+    // The file the log is written to, in the working directory
+    private static final String LOG_FILE = "towerfull.log";
+
+    // The sink writing the log off the render thread
+    private AsyncLogSink logSink;
+
+    // The screens of the game: the menus are kept, the others are disposed when left
+    private ScreenManager screens;
+
     /**
      * The main entry point of the game.
-     * Initializes the game assets and sets the initial screen to the main menu.
+     * Installs the log sink, initializes the game assets and sets the initial screen to the main menu.
      */
     @Override
     public void create() {
+        logSink = new AsyncLogSink(Gdx.files.local(LOG_FILE), true);
+        Log.setSink(logSink);
+
         GameAssets.get().loadAll();
-        this.setScreen(new MainMenuScreen(this));
+        screens = new ScreenManager(this);
+        screens.show(ScreenId.MAIN_MENU);
+    }
+
+    /**
+     * Shows a screen, then releases the screen left behind: a menu is kept, any other screen is disposed,
+     * and the native resources it still holds are reported.
+     * The resources created outside of the constructors belong to the screen shown.
+     *
+     * @param screen The screen to show.
+     */
+    @Override
+    public void setScreen(Screen screen) {
+        Screen left = this.screen;
+        super.setScreen(screen);
+        DisposableTracker.setActiveScope(screen);
+
+        if(left != null && left != screen) {
+            screens.release(left);
+        }
+    }
+
+    /**
+     * Gets the screen manager, to show the menus.
+     *
+     * @return The screen manager.
+     */
+    public ScreenManager getScreens() {
+        return screens;
     }
 
     /**
-     * Disposes of the game assets when the game is closed.
+     * Disposes of the screens, then of the game assets, when the game is closed.
      * This method is called to clean up resources and prevent memory leaks.
      */
     @Override
     public void dispose() {
-        GameAssets.get().dispose(); // Handles disposing of all game assets
         super.dispose();
+        if(screen != null && !screens.isKept(screen)) {
+            screen.dispose();
+            DisposableTracker.report(screen);
+        }
+        screens.dispose();
+
+        GameAssets.get().dispose(); // Handles disposing of all game assets
+
+        Log.setSink(null);
+        logSink.dispose();
     }
 }
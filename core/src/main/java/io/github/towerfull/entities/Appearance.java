@@ -5,20 +5,45 @@
 
 package io.github.towerfull.entities;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 
 /**
  * Represents the appearance of an entity in the game, encapsulating its texture and dimensions.
  * This class is used to define how entities like monsters, towers, or other game objects look.
  * The appearance is shared across different instances of the same type of entity
+ * Besides the full texture, it holds what the lower levels of detail draw: a small mipmapped copy of the texture
+ * and the average colour of the texture.
+ * It also remembers the image file it was made from, so that the image can be read again off the render thread
+ * (the level thumbnails are drawn from the images, the textures being only usable on the render thread).
+ * An appearance made from an image file is not always resident on the graphics card: its textures are loaded
+ * from the file when needed and can be unloaded, which the TextureResidencyManager does to stay within
+ * its memory budget. A texture asked for while not resident is loaded on the spot, on the render thread.
  */
 public class Appearance {
-    // The texture representing the appearance of the entity
-    private final Texture texture;
+    // Size of the small copy of each texture, drawn when an entity is small on screen, in pixels
+    public static final int SMALL_TEXTURE_SIZE = 32;
+
+    // The texture representing the appearance of the entity, null while not resident
+    private Texture texture;
+
+    // The small mipmapped copy of the texture, drawn when the entity is small on screen, null while not resident
+    private Texture smallTexture;
+
+    // The average colour of the texture, drawn when the entity is a few pixels wide
+    private final Color color;
+
+    // Whether every pixel of the texture is opaque, in which case it is drawn without blending
+    private final boolean opaque;
 
     // The width and height of the entity's appearance in logical units
     private final float width, height;
 
+    // The internal path of the image the texture was made from, null if unknown
+    private final String sourcePath;
+
     /**
      * Constructs an Appearance with the specified texture and dimensions.
      *
@@ -27,20 +52,69 @@ public class Appearance {
      * @param height  The height of the appearance in logical units.
      */
     public Appearance(Texture texture, float width, float height) {
+        this(texture, texture, Color.WHITE, false, width, height, null);
+    }
+
+    /**
+     * Constructs an Appearance with the textures of each level of detail.
+     *
+     * @param texture      The texture to be used for the appearance, or null to load it from the image when needed.
+     * @param smallTexture The small copy of the texture, or the texture itself, null if the texture is.
+     * @param color        The average colour of the texture.
+     * @param opaque       Whether every pixel of the texture is opaque.
+     * @param width        The width of the appearance in logical units.
+     * @param height       The height of the appearance in logical units.
+     * @param sourcePath   The internal path of the image the texture was made from, null if unknown.
+     */
+    public Appearance(Texture texture, Texture smallTexture, Color color, boolean opaque, float width, float height,
+                      String sourcePath) {
         this.texture = texture;
+        this.smallTexture = smallTexture;
+        this.color = new Color(color);
+        this.opaque = opaque;
         this.width = width;
         this.height = height;
+        this.sourcePath = sourcePath;
     }
 
     /**
-     * Returns the texture associated with this appearance.
+     * Returns the texture associated with this appearance, loading it if it is not resident.
      *
      * @return The texture of the entity's appearance.
      */
     public Texture getTexture() {
+        if(texture == null) load();
         return texture;
     }
 
+    /**
+     * Returns the small mipmapped copy of the texture.
+     *
+     * @return The small texture, which is the texture itself if no copy was made.
+     */
+    public Texture getSmallTexture() {
+        if(smallTexture == null) load();
+        return smallTexture;
+    }
+
+    /**
+     * Returns the average colour of the texture.
+     *
+     * @return The colour, not to be modified.
+     */
+    public Color getColor() {
+        return color;
+    }
+
+    /**
+     * Checks if every pixel of the texture is opaque.
+     *
+     * @return true if the appearance can be drawn without blending.
+     */
+    public boolean isOpaque() {
+        return opaque;
+    }
+
     /**
      * Returns the width of the entity's appearance.
      *
@@ -58,4 +132,100 @@ public class Appearance {
     public float getHeight() {
         return height;
     }
+
+    /**
+     * Returns the internal path of the image the texture was made from.
+     *
+     * @return The path, or null if unknown.
+     */
+    public String getSourcePath() {
+        return sourcePath;
+    }
+
+    /**
+     * Checks if the textures of the appearance are on the graphics card.
+     *
+     * @return true if the textures are loaded.
+     */
+    public boolean isResident() {
+        return texture != null;
+    }
+
+    /**
+     * Checks if the textures of the appearance can be unloaded, which needs the image to load them again.
+     *
+     * @return true if the appearance was made from an image file.
+     */
+    public boolean isEvictable() {
+        return sourcePath != null;
+    }
+
+    /**
+     * Loads the textures from the image file, if they are not resident. Render thread only.
+     */
+    public void load() {
+        if(texture != null || sourcePath == null) return;
+
+        Pixmap pixmap = new Pixmap(Gdx.files.internal(sourcePath));
+        texture = new Texture(pixmap);
+
+        Pixmap small = shrink(pixmap);
+        smallTexture = new Texture(small, true);
+        smallTexture.setFilter(Texture.TextureFilter.MipMapLinearLinear, Texture.TextureFilter.Linear);
+
+        small.dispose();
+        pixmap.dispose();
+    }
+
+    /**
+     * Unloads the textures, if they can be loaded again from the image file. Render thread only.
+     */
+    public void unload() {
+        if(texture == null || sourcePath == null) return;
+        dispose();
+    }
+
+    /**
+     * Estimates the memory the textures take on the graphics card, four bytes per pixel,
+     * a third more for the mipmaps of the small texture.
+     *
+     * @return The memory in bytes, 0 if the textures are not resident.
+     */
+    public long getTextureBytes() {
+        if(texture == null) return 0L;
+
+        long bytes = 4L * texture.getWidth() * texture.getHeight();
+        if(smallTexture != texture) {
+            bytes += 4L * smallTexture.getWidth() * smallTexture.getHeight() * 4 / 3;
+        }
+        return bytes;
+    }
+
+    /**
+     * Makes the small copy of an image, drawn when an entity is small on screen.
+     *
+     * @param pixmap The image.
+     * @return The small copy, to be disposed of by the caller.
+     */
+    public static Pixmap shrink(Pixmap pixmap) {
+        Pixmap small = new Pixmap(SMALL_TEXTURE_SIZE, SMALL_TEXTURE_SIZE, Pixmap.Format.RGBA8888);
+        small.setBlending(Pixmap.Blending.None);
+        small.setFilter(Pixmap.Filter.BiLinear);
+        small.drawPixmap(pixmap, 0, 0, pixmap.getWidth(), pixmap.getHeight(), 0, 0, SMALL_TEXTURE_SIZE, SMALL_TEXTURE_SIZE);
+        return small;
+    }
+
+    /**
+     * Disposes of the textures of the appearance.
+     */
+    public void dispose() {
+        if(texture == null) return;
+
+        if(smallTexture != texture) {
+            smallTexture.dispose();
+        }
+        texture.dispose();
+        texture = null;
+        smallTexture = null;
+    }
 }
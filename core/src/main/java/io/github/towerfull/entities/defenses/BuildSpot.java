@@ -5,12 +5,12 @@
 
 package io.github.towerfull.entities.defenses;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import io.github.towerfull.entities.Appearance;
 import io.github.towerfull.entities.Printable;
 import io.github.towerfull.enumElements.AppearanceId;
 import io.github.towerfull.tools.GameAssets;
+import io.github.towerfull.tools.log.Log;
 
 /**
  * Represents a buildable spot for towers in the game.
@@ -25,6 +25,9 @@ public class BuildSpot extends Printable {
     // The tower currently built on this spot, or null if no tower is present.
     private Tower tower;
 
+    // Whether the missing appearance of this spot was already reported
+    private boolean missingAppearanceReported = false;
+
     /**
      * Constructs a BuildSpot at the specified logical position.
      * The appearance is set to the default build spot appearance.
@@ -38,6 +41,17 @@ public class BuildSpot extends Printable {
         this.tower = null;
     }
 
+    /**
+     * Copy constructor, sharing the appearance of the build spot and cloning its tower if it has one.
+     *
+     * @param other The BuildSpot to copy.
+     */
+    public BuildSpot(BuildSpot other) {
+        super(other);
+        this.logicalPos = super.getLogicalPos();
+        this.tower = other.tower != null ? other.tower.clone() : null;
+    }
+
     /**
      * Builds a tower on this build spot.
      * If a tower is already present, it will be replaced.
@@ -96,11 +110,7 @@ public class BuildSpot extends Printable {
      */
     @Override
     public BuildSpot clone() {
-        BuildSpot clone = new BuildSpot(new Vector2(logicalPos));
-        if(tower != null) {
-            clone.tower = tower.clone();
-        }
-        return clone;
+        return new BuildSpot(this);
     }
 
     /**
@@ -131,8 +141,10 @@ public class BuildSpot extends Printable {
     @Override
     public Appearance getAppearance() {
         Appearance appearance = isUsed() ? tower.getAppearance() : super.getAppearance();
-        if(appearance == null) {
-            Gdx.app.error("BuildSpot", "Apparence manquante pour " + (isUsed() ? "la tour" : "SPOT") + " au spot " + logicalPos);
+        if(appearance == null && !missingAppearanceReported) {
+            // Reported once, as this is called at every frame
+            missingAppearanceReported = true;
+            Log.error("BuildSpot", "Apparence manquante pour {} au spot {}", isUsed() ? "la tour" : "SPOT", logicalPos);
         }
         return appearance;
     }
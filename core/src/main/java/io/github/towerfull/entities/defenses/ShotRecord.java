@@ -15,8 +15,10 @@ import io.github.towerfull.tools.Prototype;
  * to visualize the shots on the game board.
  */
 public class ShotRecord extends Prototype {
-    // The time a shot is alive before it disappears
-    private static final float TIME_TO_LIVE = 0.3f;
+    /**
+     * The time a shot is alive before it disappears, in seconds.
+     */
+    public static final float TIME_TO_LIVE = 0.3f;
 
     // The shot's origin and destination coordinates,
     private final Vector2 from;
@@ -5,10 +5,13 @@
 
 package io.github.towerfull.entities.defenses;
 
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import io.github.towerfull.entities.Appearance;
+import io.github.towerfull.enumElements.StatusEffect;
 import io.github.towerfull.gameBoard.GameArea;
+import io.github.towerfull.gameBoard.MonsterIndex;
 import io.github.towerfull.tools.Prototype;
 import io.github.towerfull.entities.ennemies.Monster;
 
@@ -33,9 +36,30 @@ public class Tower extends Prototype {
     // Appearance of the tower, used for rendering
     private final Appearance appearance;
 
-    // Time since the last shot was fired
+    // Radius of the area damaged around the target, in cells (0 for a single target)
+    private final float splashRadius;
+
+    // Fraction of the damage lost at the edge of the splash area (0 for the same damage everywhere)
+    private final float splashFalloff;
+
+    // Speed of the projectiles in cells per second (0 for shots hitting instantly)
+    private final float projectileSpeed;
+
+    // Status effect applied to the monsters hit, or null if none
+    private final StatusEffect effect;
+
+    // Strength of the status effect (speed multiplier for a slow, damage per second for a poison)
+    private final float effectStrength;
+
+    // Duration of the status effect in seconds
+    private final float effectDuration;
+
+    // Time since the last shot was fired, never more than the cooldown while the tower waits for a target
     private float timeSinceLastShot;
 
+    // Scratch vector receiving the position of the target at the time of a shot
+    private final Vector2 firePosition = new Vector2();
+
     /**
      * Constructs a Tower with specified properties.
      *
@@ -46,12 +70,55 @@ public class Tower extends Prototype {
      * @param appearance The appearance of the tower for rendering.
      */
     public Tower(int range, int damage, float cooldown, int cost, Appearance appearance) {
+        this(range, damage, cooldown, cost, appearance, 0f, 0f);
+    }
+
+    /**
+     * Constructs a Tower dealing area damage around its target.
+     *
+     * @param range         The range of the tower in cells.
+     * @param damage        The damage dealt at the centre of the impact.
+     * @param cooldown      The cooldown time between shots in seconds.
+     * @param cost          The cost of the tower in game currency.
+     * @param appearance    The appearance of the tower for rendering.
+     * @param splashRadius  The radius of the damaged area in cells, 0 for a single target.
+     * @param splashFalloff The fraction of the damage lost at the edge of the area, between 0 and 1.
+     */
+    public Tower(int range, int damage, float cooldown, int cost, Appearance appearance,
+                 float splashRadius, float splashFalloff) {
+        this(range, damage, cooldown, cost, appearance, splashRadius, splashFalloff, null, 0f, 0f, 0f);
+    }
+
+    /**
+     * Constructs a Tower dealing area damage and applying a status effect to the monsters it hits.
+     *
+     * @param range          The range of the tower in cells.
+     * @param damage         The damage dealt at the centre of the impact.
+     * @param cooldown       The cooldown time between shots in seconds.
+     * @param cost           The cost of the tower in game currency.
+     * @param appearance     The appearance of the tower for rendering.
+     * @param splashRadius   The radius of the damaged area in cells, 0 for a single target.
+     * @param splashFalloff  The fraction of the damage lost at the edge of the area, between 0 and 1.
+     * @param effect         The status effect applied to the monsters hit, or null if none.
+     * @param effectStrength The strength of the status effect.
+     * @param effectDuration The duration of the status effect in seconds.
+     * @param projectileSpeed The speed of the projectiles in cells per second, 0 for shots hitting instantly.
+     */
+    public Tower(int range, int damage, float cooldown, int cost, Appearance appearance,
+                 float splashRadius, float splashFalloff,
+                 StatusEffect effect, float effectStrength, float effectDuration, float projectileSpeed) {
         this.range = range;
         this.damage = damage;
         this.cooldown = cooldown;
         this.timeSinceLastShot = cooldown; // Start with cooldown to allow immediate firing
         this.cost = cost;
         this.appearance = appearance;
+        this.splashRadius = Math.max(0f, splashRadius);
+        this.splashFalloff = MathUtils.clamp(splashFalloff, 0f, 1f);
+        this.effect = effectDuration > 0f ? effect : null;
+        this.effectStrength = effectStrength;
+        this.effectDuration = effectDuration;
+        this.projectileSpeed = Math.max(0f, projectileSpeed);
     }
 
     /**
@@ -65,6 +132,12 @@ public class Tower extends Prototype {
         this.cooldown = t.cooldown;
         this.cost = t.cost;
         this.appearance = t.appearance;
+        this.splashRadius = t.splashRadius;
+        this.splashFalloff = t.splashFalloff;
+        this.effect = t.effect;
+        this.effectStrength = t.effectStrength;
+        this.effectDuration = t.effectDuration;
+        this.projectileSpeed = t.projectileSpeed;
         this.timeSinceLastShot = t.timeSinceLastShot;
     }
 
@@ -79,33 +152,186 @@ public class Tower extends Prototype {
     }
 
     /**
-     * Updates the tower's state, checking if it can shoot at any monsters within range.
+     * Updates the tower's state, firing every shot owed since the last update.
+     * Each shot is fired at the exact time its cooldown ended within the step, at the position its target had
+     * at that time, and the rest of the step is carried over to the next cooldown. A large step therefore
+     * fires as many shots as several small ones. If no monster was in range when a shot was due,
+     * the tower fires at the first monster in range at the end of the step, or waits, ready, for one.
+     * The monsters are found through the monster index of the game area, which must be up to date.
      *
      * @param delta   The time since the last update in seconds.
-     * @param monsters The list of monsters currently in the game area.
-     * @param area    The game area where the tower is located, used for recording shots.
+     * @param area    The game area where the tower is located, used for finding monsters and recording shots.
      * @param logicalPos The logical position of the tower in the game grid.
      */
-    public void update(float delta, Array<Monster> monsters, GameArea area, Vector2 logicalPos) {
+    public void update(float delta, GameArea area, Vector2 logicalPos) {
         timeSinceLastShot += delta;
-        if(timeSinceLastShot < cooldown) return;
+        MonsterIndex index = area.getMonsterIndex();
+
+        while(timeSinceLastShot >= cooldown) {
+            // How long before the end of the step the shot was due
+            float lag = Math.min(timeSinceLastShot - cooldown, delta);
 
-        for(Monster monster : monsters) {
-            Vector2 monsterPosition = monster.getLogicalPos();
-            // We use the logical position of the monster to calculate if the tower can hit it
-            float distance = monsterPosition.dst(logicalPos);
             // The "strategy" here is that it shoots at the first monster that's alive and within range
-            if(distance <= range && !monster.isDead()) {
-                monster.takeDamage(damage);
-                timeSinceLastShot = 0;
+            int targetIndex = index.findFirstBefore(logicalPos.x, logicalPos.y, range, lag, firePosition);
+            if(targetIndex < 0 && lag > 0f) {
+                lag = 0f;
+                targetIndex = index.findFirstBefore(logicalPos.x, logicalPos.y, range, 0f, firePosition);
+            }
+            if(targetIndex < 0) {
+                timeSinceLastShot = cooldown;
+                return;
+            }
+
+            fire(area, logicalPos, index.get(targetIndex), lag);
+            timeSinceLastShot = lag;
+            if(cooldown <= 0f) return; // At most one shot per update without a cooldown
+        }
+    }
 
-                // Record the shot
-                Vector2 towerCenter = logicalPos.cpy().add(0.5f, 0.5f);
-                Vector2 monsterCenter = monsterPosition.cpy().add(0.5f, 0.5f);
-                area.addShot(towerCenter, monsterCenter, damage);
+    /**
+     * Fires a shot at a monster, whose position at the time of the shot is in firePosition.
+     *
+     * @param area       The game area, used to spawn the projectile or apply the damage, and record the shot.
+     * @param logicalPos The logical position of the tower.
+     * @param target     The monster targeted.
+     * @param lag        How long before the end of the current step the shot was fired, in seconds.
+     */
+    private void fire(GameArea area, Vector2 logicalPos, Monster target, float lag) {
+        // Towers with a projectile speed hit when their projectile arrives (or now, if too many are in flight)
+        if(projectileSpeed > 0f
+            && area.getProjectiles().spawn(logicalPos.x, logicalPos.y, projectileSpeed, target, this, lag)) {
+            return;
+        }
+
+        impact(area, target, firePosition.x, firePosition.y);
+
+        // Record the shot
+        Vector2 towerCenter = logicalPos.cpy().add(0.5f, 0.5f);
+        Vector2 monsterCenter = firePosition.cpy().add(0.5f, 0.5f);
+        area.addShot(towerCenter, monsterCenter, damage);
+    }
+
+    /**
+     * Advances the cooldown of the tower during a skipped period, in which it had nothing to shoot at.
+     * The tower is at most ready at the end of the period: it cannot owe shots for the time it had no target.
+     *
+     * @param delta The time skipped in seconds.
+     */
+    public void skip(float delta) {
+        timeSinceLastShot = Math.min(timeSinceLastShot + delta, Math.max(timeSinceLastShot, cooldown));
+    }
 
-                break;
+    /**
+     * Computes the distance a monster has to travel along its path before entering the range of this tower.
+     *
+     * @param monster    The monster.
+     * @param logicalPos The logical position of the tower.
+     * @param limit      The distance after which the search stops, from the current position of the monster.
+     * @return The distance from the current position of the monster (0 if already in range),
+     *         or positive infinity if it does not enter the range within the limit.
+     */
+    public float distanceUntilInRange(Monster monster, Vector2 logicalPos, float limit) {
+        Vector2 pos = monster.getLogicalPos();
+        if(pos.dst2(logicalPos) <= range * range) return 0f;
+
+        Array<Vector2> path = monster.getPath();
+        if(path == null) return Float.POSITIVE_INFINITY;
+
+        float segmentStart = 0f; // Distance from the monster to the start of the current segment
+        Vector2 from = pos;
+        for(int i = monster.getPathIndex(); i < path.size && segmentStart <= limit; ++i) {
+            Vector2 to = path.get(i);
+            float length = from.dst(to);
+            float t = firstInRange(from, to, logicalPos);
+            if(t >= 0f) {
+                return segmentStart + t * length;
             }
+            segmentStart += length;
+            from = to;
+        }
+        return Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Finds the first point of a segment within the range of the tower.
+     *
+     * @param from       The start of the segment.
+     * @param to         The end of the segment.
+     * @param logicalPos The logical position of the tower.
+     * @return The position of the point on the segment, between 0 and 1, or -1 if the segment never enters the range.
+     */
+    private float firstInRange(Vector2 from, Vector2 to, Vector2 logicalPos) {
+        // Solve |from + t * (to - from) - tower|^2 = range^2 for the smallest t in [0, 1]
+        float dx = to.x - from.x;
+        float dy = to.y - from.y;
+        float fx = from.x - logicalPos.x;
+        float fy = from.y - logicalPos.y;
+
+        float a = dx * dx + dy * dy;
+        float b = 2f * (fx * dx + fy * dy);
+        float c = fx * fx + fy * fy - range * range;
+        if(c <= 0f) return 0f;
+        if(a == 0f) return -1f;
+
+        float discriminant = b * b - 4f * a * c;
+        if(discriminant < 0f) return -1f;
+
+        float t = (-b - (float) Math.sqrt(discriminant)) / (2f * a);
+        return t >= 0f && t <= 1f ? t : -1f;
+    }
+
+    /**
+     * Applies the damage of a shot of this tower, when it hits.
+     * A single target shot only damages its target if it is still alive; a splash shot damages the area of the impact.
+     *
+     * @param area    The game area, used to find the monsters around the impact and apply status effects.
+     * @param target  The monster targeted by the shot, or null if it was lost.
+     * @param impactX The x position of the impact, in cells.
+     * @param impactY The y position of the impact, in cells.
+     */
+    public void impact(GameArea area, Monster target, float impactX, float impactY) {
+        if(splashRadius > 0f) {
+            dealSplashDamage(area, area.getMonsterIndex(), impactX, impactY);
+        } else if(target != null && !target.isDead()) {
+            target.takeDamage(damage);
+            area.addHit(target.getLogicalPos().x, target.getLogicalPos().y, damage);
+            applyEffect(area, target);
+        }
+    }
+
+    /**
+     * Damages every alive monster within the splash radius of an impact.
+     * The damage decreases linearly with the distance to the impact, down to (1 - falloff) at the edge.
+     *
+     * @param area    The game area, used to apply the status effect.
+     * @param index   The monster index of the game area.
+     * @param impactX The x position of the impact, in cells.
+     * @param impactY The y position of the impact, in cells.
+     */
+    private void dealSplashDamage(GameArea area, MonsterIndex index, float impactX, float impactY) {
+        int count = index.query(impactX, impactY, splashRadius);
+        for(int i = 0; i < count; ++i) {
+            Monster monster = index.get(index.getResult(i));
+            float distance = monster.getLogicalPos().dst(impactX, impactY);
+            float factor = 1f - splashFalloff * distance / splashRadius;
+            int amount = MathUtils.round(damage * factor);
+            if(amount > 0) {
+                monster.takeDamage(amount);
+                area.addHit(monster.getLogicalPos().x, monster.getLogicalPos().y, amount);
+            }
+            applyEffect(area, monster);
+        }
+    }
+
+    /**
+     * Applies the status effect of the tower to a monster it hit, if the tower has one.
+     *
+     * @param area    The game area, which schedules the expiry of the effect.
+     * @param monster The monster hit.
+     */
+    private void applyEffect(GameArea area, Monster monster) {
+        if(effect != null && !monster.isDead()) {
+            area.applyEffect(monster, effect, effectStrength, effectDuration);
         }
     }
 
@@ -141,6 +367,54 @@ public class Tower extends Prototype {
         return cost;
     }
 
+    /**
+     * Getters for the splash radius
+     * @return The radius of the area damaged around the target in cells, 0 for a single target.
+     */
+    public float getSplashRadius() {
+        return splashRadius;
+    }
+
+    /**
+     * Getters for the splash falloff
+     * @return The fraction of the damage lost at the edge of the splash area.
+     */
+    public float getSplashFalloff() {
+        return splashFalloff;
+    }
+
+    /**
+     * Getters for the status effect
+     * @return The status effect applied to the monsters hit, or null if none.
+     */
+    public StatusEffect getEffect() {
+        return effect;
+    }
+
+    /**
+     * Getters for the effect strength
+     * @return The strength of the status effect.
+     */
+    public float getEffectStrength() {
+        return effectStrength;
+    }
+
+    /**
+     * Getters for the effect duration
+     * @return The duration of the status effect in seconds.
+     */
+    public float getEffectDuration() {
+        return effectDuration;
+    }
+
+    /**
+     * Getters for the projectile speed
+     * @return The speed of the projectiles in cells per second, 0 for shots hitting instantly.
+     */
+    public float getProjectileSpeed() {
+        return projectileSpeed;
+    }
+
     /**
      * Getters for the appearance
      * @return The appearance of the tower, used for rendering.
@@ -0,0 +1,381 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: A scenario that never ends, generating its waves on the fly from a seeded difficulty curve.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.entities.ennemies;
+
+import com.badlogic.gdx.math.RandomXS128;
+import io.github.towerfull.enumElements.MonsterType;
+import io.github.towerfull.gameBoard.GameArea;
+import io.github.towerfull.tools.PrototypeFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A scenario for the endless mode: its waves are not loaded from scenarios.json but generated lazily,
+ * a bounded window ahead of the scenario time, from a seeded difficulty curve. Each wave is larger,
+ * denser and made of stronger monsters than the previous one, and past the strongest monster type
+ * the health of the monsters keeps growing.
+ * The generated spawns wait in a fixed-size ring buffer and are dropped once spawned, so the memory
+ * used stays the same however long the game lasts.
+ * The spawns are also limited by a spawn rate ceiling, lowered when the measured duration of the updates
+ * exceeds a budget, so that a strong defense cannot let the monsters pile up until the game slows down.
+ */
+public class EndlessScenario extends Scenario {
+    // How far ahead of the scenario time the waves are generated, in seconds
+    private static final float LOOKAHEAD = 30f;
+
+    // Number of spawns the ring buffer can hold
+    private static final int CAPACITY = 256;
+
+    // Start time of the first wave, in seconds
+    private static final float FIRST_WAVE = 5f;
+
+    // Pause between the last spawn of a wave and the first of the next one, in seconds
+    private static final float WAVE_GAP = 12f;
+    private static final float MIN_WAVE_GAP = 5f;
+    private static final float GAP_DECREASE = 0.25f;
+
+    // Number of monsters of a wave, growing with each wave up to a maximum
+    private static final int BASE_WAVE_SIZE = 4;
+    private static final float WAVE_SIZE_GROWTH = 0.75f;
+    private static final int MAX_WAVE_SIZE = 64;
+
+    // Time between two spawns of a wave, in seconds
+    private static final float SPACING = 0.8f;
+    private static final float MIN_SPACING = 0.2f;
+    private static final float SPACING_DECREASE = 0.02f;
+
+    // Number of waves before the next stronger monster type appears, and number of types mixed in a wave
+    private static final int WAVES_PER_TIER = 4;
+    private static final int TIER_SPREAD = 3;
+
+    // Health added to the monsters at each wave, as a fraction of their base health
+    private static final float HEALTH_GROWTH = 0.04f;
+
+    // Duration of an update above which the spawn rate ceiling is lowered, in seconds.
+    // At 60 ticks per second, 8 ms is half a core: beyond it the simulation starts taking
+    // the time the render thread needs to draw 30 frames per second.
+    private static final float TICK_BUDGET = 0.008f;
+
+    // Highest and lowest spawn rate ceiling, in monsters per second
+    private static final float MAX_SPAWN_RATE = 8f;
+    private static final float MIN_SPAWN_RATE = 0.5f;
+
+    // Smoothing of the measured update duration, and adjustment of the ceiling at each measure
+    private static final float TICK_SMOOTHING = 0.05f;
+    private static final float RATE_DECREASE = 0.99f;
+    private static final float RATE_INCREASE = 0.02f;
+
+    // The seed of the generated waves
+    private final long seed;
+
+    // The monster types, from the weakest to the strongest (shared between copies)
+    private final MonsterType[] byThreat;
+
+    // The random generator of the monster types
+    private final RandomXS128 random;
+
+    // Ring buffer of the generated spawns waiting to happen, sorted by time
+    private final float[] times = new float[CAPACITY];
+    private final MonsterType[] types = new MonsterType[CAPACITY];
+    private final float[] healthScales = new float[CAPACITY];
+    private int head;
+    private int count;
+
+    // Number of waves generated, and start time of the next one
+    private int waveCount;
+    private float nextWaveTime;
+
+    // Time of the last spawn, to enforce the spawn rate ceiling
+    private float lastSpawnTime;
+
+    // The current spawn rate ceiling, in monsters per second
+    private float spawnRate;
+
+    // The smoothed duration of the updates, in seconds
+    private float tickTime;
+
+    // Number of monsters spawned since the start
+    private long spawnedCount;
+
+    /**
+     * Creates an endless scenario.
+     *
+     * @param factory Factory to create monsters of different types.
+     * @param seed    The seed of the generated waves: the same seed always gives the same waves.
+     */
+    public EndlessScenario(PrototypeFactory<MonsterType, Monster> factory, long seed) {
+        super(factory);
+        this.seed = seed;
+        this.random = new RandomXS128(seed);
+
+        List<MonsterType> available = new ArrayList<>();
+        for(MonsterType type : MonsterType.values()) {
+            if(factory.getPrototype(type) != null) {
+                available.add(type);
+            }
+        }
+        available.sort((a, b) -> Float.compare(threat(factory, a), threat(factory, b)));
+        this.byThreat = available.toArray(new MonsterType[0]);
+
+        reset();
+    }
+
+    /**
+     * Copies an endless scenario, at the same point of the same waves.
+     *
+     * @param other   The scenario to copy.
+     * @param factory The factory of the copy.
+     */
+    private EndlessScenario(EndlessScenario other, PrototypeFactory<MonsterType, Monster> factory) {
+        super(other, factory);
+        this.seed = other.seed;
+        this.byThreat = other.byThreat;
+        this.random = new RandomXS128(other.random.getState(0), other.random.getState(1));
+        System.arraycopy(other.times, 0, times, 0, CAPACITY);
+        System.arraycopy(other.types, 0, types, 0, CAPACITY);
+        System.arraycopy(other.healthScales, 0, healthScales, 0, CAPACITY);
+        this.head = other.head;
+        this.count = other.count;
+        this.waveCount = other.waveCount;
+        this.nextWaveTime = other.nextWaveTime;
+        this.lastSpawnTime = other.lastSpawnTime;
+        this.spawnRate = other.spawnRate;
+        this.tickTime = other.tickTime;
+        this.spawnedCount = other.spawnedCount;
+    }
+
+    /**
+     * Gets how dangerous a monster type is, as its health times the damage it deals.
+     *
+     * @param factory The monster factory.
+     * @param type    The monster type.
+     * @return The threat of the type.
+     */
+    private static float threat(PrototypeFactory<MonsterType, Monster> factory, MonsterType type) {
+        Monster monster = factory.getPrototype(type);
+        return monster.getPv() * (float) monster.getDamage();
+    }
+
+    /**
+     * Updates the scenario: advances the time, queues the spawns that are due and allowed by the
+     * spawn rate ceiling, generates the waves entering the look-ahead window and releases the spawn budget.
+     *
+     * @param delta    Time delta since the last update.
+     * @param gameArea The game area where monsters will be spawned.
+     */
+    @Override
+    public void update(float delta, GameArea gameArea) {
+        advanceTime(delta);
+        getSpawnQueue().advance(delta);
+        generate();
+
+        while(count > 0) {
+            float due = nextSpawnTime();
+            if(due >= getScenarioTime()) break;
+
+            getSpawnQueue().add(types[head], SpawnTimeline.ANY_SPAWN, healthScales[head]);
+            ++spawnedCount;
+
+            types[head] = null;
+            head = (head + 1) % CAPACITY;
+            --count;
+            lastSpawnTime = due;
+        }
+
+        // Spawning freed room in the buffer
+        generate();
+        releaseSpawns(gameArea);
+    }
+
+    /**
+     * Gets the time at which the next buffered spawn may happen, given the spawn rate ceiling.
+     * The buffer must not be empty.
+     *
+     * @return The scenario time of the next spawn.
+     */
+    private float nextSpawnTime() {
+        return Math.max(times[head], lastSpawnTime + 1f / spawnRate);
+    }
+
+    /**
+     * Generates the waves starting within the look-ahead window, as long as they fit in the buffer.
+     * A wave that could not be generated in time, because the buffer was full, starts as soon as it is.
+     */
+    private void generate() {
+        float scenarioTime = getScenarioTime();
+        while(nextWaveTime <= scenarioTime + LOOKAHEAD) {
+            int size = Math.min(MAX_WAVE_SIZE, BASE_WAVE_SIZE + (int) (waveCount * WAVE_SIZE_GROWTH));
+            if(count + size > CAPACITY) return;
+
+            float start = Math.max(nextWaveTime, scenarioTime);
+            float spacing = Math.max(MIN_SPACING, SPACING - waveCount * SPACING_DECREASE);
+            float healthScale = 1f + Math.max(0, waveCount - WAVES_PER_TIER * byThreat.length) * HEALTH_GROWTH;
+            int maxTier = Math.min(byThreat.length - 1, waveCount / WAVES_PER_TIER);
+            int minTier = Math.max(0, maxTier - TIER_SPREAD + 1);
+
+            for(int i = 0; i < size; ++i) {
+                int slot = (head + count) % CAPACITY;
+                times[slot] = start + i * spacing;
+                types[slot] = byThreat[minTier + random.nextInt(maxTier - minTier + 1)];
+                healthScales[slot] = healthScale;
+                ++count;
+            }
+
+            float gap = Math.max(MIN_WAVE_GAP, WAVE_GAP - waveCount * GAP_DECREASE);
+            nextWaveTime = start + (size - 1) * spacing + gap;
+            ++waveCount;
+        }
+    }
+
+    /**
+     * Gets the time left before the next monster spawns, taking the spawn rate ceiling into account.
+     *
+     * @return The time in seconds (0 if a spawn is due).
+     */
+    @Override
+    public float getTimeUntilNextSpawn() {
+        if(!getSpawnQueue().isEmpty()) return 0f;
+
+        float next = count > 0 ? nextSpawnTime() : Math.max(nextWaveTime, lastSpawnTime + 1f / spawnRate);
+        return Math.max(0f, next - getScenarioTime());
+    }
+
+    /**
+     * Advances the scenario time without spawning anything.
+     * The caller must not skip past the next spawn, see getTimeUntilNextSpawn.
+     *
+     * @param delta The time to skip, in seconds.
+     */
+    @Override
+    public void skip(float delta) {
+        advanceTime(delta);
+        generate();
+    }
+
+    /**
+     * Measures the load of the game: while the smoothed duration of the updates exceeds the budget,
+     * the spawn rate ceiling is lowered step by step, and it slowly rises back once the updates are fast again.
+     *
+     * @param seconds The duration of the last update, in seconds.
+     */
+    @Override
+    public void reportTickTime(float seconds) {
+        tickTime += (seconds - tickTime) * TICK_SMOOTHING;
+        if(tickTime > TICK_BUDGET) {
+            spawnRate = Math.max(MIN_SPAWN_RATE, spawnRate * RATE_DECREASE);
+        } else if(tickTime < TICK_BUDGET / 2f) {
+            spawnRate = Math.min(MAX_SPAWN_RATE, spawnRate + RATE_INCREASE);
+        }
+    }
+
+    /**
+     * Lists every type the scenario may pick, since the waves are only generated as the game goes.
+     *
+     * @param out The collection receiving the types.
+     */
+    @Override
+    public void collectMonsterTypes(Collection<MonsterType> out) {
+        Collections.addAll(out, byThreat);
+    }
+
+    /**
+     * An endless scenario never finishes: the game only ends when the player loses.
+     *
+     * @return Always false.
+     */
+    @Override
+    public boolean isFinished() {
+        return false;
+    }
+
+    /**
+     * Resets the scenario to its first wave, with the same seed.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        random.setSeed(seed);
+        head = 0;
+        count = 0;
+        waveCount = 0;
+        nextWaveTime = FIRST_WAVE;
+        lastSpawnTime = Float.NEGATIVE_INFINITY;
+        spawnRate = MAX_SPAWN_RATE;
+        tickTime = 0f;
+        spawnedCount = 0;
+        for(int i = 0; i < CAPACITY; ++i) {
+            types[i] = null;
+        }
+    }
+
+    /**
+     * Gets the number of waves generated so far, including the ones still waiting in the buffer.
+     *
+     * @return The number of waves.
+     */
+    public int getWaveCount() {
+        return waveCount;
+    }
+
+    /**
+     * Gets the number of spawns waiting in the buffer.
+     *
+     * @return The number of pending spawns, at most the capacity of the buffer.
+     */
+    public int getPendingCount() {
+        return count;
+    }
+
+    /**
+     * Gets the number of monsters spawned since the start.
+     *
+     * @return The number of monsters spawned.
+     */
+    public long getSpawnedCount() {
+        return spawnedCount;
+    }
+
+    /**
+     * Gets the current spawn rate ceiling.
+     *
+     * @return The ceiling, in monsters per second.
+     */
+    public float getSpawnRate() {
+        return spawnRate;
+    }
+
+    /**
+     * Gets the seed of the generated waves.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Clones the scenario, with its own copy of the monster factory.
+     *
+     * @return A new EndlessScenario at the same point of the same waves.
+     */
+    @Override
+    public EndlessScenario clone() {
+        return new EndlessScenario(this, getFactory().clone());
+    }
+
+    /**
+     * Creates a copy of the scenario for a look-ahead simulation, sharing the monster factory.
+     *
+     * @return A new EndlessScenario at the same point of the same waves.
+     */
+    @Override
+    public EndlessScenario snapshot() {
+        return new EndlessScenario(this, getFactory());
+    }
+}
@@ -9,6 +9,7 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import io.github.towerfull.entities.Appearance;
 import io.github.towerfull.entities.Printable;
+import io.github.towerfull.enumElements.StatusEffect;
 
 /**
  * Represents a monster in the game, which can move along a path, take damage, and give rewards when defeated.
@@ -40,6 +41,30 @@ public class Monster extends Printable {
     // The path the monster follows, represented as an array of Vector2 positions.
     private Array<Vector2> path = null;
 
+    // Length of the path from its first point to each of its points, shared by the copies of the monster.
+    private float[] pathLengths = null;
+
+    // Distance travelled along the path since its first point, in cells.
+    private float distanceTravelled = 0f;
+
+    // Status effects: one slot per StatusEffect, holding its strength, end time and generation.
+    // The generation is increased on every change, so timers scheduled for an older application are ignored.
+    private final float[] effectStrength = new float[StatusEffect.COUNT];
+    private final float[] effectEnd = new float[StatusEffect.COUNT];
+    private final int[] effectGeneration = new int[StatusEffect.COUNT];
+
+    // Bit mask of the active status effects, indexed by their ordinal.
+    private int activeEffects = 0;
+
+    // Multiplier applied to the speed, computed when the effects change (0 when stunned).
+    private float speedMultiplier = 1f;
+
+    // Poison damage accumulated but not dealt yet, as damage is dealt in whole points.
+    private float pendingPoison = 0f;
+
+    // Whether the monster is in the list of poisoned monsters of its game area.
+    private boolean poisonTracked = false;
+
     /**
      * Constructs a Monster with specified health, speed, damage, reward, and appearance.
      *
@@ -92,6 +117,14 @@ public class Monster extends Printable {
         this.pv = m.pv;
         this.maxPv = m.maxPv;
         this.path = m.path;
+        this.pathLengths = m.pathLengths;
+        this.distanceTravelled = m.distanceTravelled;
+        System.arraycopy(m.effectStrength, 0, this.effectStrength, 0, StatusEffect.COUNT);
+        System.arraycopy(m.effectEnd, 0, this.effectEnd, 0, StatusEffect.COUNT);
+        System.arraycopy(m.effectGeneration, 0, this.effectGeneration, 0, StatusEffect.COUNT);
+        this.activeEffects = m.activeEffects;
+        this.speedMultiplier = m.speedMultiplier;
+        this.pendingPoison = m.pendingPoison;
     }
 
     /**
@@ -106,43 +139,233 @@ public class Monster extends Printable {
 
     /**
      * Updates the monster's position along its path based on the elapsed time (delta).
-     * If the monster reaches a target position, it moves to the next position in the path.
+     * The monster moves by its effective speed along the arc length of its path.
      * If it reaches the end of the path, it sets hasReachedEnd to true.
      *
      * @param delta The time elapsed since the last update, used to calculate movement.
      */
     public void update(float delta) {
         if(path == null || path.size == 0) return;
-        if(hasReachedEnd || pathIndex >= path.size) return;
+        if(hasReachedEnd) return;
+        if(speedMultiplier == 0f || speed == 0f) return; // Stunned or immobile
 
-        Vector2 target = path.get(pathIndex);
-        Vector2 direction = target.cpy().sub(logicalPos);
-        float distance = direction.len();
+        advance(speed * speedMultiplier * delta);
+    }
+
+    /**
+     * Moves the monster forward along its path by a distance, in one step.
+     * If it reaches the end of the path, it sets hasReachedEnd to true.
+     *
+     * @param distance The distance to travel, in cells.
+     */
+    public void advance(float distance) {
+        if(path == null || path.size == 0 || hasReachedEnd) return;
+
+        distanceTravelled += distance;
+        if(distanceTravelled >= getPathLength()) {
+            distanceTravelled = getPathLength();
+            pathIndex = path.size;
+            hasReachedEnd = true;
+            logicalPos.set(path.peek());
+            return;
+        }
 
-        // If the monster is very close to the target, move to the next path index
-        if(distance < 0.01f) {
+        while(pathIndex < path.size - 1 && pathLengths[pathIndex] <= distanceTravelled) {
             ++pathIndex;
-            if(pathIndex >= path.size) {
-                hasReachedEnd = true;
-            }
-        } else {
-            // Move towards the target position based on speed and delta time
-            float maxDistance = speed * delta;
-            if(distance <= maxDistance) {
-                // We use the part of the delta that is needed to reach the target, and keep the rest
-                logicalPos.set(target.cpy());
-                ++pathIndex;
-                if(pathIndex >= path.size) {
-                    hasReachedEnd = true;
-                } else {
-                    // If we have not reached the end, we continue to the next target
-                    this.update(delta - (distance / speed));
-                }
+        }
+        positionOnSegment(pathIndex, distanceTravelled, logicalPos);
+    }
+
+    /**
+     * Computes the position the monster will have after travelling a given distance from the start of its path.
+     *
+     * @param distance The distance from the start of the path, in cells.
+     * @param out      The vector receiving the position.
+     * @return The out vector.
+     */
+    public Vector2 getPositionAt(float distance, Vector2 out) {
+        if(path == null || path.size == 0) return out.set(logicalPos);
+        if(distance >= getPathLength()) return out.set(path.peek());
+        if(distance <= 0f) return out.set(path.first());
+
+        // Find the first point further than the distance
+        int low = 1;
+        int high = path.size - 1;
+        while(low < high) {
+            int mid = (low + high) >>> 1;
+            if(pathLengths[mid] <= distance) {
+                low = mid + 1;
             } else {
-                direction.nor().scl(maxDistance);
-                logicalPos.add(direction);
+                high = mid;
             }
         }
+        return positionOnSegment(low, distance, out);
+    }
+
+    /**
+     * Computes the position the monster had some time ago, assuming it moved at its current effective speed.
+     *
+     * @param time How long ago, in seconds.
+     * @param out  The vector receiving the position.
+     * @return The out vector, or null if the monster was not on its path yet at that time.
+     */
+    public Vector2 getPositionBefore(float time, Vector2 out) {
+        float distance = getEffectiveSpeed() * time;
+        if(distance <= 0f || path == null || path.size == 0) return out.set(logicalPos);
+        if(distance > distanceTravelled) return null;
+        return getPositionAt(distanceTravelled - distance, out);
+    }
+
+    /**
+     * Computes a position on the segment of the path ending at the given point.
+     *
+     * @param end      The index of the point ending the segment (at least 1).
+     * @param distance The distance from the start of the path, within the segment.
+     * @param out      The vector receiving the position.
+     * @return The out vector.
+     */
+    private Vector2 positionOnSegment(int end, float distance, Vector2 out) {
+        float start = pathLengths[end - 1];
+        float length = pathLengths[end] - start;
+        float t = length > 0f ? (distance - start) / length : 1f;
+        return out.set(path.get(end - 1)).lerp(path.get(end), t);
+    }
+
+    /**
+     * Applies a status effect to the monster.
+     * If the effect is already active, the strongest strength and the latest end are kept.
+     *
+     * @param effect   The effect to apply.
+     * @param strength The strength of the effect (speed multiplier, damage per second, ignored for a stun).
+     * @param endTime  The time at which the effect ends, on the effect clock of the game area.
+     * @return The new generation of the effect, or -1 if the effect did not change.
+     */
+    public int applyEffect(StatusEffect effect, float strength, float endTime) {
+        int i = effect.ordinal();
+        if(hasEffect(effect)) {
+            strength = effect.strongest(effectStrength[i], strength);
+            endTime = Math.max(effectEnd[i], endTime);
+            if(strength == effectStrength[i] && endTime == effectEnd[i]) return -1;
+        }
+
+        effectStrength[i] = strength;
+        effectEnd[i] = endTime;
+        activeEffects |= 1 << i;
+        updateSpeedMultiplier();
+        return ++effectGeneration[i];
+    }
+
+    /**
+     * Ends a status effect, if the given generation is still the current one.
+     *
+     * @param effect     The effect to end.
+     * @param generation The generation of the effect when its timer was scheduled.
+     */
+    public void expireEffect(StatusEffect effect, int generation) {
+        int i = effect.ordinal();
+        if(effectGeneration[i] != generation || !hasEffect(effect)) return;
+
+        activeEffects &= ~(1 << i);
+        effectStrength[i] = 0f;
+        if(effect == StatusEffect.POISON) {
+            pendingPoison = 0f;
+        }
+        updateSpeedMultiplier();
+    }
+
+    /**
+     * Deals the damage of the poison for the elapsed time.
+     *
+     * @param delta The time elapsed since the last update, in seconds.
+     */
+    public void updatePoison(float delta) {
+        if(!hasEffect(StatusEffect.POISON)) return;
+
+        pendingPoison += effectStrength[StatusEffect.POISON.ordinal()] * delta;
+        int amount = (int) pendingPoison;
+        if(amount > 0) {
+            pendingPoison -= amount;
+            takeDamage(amount);
+        }
+    }
+
+    /**
+     * Computes the speed multiplier from the active effects.
+     */
+    private void updateSpeedMultiplier() {
+        if(hasEffect(StatusEffect.STUN)) {
+            speedMultiplier = 0f;
+        } else if(hasEffect(StatusEffect.SLOW)) {
+            speedMultiplier = effectStrength[StatusEffect.SLOW.ordinal()];
+        } else {
+            speedMultiplier = 1f;
+        }
+    }
+
+    /**
+     * Checks if a status effect is active on the monster.
+     *
+     * @param effect The effect to check.
+     * @return true if the effect is active, false otherwise.
+     */
+    public boolean hasEffect(StatusEffect effect) {
+        return (activeEffects & (1 << effect.ordinal())) != 0;
+    }
+
+    /**
+     * Checks if the monster has at least one active status effect.
+     *
+     * @return true if an effect is active, false otherwise.
+     */
+    public boolean hasEffects() {
+        return activeEffects != 0;
+    }
+
+    /**
+     * Gets the time at which a status effect ends.
+     *
+     * @param effect The effect.
+     * @return The end time on the effect clock of the game area, meaningless if the effect is not active.
+     */
+    public float getEffectEnd(StatusEffect effect) {
+        return effectEnd[effect.ordinal()];
+    }
+
+    /**
+     * Gets the current generation of a status effect.
+     *
+     * @param effect The effect.
+     * @return The generation of the effect.
+     */
+    public int getEffectGeneration(StatusEffect effect) {
+        return effectGeneration[effect.ordinal()];
+    }
+
+    /**
+     * Gets the multiplier applied to the speed of the monster by its status effects.
+     *
+     * @return The speed multiplier, 0 when the monster is stunned.
+     */
+    public float getSpeedMultiplier() {
+        return speedMultiplier;
+    }
+
+    /**
+     * Checks if the monster is in the list of poisoned monsters of its game area.
+     *
+     * @return true if the monster is tracked, false otherwise.
+     */
+    public boolean isPoisonTracked() {
+        return poisonTracked;
+    }
+
+    /**
+     * Sets whether the monster is in the list of poisoned monsters of its game area.
+     *
+     * @param poisonTracked true if the monster is tracked, false otherwise.
+     */
+    public void setPoisonTracked(boolean poisonTracked) {
+        this.poisonTracked = poisonTracked;
     }
 
     /**
@@ -153,8 +376,51 @@ public class Monster extends Printable {
      */
     public void setPath(Array<Vector2> path) {
         this.path = path;
-        this.pathIndex = 0;
+        this.pathIndex = Math.min(1, path.size - 1);
         this.hasReachedEnd = false;
+        this.distanceTravelled = 0f;
+
+        // Cumulative length of the path at each of its points
+        this.pathLengths = new float[path.size];
+        for(int i = 1; i < path.size; ++i) {
+            pathLengths[i] = pathLengths[i - 1] + path.get(i - 1).dst(path.get(i));
+        }
+    }
+
+    /**
+     * Gets the total length of the path of the monster.
+     *
+     * @return The length of the path in cells, 0 if the monster has no path.
+     */
+    public float getPathLength() {
+        return path == null || path.size == 0 ? 0f : pathLengths[path.size - 1];
+    }
+
+    /**
+     * Gets the distance travelled by the monster since the start of its path.
+     *
+     * @return The distance in cells.
+     */
+    public float getDistanceTravelled() {
+        return distanceTravelled;
+    }
+
+    /**
+     * Gets the speed of the monster with its status effects applied.
+     *
+     * @return The effective speed in cells per second, 0 when stunned.
+     */
+    public float getEffectiveSpeed() {
+        return speed * speedMultiplier;
+    }
+
+    /**
+     * Gets the path followed by the monster.
+     *
+     * @return The points of the path, or null if it has none.
+     */
+    public Array<Vector2> getPath() {
+        return path;
     }
 
     /**
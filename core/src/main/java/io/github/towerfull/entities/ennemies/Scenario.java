@@ -5,29 +5,52 @@
 
 package io.github.towerfull.entities.ennemies;
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
 import io.github.towerfull.gameBoard.GameArea;
 import io.github.towerfull.tools.Prototype;
 import io.github.towerfull.tools.PrototypeFactory;
+import io.github.towerfull.tools.log.Log;
 import io.github.towerfull.enumElements.MonsterType;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Represents a scenario containing multiple waves of monsters.
  * Each wave can be scheduled to spawn at a specific time.
+ * The waves are compiled into a single sorted SpawnTimeline, which is walked with a cursor.
+ * The spawns that are due go through a SpawnQueue, from which at most SPAWN_BUDGET monsters are released
+ * per update: a burst of spawns is spread over several ticks, each monster entering where it would be
+ * if it had spawned on time.
  */
 public class Scenario extends Prototype {
+    // Maximum number of monsters entering the game area in one update
+    public static final int SPAWN_BUDGET = 4;
+
     // List of scheduled waves in the scenario.
     private final List<WaveSchedule> schedules = new ArrayList<>();
 
+    // All the spawns of the scheduled waves, sorted by time (compiled lazily, shared between clones)
+    private SpawnTimeline timeline;
+
+    // Index of the next entry of the timeline to spawn
+    private int cursor;
+
     // Factory to create monster instances based on their type.
     private final PrototypeFactory<MonsterType, Monster> factory;
 
     // Current time in the scenario, used to track when waves should spawn.
     private float scenarioTime;
 
+    // The spawns that are due, waiting for the spawn budget
+    private final SpawnQueue pending;
+
+    // The monsters released in an update, with their spawn slots and how long they waited (reused every update)
+    private final Array<Monster> batch = new Array<>(false, SPAWN_BUDGET);
+    private final int[] batchSlots = new int[SPAWN_BUDGET];
+    private final float[] batchDelays = new float[SPAWN_BUDGET];
+
     /**
      * Creates a new Scenario with a specified factory for monster creation.
      * * @param factory Factory to create monsters of different types.
@@ -45,6 +68,23 @@ public class Scenario extends Prototype {
     public Scenario(PrototypeFactory<MonsterType, Monster> factory, float scenarioTime) {
         this.factory = factory;
         this.scenarioTime = scenarioTime;
+        this.pending = new SpawnQueue();
+    }
+
+    /**
+     * Copies a scenario, at the same point of the same timeline.
+     * The schedules are never consumed, and the timeline is immutable, so both are shared.
+     *
+     * @param other   The scenario to copy.
+     * @param factory The factory of the copy.
+     */
+    protected Scenario(Scenario other, PrototypeFactory<MonsterType, Monster> factory) {
+        this.factory = factory;
+        this.scenarioTime = other.scenarioTime;
+        this.schedules.addAll(other.schedules);
+        this.timeline = other.getTimeline();
+        this.cursor = other.cursor;
+        this.pending = new SpawnQueue(other.pending);
     }
 
     /**
@@ -55,39 +95,158 @@ public class Scenario extends Prototype {
      */
     public void addWave(Wave wave, float startTime) {
         schedules.add(new WaveSchedule(wave, startTime));
+        timeline = null; // The timeline has to be compiled again
     }
 
     /**
-     * Updates the scenario by advancing the scenario time and spawning monsters
+     * Gets the timeline of the scenario, compiling it first if needed.
+     *
+     * @return The sorted timeline of every spawn of the scenario.
+     */
+    public SpawnTimeline getTimeline() {
+        if(timeline == null) {
+            timeline = SpawnTimeline.compile(schedules);
+        }
+        return timeline;
+    }
+
+    /**
+     * Updates the scenario by advancing the scenario time, queuing the spawns that are due
+     * and releasing the spawn budget of monsters into the game area.
      *
      * @param delta Time delta since the last update, used to advance the scenario time.
      * @param gameArea The game area where monsters will be spawned.
      */
     public void update(float delta, GameArea gameArea) {
-        float previousTime = scenarioTime;
         scenarioTime += delta;
+        pending.advance(delta);
+
+        SpawnTimeline spawns = getTimeline();
+        while(cursor < spawns.size() && spawns.getTime(cursor) < scenarioTime) {
+            pending.add(spawns.getType(cursor), SpawnTimeline.ANY_SPAWN, 1f);
+            ++cursor;
+        }
 
-        for(WaveSchedule schedule : schedules) {
-            List<WaveEntry> spawns = schedule.pollEntriesForGlobalTime(previousTime, delta);
-            for(WaveEntry entry : spawns) {
-                Monster m = factory.create(entry.getType());
-                if(m != null) {
-                    gameArea.spawnMonster(m);
-                    Gdx.app.log("Scenario", "Spawning " + entry.getType() + " at t=" + scenarioTime);
-                } else {
-                    Gdx.app.error("Scenario", "Failed to create monster: " + entry.getType());
+        releaseSpawns(gameArea);
+    }
+
+    /**
+     * Creates the monsters of up to SPAWN_BUDGET queued spawns and adds them to the game area in one batch.
+     *
+     * @param gameArea The game area where monsters will be spawned.
+     */
+    protected void releaseSpawns(GameArea gameArea) {
+        while(batch.size < SPAWN_BUDGET && !pending.isEmpty()) {
+            MonsterType type = pending.peekType();
+            Monster m = factory.create(type);
+            if(m != null) {
+                float scale = pending.peekHealthScale();
+                if(scale != 1f) {
+                    m.setMaxPv(Math.round(m.getMaxPv() * scale));
+                    m.setPv(m.getMaxPv());
                 }
+                batchSlots[batch.size] = pending.peekSpawnSlot();
+                batchDelays[batch.size] = pending.peekWaitingTime();
+                batch.add(m);
+            } else {
+                Log.error("Scenario", "Failed to create monster: {}", type);
             }
+            pending.poll();
+        }
+
+        if(batch.size == 0) return;
+
+        gameArea.spawnMonsters(batch, batchSlots, batchDelays);
+        Log.debug("Scenario", "Spawning {} monsters at t={}", batch.size, scenarioTime);
+        batch.clear();
+    }
+
+    /**
+     * Gets the current time in the scenario, for the scenarios generating their own spawns.
+     *
+     * @return The scenario time, in seconds.
+     */
+    protected float getScenarioTime() {
+        return scenarioTime;
+    }
+
+    /**
+     * Advances the scenario time, for the scenarios generating their own spawns.
+     *
+     * @param delta The time to add, in seconds.
+     */
+    protected void advanceTime(float delta) {
+        scenarioTime += delta;
+    }
+
+    /**
+     * Gets the queue of the spawns that are due, for the scenarios generating their own spawns.
+     *
+     * @return The spawn queue.
+     */
+    protected SpawnQueue getSpawnQueue() {
+        return pending;
+    }
+
+    /**
+     * Gets the time left before the next monster of the timeline spawns.
+     *
+     * @return The time in seconds (0 if a spawn is due), or positive infinity if the scenario is finished.
+     */
+    public float getTimeUntilNextSpawn() {
+        if(!pending.isEmpty()) return 0f;
+
+        SpawnTimeline spawns = getTimeline();
+        if(cursor >= spawns.size()) return Float.POSITIVE_INFINITY;
+        return Math.max(0f, spawns.getTime(cursor) - scenarioTime);
+    }
+
+    /**
+     * Advances the scenario time without spawning anything.
+     * The caller must not skip past the next spawn, see getTimeUntilNextSpawn.
+     *
+     * @param delta The time to skip, in seconds.
+     */
+    public void skip(float delta) {
+        scenarioTime += delta;
+    }
+
+    /**
+     * Tells the scenario how long the last update of the game area took, in wall time.
+     * The scheduled scenarios ignore it; scenarios adapting to the load, such as EndlessScenario, override it.
+     *
+     * @param seconds The duration of the last update, in seconds.
+     */
+    public void reportTickTime(float seconds) {}
+
+    /**
+     * Lists the types of the monsters the scenario may spawn, for instance to load their textures beforehand.
+     *
+     * @param out The collection receiving the types.
+     */
+    public void collectMonsterTypes(Collection<MonsterType> out) {
+        SpawnTimeline timeline = getTimeline();
+        for(int i = 0; i < timeline.size(); ++i) {
+            out.add(timeline.getType(i));
         }
     }
 
+    /**
+     * Gets the factory creating the monsters of the scenario.
+     *
+     * @return The monster factory.
+     */
+    protected PrototypeFactory<MonsterType, Monster> getFactory() {
+        return factory;
+    }
+
     /**
      * Checks if all scheduled waves in the scenario have finished.
      *
      * @return true if all waves are finished, false otherwise.
      */
     public boolean isFinished() {
-        return schedules.stream().allMatch(WaveSchedule::isFinished);
+        return cursor >= getTimeline().size() && pending.isEmpty();
     }
 
     /**
@@ -95,7 +254,10 @@ public class Scenario extends Prototype {
      */
     public void reset() {
         scenarioTime = 0f;
+        cursor = 0;
+        pending.clear();
         schedules.clear();
+        timeline = null;
     }
 
     /**
@@ -105,10 +267,17 @@ public class Scenario extends Prototype {
      */
     @Override
     public Scenario clone() {
-        Scenario cloned = new Scenario(factory.clone(), scenarioTime);
-        for(WaveSchedule schedule : schedules) {
-            cloned.schedules.add(schedule.clone());
-        }
-        return cloned;
+        return new Scenario(this, factory.clone());
+    }
+
+    /**
+     * Creates a copy of the scenario for a look-ahead simulation.
+     * Unlike clone, the factory is shared instead of copied: creating a monster only reads its prototype,
+     * so the copies never change it.
+     *
+     * @return A new Scenario at the same point of the same timeline.
+     */
+    public Scenario snapshot() {
+        return new Scenario(this, factory);
     }
 }
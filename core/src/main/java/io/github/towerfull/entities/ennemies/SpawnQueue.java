@@ -0,0 +1,180 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: The spawns of a scenario that are due but were held back by the spawn budget of a tick.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.entities.ennemies;
+
+import io.github.towerfull.enumElements.MonsterType;
+
+/**
+ * A first-in first-out queue of the spawns that are due, stored as a growable ring buffer of primitive arrays.
+ * The queue has its own clock, advanced with the scenario, so that the time each spawn has been waiting
+ * is known when it is finally released: the monster can then be placed where it would be if it had
+ * spawned on time.
+ */
+public class SpawnQueue {
+    // Initial number of spawns the buffer can hold
+    private static final int INITIAL_CAPACITY = 16;
+
+    // The type, spawn slot, health multiplier and queuing time of each spawn
+    private MonsterType[] types = new MonsterType[INITIAL_CAPACITY];
+    private int[] spawnSlots = new int[INITIAL_CAPACITY];
+    private float[] healthScales = new float[INITIAL_CAPACITY];
+    private float[] queuedTimes = new float[INITIAL_CAPACITY];
+
+    // Index of the oldest spawn, and number of spawns in the queue
+    private int head;
+    private int size;
+
+    // The clock of the queue, in seconds (reset whenever the queue is empty)
+    private float clock;
+
+    /**
+     * Constructs an empty SpawnQueue.
+     */
+    public SpawnQueue() {}
+
+    /**
+     * Copy constructor, for the clones of the scenarios.
+     *
+     * @param other The queue to copy.
+     */
+    public SpawnQueue(SpawnQueue other) {
+        this.types = other.types.clone();
+        this.spawnSlots = other.spawnSlots.clone();
+        this.healthScales = other.healthScales.clone();
+        this.queuedTimes = other.queuedTimes.clone();
+        this.head = other.head;
+        this.size = other.size;
+        this.clock = other.clock;
+    }
+
+    /**
+     * Adds a spawn at the end of the queue.
+     *
+     * @param type        The type of monster to spawn.
+     * @param spawnSlot   The spawn point to use, or SpawnTimeline.ANY_SPAWN.
+     * @param healthScale The multiplier of the health of the monster.
+     */
+    public void add(MonsterType type, int spawnSlot, float healthScale) {
+        if(size == types.length) {
+            grow();
+        }
+
+        int index = (head + size) % types.length;
+        types[index] = type;
+        spawnSlots[index] = spawnSlot;
+        healthScales[index] = healthScale;
+        queuedTimes[index] = clock;
+        ++size;
+    }
+
+    /**
+     * Advances the clock of the queue.
+     *
+     * @param delta The elapsed time, in seconds.
+     */
+    public void advance(float delta) {
+        clock = size == 0 ? 0f : clock + delta;
+    }
+
+    /**
+     * Removes the oldest spawn of the queue.
+     */
+    public void poll() {
+        types[head] = null;
+        head = (head + 1) % types.length;
+        --size;
+    }
+
+    /**
+     * Gets the type of monster of the oldest spawn.
+     *
+     * @return The type of monster.
+     */
+    public MonsterType peekType() {
+        return types[head];
+    }
+
+    /**
+     * Gets the spawn slot of the oldest spawn.
+     *
+     * @return The spawn point to use, or SpawnTimeline.ANY_SPAWN.
+     */
+    public int peekSpawnSlot() {
+        return spawnSlots[head];
+    }
+
+    /**
+     * Gets the health multiplier of the oldest spawn.
+     *
+     * @return The multiplier of the health of the monster.
+     */
+    public float peekHealthScale() {
+        return healthScales[head];
+    }
+
+    /**
+     * Gets how long the oldest spawn has been due.
+     *
+     * @return The waiting time, in seconds.
+     */
+    public float peekWaitingTime() {
+        return clock - queuedTimes[head];
+    }
+
+    /**
+     * Gets the number of spawns in the queue.
+     *
+     * @return The number of spawns.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return true if no spawn is waiting, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every spawn of the queue.
+     */
+    public void clear() {
+        while(size > 0) {
+            poll();
+        }
+        head = 0;
+        clock = 0f;
+    }
+
+    /**
+     * Doubles the capacity of the buffer, moving the spawns to the start of the new arrays.
+     */
+    private void grow() {
+        int capacity = types.length * 2;
+        MonsterType[] newTypes = new MonsterType[capacity];
+        int[] newSlots = new int[capacity];
+        float[] newScales = new float[capacity];
+        float[] newTimes = new float[capacity];
+
+        for(int i = 0; i < size; ++i) {
+            int index = (head + i) % types.length;
+            newTypes[i] = types[index];
+            newSlots[i] = spawnSlots[index];
+            newScales[i] = healthScales[index];
+            newTimes[i] = queuedTimes[index];
+        }
+
+        types = newTypes;
+        spawnSlots = newSlots;
+        healthScales = newScales;
+        queuedTimes = newTimes;
+        head = 0;
+    }
+}
@@ -0,0 +1,110 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: An immutable, time-sorted list of every spawn of a scenario, compiled once from its wave schedules.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.entities.ennemies;
+
+import io.github.towerfull.enumElements.MonsterType;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable timeline containing every spawn of a scenario, sorted by absolute scenario time.
+ * It is compiled once from the wave schedules and can then be shared by every clone of the scenario,
+ * which only has to keep an integer cursor into it.
+ */
+public final class SpawnTimeline {
+    /**
+     * Spawn slot meaning that the monster may appear at any spawn point of the level.
+     * The waves do not choose their spawn points, so every entry of a timeline spawns at any of them.
+     */
+    public static final int ANY_SPAWN = -1;
+
+    // Absolute spawn times (in scenario time), sorted in ascending order
+    private final float[] times;
+
+    // The type of monster spawned by each entry
+    private final MonsterType[] types;
+
+    /**
+     * Constructs a SpawnTimeline from already sorted arrays.
+     *
+     * @param times The absolute spawn times, sorted in ascending order.
+     * @param types The monster types of each entry.
+     */
+    private SpawnTimeline(float[] times, MonsterType[] types) {
+        this.times = times;
+        this.types = types;
+    }
+
+    /**
+     * Compiles a list of wave schedules into a single sorted timeline.
+     * Entries with the same absolute time keep the order of their schedules and waves, as the sort is stable.
+     *
+     * @param schedules The wave schedules of a scenario.
+     * @return The compiled timeline.
+     */
+    public static SpawnTimeline compile(List<WaveSchedule> schedules) {
+        int size = 0;
+        for(WaveSchedule schedule : schedules) {
+            size += schedule.getWave().getEntries().size();
+        }
+
+        float[] collectedTimes = new float[size];
+        MonsterType[] collectedTypes = new MonsterType[size];
+        Integer[] order = new Integer[size];
+        int count = 0;
+        for(WaveSchedule schedule : schedules) {
+            float start = schedule.getScenarioStartTime();
+            for(WaveEntry entry : schedule.getWave().getEntries()) {
+                collectedTimes[count] = start + entry.getRelativeSpawnTime();
+                collectedTypes[count] = entry.getType();
+                order[count] = count;
+                ++count;
+            }
+        }
+
+        // Sorting objects is a stable merge sort: the ties keep their insertion order
+        Arrays.sort(order, (a, b) -> Float.compare(collectedTimes[a], collectedTimes[b]));
+
+        float[] times = new float[size];
+        MonsterType[] types = new MonsterType[size];
+        for(int i = 0; i < size; ++i) {
+            times[i] = collectedTimes[order[i]];
+            types[i] = collectedTypes[order[i]];
+        }
+
+        return new SpawnTimeline(times, types);
+    }
+
+    /**
+     * Gets the number of spawns in the timeline.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return times.length;
+    }
+
+    /**
+     * Gets the absolute spawn time of an entry.
+     *
+     * @param index The index of the entry.
+     * @return The absolute time at which the entry spawns.
+     */
+    public float getTime(int index) {
+        return times[index];
+    }
+
+    /**
+     * Gets the monster type of an entry.
+     *
+     * @param index The index of the entry.
+     * @return The type of monster to spawn.
+     */
+    public MonsterType getType(int index) {
+        return types[index];
+    }
+}
@@ -8,8 +8,8 @@ package io.github.towerfull.entities.ennemies;
 import io.github.towerfull.tools.Prototype;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -32,28 +32,12 @@ public class Wave extends Prototype {
     }
 
     /**
-     * Polls entries that are scheduled to spawn within a specified time range.
+     * Gets the entries of the wave, sorted by relative spawn time.
      *
-     * @param fromTime The start of the time range (relative to the wave start).
-     * @param delta The duration of the time range.
-     * @return A list of WaveEntry objects that are scheduled to spawn within the specified time range.
+     * @return A read-only view of the entries.
      */
-    public List<WaveEntry> pollEntriesInRange(float fromTime, float delta) {
-        float toTime = fromTime + delta;
-        List<WaveEntry> toSpawn = new ArrayList<>();
-
-        Iterator<WaveEntry> iter = entries.iterator();
-        while(iter.hasNext()) {
-            WaveEntry entry = iter.next();
-            float t = entry.getRelativeSpawnTime();
-            if(t >= fromTime && t < toTime) {
-                toSpawn.add(entry);
-                iter.remove(); // ensure it's only returned once
-            } else if(t >= toTime) {
-                break; // list is sorted; safe to exit early
-            }
-        }
-        return toSpawn;
+    public List<WaveEntry> getEntries() {
+        return Collections.unmodifiableList(entries);
     }
 
     /**
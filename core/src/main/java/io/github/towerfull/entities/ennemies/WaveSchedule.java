@@ -7,9 +7,6 @@ package io.github.towerfull.entities.ennemies;
 
 import io.github.towerfull.tools.Prototype;
 
-import java.util.Collections;
-import java.util.List;
-
 /**
  * Represents a schedule of a wave of enemies to be spawned in a scenario at a specific time.
  * It contains the wave and the time at which the wave starts in the scenario.
@@ -31,28 +28,6 @@ public class WaveSchedule extends Prototype {
         this.scenarioStartTime = scenarioStartTime;
     }
 
-    /**
-     * Polls the entries of the wave that should be spawned in the given time range.
-     * @param scenarioTimeBefore the time before the scenario starts
-     * @param delta the duration for which to poll entries
-     * @return a list of WaveEntry objects that should be spawned in the given time range
-     */
-    public List<WaveEntry> pollEntriesForGlobalTime(float scenarioTimeBefore, float delta) {
-        float relativeStart = scenarioTimeBefore - scenarioStartTime;
-        if(relativeStart + delta < 0)
-            return Collections.emptyList();
-
-        return wave.pollEntriesInRange(Math.max(relativeStart, 0f), delta);
-    }
-
-    /**
-     * Checks if the wave schedule is finished, i.e., if there are no more entries to spawn.
-     * @return true if the wave is empty, false otherwise
-     */
-    public boolean isFinished() {
-        return wave.isEmpty();
-    }
-
     /**
      * Gets the start time of the wave in the scenario.
      * @return the scenario start time
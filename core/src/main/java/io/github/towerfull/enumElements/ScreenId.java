@@ -0,0 +1,18 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: An enumeration of the menu screens kept by the screen manager.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.enumElements;
+
+/**
+ * An enumeration of the menu screens of the game.
+ * These screens are light and built once: the screen manager keeps them between two visits.
+ */
+public enum ScreenId {
+    MAIN_MENU,
+    LEVEL_SELECT,
+    LOAD,
+    VICTORY,
+    DEFEAT
+}
@@ -0,0 +1,47 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: An enumeration of the status effects that towers can apply to monsters.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.enumElements;
+
+/**
+ * An enumeration of the status effects that towers can apply to monsters.
+ * The strength of an effect depends on its type:
+ * SLOW multiplies the speed of the monster, POISON deals damage per second, STUN stops the monster.
+ */
+public enum StatusEffect {
+    SLOW,
+    POISON,
+    STUN;
+
+    // Cached values of the enum, to avoid the copy made by values()
+    private static final StatusEffect[] VALUES = values();
+
+    /**
+     * The number of status effects.
+     */
+    public static final int COUNT = VALUES.length;
+
+    /**
+     * Gets a status effect from its ordinal.
+     *
+     * @param ordinal The ordinal of the effect.
+     * @return The status effect.
+     */
+    public static StatusEffect get(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Keeps the strongest of two strengths of this effect.
+     * For a slow, the strongest is the lowest speed multiplier; for the other effects, the highest value.
+     *
+     * @param current The strength currently applied.
+     * @param applied The strength of the new application.
+     * @return The strength to keep.
+     */
+    public float strongest(float current, float applied) {
+        return this == SLOW ? Math.min(current, applied) : Math.max(current, applied);
+    }
+}
@@ -5,21 +5,27 @@
 
 package io.github.towerfull.gameBoard;
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
 import io.github.towerfull.gameBoard.level.Node;
 import io.github.towerfull.gameBoard.level.Background;
+import io.github.towerfull.gameBoard.level.OccupancyGrid;
 import io.github.towerfull.gameBoard.level.PathGraph;
+import io.github.towerfull.enumElements.StatusEffect;
 import io.github.towerfull.listener.LifeListener;
 import io.github.towerfull.tools.Prototype;
+import io.github.towerfull.tools.TimerWheel;
 import io.github.towerfull.entities.defenses.ShotRecord;
 import io.github.towerfull.entities.defenses.BuildSpot;
 import io.github.towerfull.entities.defenses.Tower;
 import io.github.towerfull.entities.ennemies.Monster;
 import io.github.towerfull.entities.ennemies.Scenario;
+import io.github.towerfull.entities.ennemies.SpawnTimeline;
 import io.github.towerfull.gameBoard.level.Level;
 import io.github.towerfull.listener.LevelListener;
+import io.github.towerfull.tools.log.Log;
 
 /**
  * Represents the game area where all the action takes place.
@@ -32,6 +38,9 @@ public class GameArea extends Prototype {
     // List of build spots where towers can be placed
     private final Array<BuildSpot> buildSpots = new Array<>();
 
+    // What occupies each cell of the game area, including the towers built
+    private final OccupancyGrid occupancy;
+
     // The path graph representing the paths monsters can take
     private final PathGraph pathGraph;
 
@@ -57,15 +66,44 @@ public class GameArea extends Prototype {
     // Listener for level events (e.g., game over, level complete)
     private LevelListener levelListener;
 
+    // Spatial index over the monsters, rebuilt every update before the towers shoot
+    private final MonsterIndex monsterIndex;
+
+    // Duration of one step of the clock expiring the status effects, in seconds
+    private static final float EFFECT_RESOLUTION = 1 / 20f;
+
+    // Shortest skip worth taking, in seconds: below it, the next normal update handles the event
+    private static final float MIN_SKIP = 1e-3f;
+
+    // Timer wheel expiring the status effects of the monsters
+    private final TimerWheel<Monster> effectTimers;
+
+    // Monsters currently poisoned, the only ones whose effects need work on every update
+    private final Array<Monster> poisonedMonsters = new Array<>(false, 16);
+
+    // Called by the timer wheel when a status effect expires
+    private final TimerWheel.ExpiryListener<Monster> effectExpiry =
+        (monster, kind, generation) -> monster.expireEffect(StatusEffect.get(kind), generation);
+
+    // Projectiles fired by the towers and still in flight
+    private final ProjectileBuffer projectiles = new ProjectileBuffer();
+
     // Recent shots fired by towers, used for visual effects and tracking
     private final Array<ShotRecord> recentShots = new Array<>();
 
-    // Listeners for life changes (e.g., when the player's life changes)
-    private final Array<LifeListener> lifeListeners = new Array<>();
+    // Recent hits on monsters, shown as damage numbers
+    private final HitFeed hits = new HitFeed();
+
+    // Bus delivering gold and life changes to the UI once per frame
+    private final GameEventBus eventBus = new GameEventBus();
 
     // Background of the game area, used for rendering
     private final Background background;
 
+    // Random generator choosing the spawn points and the branches of the paths.
+    // It is copied with the game area, so a copy spawns its monsters exactly as the original would
+    private final RandomXS128 random;
+
     /**
      * Constructs a GameArea from a Level object.
      * Initializes the economy, life, path graph, spawn points, scenario, and build spots.
@@ -74,6 +112,7 @@ public class GameArea extends Prototype {
      */
     public GameArea(Level level) {
         this.economyManager = new EconomyManager(level.getStartingGold());
+        this.economyManager.addListener(this::postGoldChanged);
         this.life = level.getStartingLife();
 
         this.pathGraph = level.getPathGraph();
@@ -82,18 +121,25 @@ public class GameArea extends Prototype {
 
         this.cols = level.getCols();
         this.rows = level.getRows();
+        this.monsterIndex = new MonsterIndex(cols, rows);
+        this.effectTimers = new TimerWheel<>(EFFECT_RESOLUTION);
 
         background = level.getBackground();
+        this.random = new RandomXS128();
 
         buildSpots.clear();
 
+        // The build spots are created in the order of the buildable tiles, which is the order used by the grid payload
+        this.occupancy = new OccupancyGrid(level.getOccupancyGrid());
+
         Array<Vector2> places = level.getBuildableTiles();
 
         for(Vector2 pos : places) {
             buildSpots.add(new BuildSpot(pos));
         }
 
-        Gdx.app.log("GameArea", "✅ Niveau prêt, scénario initialisé.");
+        // Debug only: the look-ahead and the tuner create game areas by the thousand
+        Log.debug("GameArea", "✅ Niveau prêt, scénario initialisé.");
     }
 
     /**
@@ -103,27 +149,87 @@ public class GameArea extends Prototype {
      * @param gameArea The GameArea to clone.
      */
     public GameArea(GameArea gameArea) {
+        this(gameArea, false);
+    }
+
+    /**
+     * Copies a game area, either fully or for a look-ahead simulation (see snapshot).
+     *
+     * @param gameArea  The GameArea to copy.
+     * @param lookAhead true to share the monster prototypes and leave out the visual effects.
+     */
+    private GameArea(GameArea gameArea, boolean lookAhead) {
         this.cols = gameArea.cols;
         this.rows = gameArea.rows;
-        this.isPaused = gameArea.isPaused;
+        this.monsterIndex = new MonsterIndex(cols, rows);
+        this.isPaused = !lookAhead && gameArea.isPaused;
         this.life = gameArea.life;
         this.economyManager = gameArea.economyManager.clone();
+        this.economyManager.addListener(this::postGoldChanged);
         this.pathGraph = gameArea.pathGraph;
+        this.occupancy = new OccupancyGrid(gameArea.occupancy);
         this.spawnPoints.addAll(gameArea.spawnPoints);
-        this.scenario = gameArea.scenario.clone();
-        this.levelListener = gameArea.levelListener;
+        this.scenario = lookAhead ? gameArea.scenario.snapshot() : gameArea.scenario.clone();
+        // A copy never calls the listener of the original (the screen playing it): whoever plays the copy sets its own
+        this.levelListener = null;
 
         for(BuildSpot spot : gameArea.buildSpots) {
             this.buildSpots.add(spot.clone());
         }
 
+        // The clones need their own timers, at the same time on the effect clock
+        this.effectTimers = new TimerWheel<>(gameArea.effectTimers);
         for(Monster m : gameArea.monsters) {
-            this.monsters.add(m.clone());
+            Monster clone = m.clone();
+            this.monsters.add(clone);
+            rescheduleEffects(clone);
         }
 
         this.background = gameArea.background;
+        this.random = new RandomXS128(gameArea.random.getState(0), gameArea.random.getState(1));
+
+        // The projectiles in flight must target the copies of the monsters, and hit with the copies of the towers
+        IdentityMap<Monster, Monster> monsterCopies = new IdentityMap<>();
+        for(int i = 0; i < gameArea.monsters.size; ++i) {
+            monsterCopies.put(gameArea.monsters.get(i), this.monsters.get(i));
+        }
+        IdentityMap<Tower, Tower> towerCopies = new IdentityMap<>();
+        for(int i = 0; i < gameArea.buildSpots.size; ++i) {
+            Tower tower = gameArea.buildSpots.get(i).getTower();
+            if(tower != null) {
+                towerCopies.put(tower, this.buildSpots.get(i).getTower());
+            }
+        }
+        this.projectiles.copyFrom(gameArea.projectiles, monsterCopies, towerCopies);
+
+        if(!lookAhead) {
+            this.recentShots.addAll(gameArea.recentShots);
+        }
+    }
 
-        this.recentShots.addAll(gameArea.recentShots);
+    /**
+     * Creates a copy of the game area for a look-ahead simulation, such as the ones of the auto player.
+     * Only the state that changes during a simulation is copied (monsters, towers, projectiles, economy, timers);
+     * the path graph, the spawn timeline and the monster prototypes are shared with this game area.
+     * The copy is never paused, has no level listener and does not keep the recent shots.
+     * It starts from the same state of the random generator, so every snapshot spawns the same monsters
+     * at the same spawn points, on the same paths, as long as it is played the same way.
+     * Several snapshots can be taken concurrently from the same game area, as long as it is not updated meanwhile.
+     *
+     * @return The copy of the game area.
+     */
+    public GameArea snapshot() {
+        return new GameArea(this, true);
+    }
+
+    /**
+     * Seeds the random generator choosing the spawn points and the branches of the paths,
+     * so that the game can be played again with the same monsters on the same paths.
+     *
+     * @param seed The seed.
+     */
+    public void setSeed(long seed) {
+        random.setSeed(seed);
     }
 
     /**
@@ -140,6 +246,8 @@ public class GameArea extends Prototype {
             scenario.update(delta, this);
         }
 
+        updateEffects(delta);
+
         for(int i = monsters.size - 1; i >= 0; i--) {
             Monster monster = monsters.get(i);
 
@@ -154,11 +262,14 @@ public class GameArea extends Prototype {
             }
         }
 
+        monsterIndex.rebuild(monsters);
+        projectiles.update(delta, this);
+
         for(BuildSpot spot : buildSpots) {
             if(spot.isUsed()) {
                 Tower tower = spot.getTower();
                 if(tower != null) {
-                    tower.update(delta, monsters, this, spot.getLogicalPos());
+                    tower.update(delta, this, spot.getLogicalPos());
                 }
             }
         }
@@ -169,6 +280,7 @@ public class GameArea extends Prototype {
                 recentShots.removeIndex(i);
             }
         }
+        hits.update(delta);
 
         if(life <= 0 && levelListener != null) {
             levelListener.onGameOver();
@@ -183,6 +295,176 @@ public class GameArea extends Prototype {
         }
     }
 
+    /**
+     * Runs the game area for a duration, skipping the idle periods in one step (see fastForward)
+     * and updating tick by tick the rest of the time.
+     * This is meant for headless simulations, which do not need to see the intermediate states.
+     *
+     * @param duration The simulated time to run, in seconds.
+     * @param tick     The duration of a normal update, in seconds.
+     */
+    public void simulate(float duration, float tick) {
+        float remaining = duration;
+        while(remaining > 0f && !isPaused) {
+            remaining -= fastForward(remaining);
+            if(remaining <= 0f) break;
+
+            float delta = Math.min(tick, remaining);
+            update(delta);
+            remaining -= delta;
+        }
+    }
+
+    /**
+     * Skips the time until the next event of interest, in one step, if the game area is idle.
+     * The game area is idle when no projectile is in flight, no monster has a status effect
+     * and no monster is within the range of a tower. The next event is the first of:
+     * the next spawn of the scenario, a monster entering the range of a tower, a monster reaching the exit.
+     * Monsters are moved analytically along their paths, and the cooldowns of the towers advance.
+     * The event itself is left to the next normal update.
+     *
+     * @param maxTime The maximum time to skip, in seconds.
+     * @return The time skipped, in seconds (0 if the game area is not idle).
+     */
+    public float fastForward(float maxTime) {
+        if(isPaused || cols == 0 || life <= 0 || maxTime <= 0f) return 0f;
+        if(projectiles.size() > 0) return 0f;
+        if(monsters.size == 0 && scenario.isFinished()) return 0f;
+
+        float skip = Math.min(maxTime, scenario.getTimeUntilNextSpawn());
+
+        for(Monster monster : monsters) {
+            if(monster.hasEffects() || monster.isDead() || monster.hasReachedEnd()) return 0f;
+
+            // A monster standing still never enters a range, but it is still shot at if it is already in one
+            float speed = monster.getEffectiveSpeed();
+            boolean moving = speed > 0f;
+
+            // Time before reaching the exit
+            if(moving) {
+                skip = Math.min(skip, (monster.getPathLength() - monster.getDistanceTravelled()) / speed);
+            }
+
+            // Time before entering the range of a tower, only searched up to the best time found so far
+            for(BuildSpot spot : buildSpots) {
+                Tower tower = spot.getTower();
+                if(tower == null) continue;
+
+                float distance = tower.distanceUntilInRange(monster, spot.getLogicalPos(), moving ? skip * speed : 0f);
+                if(distance == 0f) return 0f;
+                if(moving) {
+                    skip = Math.min(skip, distance / speed);
+                }
+            }
+        }
+
+        if(skip < MIN_SKIP || Float.isInfinite(skip)) return 0f;
+
+        scenario.skip(skip);
+        effectTimers.advance(skip, effectExpiry);
+        for(Monster monster : monsters) {
+            monster.advance(monster.getEffectiveSpeed() * skip);
+        }
+        for(BuildSpot spot : buildSpots) {
+            if(spot.getTower() != null) {
+                spot.getTower().skip(skip);
+            }
+        }
+        for(int i = recentShots.size - 1; i >= 0; i--) {
+            recentShots.get(i).updateTime(skip);
+            if(!recentShots.get(i).isAlive()) {
+                recentShots.removeIndex(i);
+            }
+        }
+        hits.update(skip);
+
+        return skip;
+    }
+
+    /**
+     * Expires the status effects that ended, and deals the poison damage.
+     * Only the poisoned monsters are visited; the other effects only cost something when they expire.
+     *
+     * @param delta The time since the last update in seconds.
+     */
+    private void updateEffects(float delta) {
+        effectTimers.advance(delta, effectExpiry);
+
+        for(int i = poisonedMonsters.size - 1; i >= 0; --i) {
+            Monster monster = poisonedMonsters.get(i);
+            if(monster.hasEffect(StatusEffect.POISON) && !monster.isDead() && !monster.hasReachedEnd()) {
+                monster.updatePoison(delta);
+            } else {
+                monster.setPoisonTracked(false);
+                poisonedMonsters.removeIndex(i);
+            }
+        }
+    }
+
+    /**
+     * Applies a status effect to a monster, and schedules its expiry.
+     *
+     * @param monster  The monster to affect.
+     * @param effect   The effect to apply.
+     * @param strength The strength of the effect (speed multiplier, damage per second, ignored for a stun).
+     * @param duration The duration of the effect in seconds.
+     */
+    public void applyEffect(Monster monster, StatusEffect effect, float strength, float duration) {
+        int generation = monster.applyEffect(effect, strength, effectTimers.getTime() + duration);
+        if(generation < 0) return;
+
+        effectTimers.schedule(monster.getEffectEnd(effect) - effectTimers.getTime(), monster, effect.ordinal(), generation);
+        trackPoison(monster);
+    }
+
+    /**
+     * Schedules the expiry of the effects of a monster copied from another game area.
+     *
+     * @param monster The copied monster.
+     */
+    private void rescheduleEffects(Monster monster) {
+        if(!monster.hasEffects()) return;
+
+        for(int i = 0; i < StatusEffect.COUNT; ++i) {
+            StatusEffect effect = StatusEffect.get(i);
+            if(monster.hasEffect(effect)) {
+                float remaining = monster.getEffectEnd(effect) - effectTimers.getTime();
+                effectTimers.schedule(remaining, monster, i, monster.getEffectGeneration(effect));
+            }
+        }
+        trackPoison(monster);
+    }
+
+    /**
+     * Adds a monster to the list of poisoned monsters, if it is poisoned and not already in it.
+     *
+     * @param monster The monster to track.
+     */
+    private void trackPoison(Monster monster) {
+        if(monster.hasEffect(StatusEffect.POISON) && !monster.isPoisonTracked()) {
+            monster.setPoisonTracked(true);
+            poisonedMonsters.add(monster);
+        }
+    }
+
+    /**
+     * Returns the scenario spawning the monsters of this game area.
+     *
+     * @return The scenario.
+     */
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    /**
+     * Checks if the level is won: every monster of the scenario spawned and none is left.
+     *
+     * @return true if the level is won, false otherwise.
+     */
+    public boolean isCleared() {
+        return monsters.size == 0 && scenario.isFinished() && life > 0;
+    }
+
     /**
      * Returns the path graph used in this game area.
      *
@@ -194,20 +476,38 @@ public class GameArea extends Prototype {
 
     /**
      * Adds a listener to be notified when the player's life changes.
+     * The listener is called through the event bus, once per frame at most.
      *
      * @param listener The listener to add.
      */
     public void addLifeListener(LifeListener listener) {
-        lifeListeners.add(listener);
+        eventBus.addLifeListener(listener);
     }
 
     /**
-     * Notifies all registered life listeners about a change in the player's life.
+     * Posts the change of the player's life on the event bus.
      */
     private void notifyLifeChanged() {
-        for(LifeListener listener : lifeListeners) {
-            listener.onLifeChanged(life);
-        }
+        eventBus.post(GameEventBus.EventType.LIFE_CHANGED, life);
+    }
+
+    /**
+     * Posts a change of the player's gold on the event bus.
+     *
+     * @param gold The new amount of gold.
+     */
+    private void postGoldChanged(int gold) {
+        eventBus.post(GameEventBus.EventType.GOLD_CHANGED, gold);
+    }
+
+    /**
+     * Returns the event bus on which the game area posts its state changes.
+     * The UI should register its listeners on it, and flush it once per frame.
+     *
+     * @return The event bus of the game area.
+     */
+    public GameEventBus getEventBus() {
+        return eventBus;
     }
 
     /**
@@ -218,27 +518,61 @@ public class GameArea extends Prototype {
      * @param monster The monster to spawn.
      */
     public void spawnMonster(Monster monster) {
+        spawnMonster(monster, SpawnTimeline.ANY_SPAWN);
+    }
+
+    /**
+     * Spawns a monster at a given spawn point in the game area.
+     * If the slot is SpawnTimeline.ANY_SPAWN, a random spawn point is chosen,
+     * otherwise the slot is wrapped around the available spawn points.
+     * The random choices come from the generator of the game area, never from a shared one.
+     *
+     * @param monster   The monster to spawn.
+     * @param spawnSlot The index of the spawn point to use, or SpawnTimeline.ANY_SPAWN.
+     */
+    public void spawnMonster(Monster monster, int spawnSlot) {
         if(monster == null) {
-            Gdx.app.error("GameArea", "Tentative de spawn d'un monstre null");
+            Log.error("GameArea", "Tentative de spawn d'un monstre null");
             return;
         }
 
-        // Choose a random spawn point from the available spawn points
         if(spawnPoints.size == 0) {
-            Gdx.app.error("GameArea", "Aucune position de spawn disponible pour le monstre");
+            Log.error("GameArea", "Aucune position de spawn disponible pour le monstre");
             return;
         }
 
-        Node spawnPoint = spawnPoints.random();
+        Node spawnPoint = spawnSlot == SpawnTimeline.ANY_SPAWN
+            ? spawnPoints.get(random.nextInt(spawnPoints.size))
+            : spawnPoints.get(spawnSlot % spawnPoints.size);
 
         monster.setLogicalPos(spawnPoint.getPosition().cpy());
 
         // Initialize the monster's path
-        monster.setPath(pathGraph.getPathPointsStartingFrom(spawnPoint));
+        monster.setPath(pathGraph.getPathPointsStartingFrom(spawnPoint, random));
 
         monsters.add(monster);
     }
 
+    /**
+     * Spawns a batch of monsters, as released by the scenario in one update.
+     * A monster that waited for the spawn budget of the previous updates is moved forward along its path
+     * by the distance it would have travelled meanwhile, so that it is where it would be if it had spawned on time.
+     *
+     * @param batch      The monsters to spawn.
+     * @param spawnSlots The spawn slot of each monster, or SpawnTimeline.ANY_SPAWN.
+     * @param delays     How long each monster waited before being spawned, in seconds.
+     */
+    public void spawnMonsters(Array<Monster> batch, int[] spawnSlots, float[] delays) {
+        monsters.ensureCapacity(batch.size);
+        for(int i = 0; i < batch.size; ++i) {
+            Monster monster = batch.get(i);
+            spawnMonster(monster, spawnSlots[i]);
+            if(delays[i] > 0f) {
+                monster.advance(monster.getSpeed() * delays[i]);
+            }
+        }
+    }
+
     /**
      * Returns the list of build spots where towers can be placed.
      *
@@ -248,6 +582,70 @@ public class GameArea extends Prototype {
         return buildSpots;
     }
 
+    /**
+     * Returns the build spot occupying a cell, in constant time.
+     *
+     * @param x The column of the cell.
+     * @param y The row of the cell.
+     * @return The build spot on the cell, or null if there is none.
+     */
+    public BuildSpot getBuildSpotAt(int x, int y) {
+        int index = occupancy.getPayload(x, y) - 1;
+        if(index < 0 || index >= buildSpots.size) return null;
+        return buildSpots.get(index);
+    }
+
+    /**
+     * Builds a tower on a build spot and marks its cell as occupied by a tower.
+     *
+     * @param spot  The build spot on which the tower is built.
+     * @param tower The tower to build.
+     */
+    public void buildTower(BuildSpot spot, Tower tower) {
+        spot.setTower(tower);
+        Vector2 pos = spot.getLogicalPos();
+        occupancy.mark((int) pos.x, (int) pos.y, OccupancyGrid.TOWER);
+    }
+
+    /**
+     * Removes the tower of a build spot and marks its cell as free.
+     *
+     * @param spot The build spot to clear.
+     */
+    public void removeTower(BuildSpot spot) {
+        spot.setUsed(false);
+        Vector2 pos = spot.getLogicalPos();
+        occupancy.clear((int) pos.x, (int) pos.y, OccupancyGrid.TOWER);
+    }
+
+    /**
+     * Returns the occupancy grid of the game area, telling what occupies each cell.
+     * It must only be modified through the game area.
+     *
+     * @return The occupancy grid.
+     */
+    public OccupancyGrid getOccupancyGrid() {
+        return occupancy;
+    }
+
+    /**
+     * Returns the spatial index over the monsters, up to date while the towers shoot.
+     *
+     * @return The monster index.
+     */
+    public MonsterIndex getMonsterIndex() {
+        return monsterIndex;
+    }
+
+    /**
+     * Returns the projectiles in flight in the game area.
+     *
+     * @return The projectile buffer.
+     */
+    public ProjectileBuffer getProjectiles() {
+        return projectiles;
+    }
+
     /**
      * Returns the list of monsters currently in the game area.
      *
@@ -269,6 +667,26 @@ public class GameArea extends Prototype {
         recentShots.add(new ShotRecord(from.cpy(), to.cpy(), damage));
     }
 
+    /**
+     * Records a hit on a monster, shown as a damage number.
+     *
+     * @param x      The x position of the monster hit, in cells.
+     * @param y      The y position of the monster hit, in cells.
+     * @param amount The damage dealt.
+     */
+    public void addHit(float x, float y, int amount) {
+        hits.add(x, y, amount);
+    }
+
+    /**
+     * Returns the recent hits on monsters.
+     *
+     * @return The hit feed.
+     */
+    public HitFeed getHits() {
+        return hits;
+    }
+
     /**
      * Returns the list of recent shots fired by towers.
      * This is used for visual effects and tracking damage dealt.
@@ -368,8 +786,8 @@ public class GameArea extends Prototype {
         life -= amount;
         if(life <= 0) {
             life = 0;
-            System.out.println("Game Over!");
             if(levelListener != null) {
+                Log.info("GameArea", "Game Over!");
                 levelListener.onGameOver();
             }
         }
@@ -399,6 +817,7 @@ public class GameArea extends Prototype {
     /**
      * Creates a clone of this GameArea.
      * This is useful for saving the game state or creating a new instance with the same properties.
+     * The clone has no level listener: the screen playing it sets its own.
      *
      * @return A new GameArea instance that is a clone of this one.
      */
@@ -0,0 +1,19 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: An action of the player, executed on the simulation thread.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.gameBoard;
+
+/**
+ * A player action (building, selling, pausing, saving...) sent from the render thread to the simulation thread.
+ * Commands are executed between two ticks, so they never see the game area in an intermediate state.
+ */
+public interface GameCommand {
+    /**
+     * Executes the command on the game area.
+     *
+     * @param area The game area, owned by the simulation thread.
+     */
+    void execute(GameArea area);
+}
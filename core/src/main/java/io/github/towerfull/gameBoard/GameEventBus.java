@@ -0,0 +1,160 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Collects state changes of the game area and delivers them to the UI once per frame.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.gameBoard;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.towerfull.listener.GoldListener;
+import io.github.towerfull.listener.LifeListener;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * GameEventBus collects the state changes of a game area (gold, life) and delivers them to its listeners
+ * once per frame, or at a configurable refresh rate.
+ * Several changes of the same type during a frame are coalesced: only the latest value is delivered.
+ * Events are stored as plain integers, so posting one never allocates.
+ * Events may be posted from the simulation thread; listeners are always called from the thread that flushes the bus.
+ */
+public class GameEventBus {
+    /**
+     * The types of events that can be posted on the bus.
+     */
+    public enum EventType {
+        GOLD_CHANGED,
+        LIFE_CHANGED
+    }
+
+    // Cached values of the enum, to avoid the copy made by EventType.values()
+    private static final EventType[] EVENT_TYPES = EventType.values();
+
+    // Latest value posted for each event type
+    private final AtomicIntegerArray values = new AtomicIntegerArray(EVENT_TYPES.length);
+
+    // Whether a value was posted for each event type since the last delivery (1) or not (0)
+    private final AtomicIntegerArray pending = new AtomicIntegerArray(EVENT_TYPES.length);
+
+    // Listeners notified when the gold or the life changed
+    private final Array<GoldListener> goldListeners = new Array<>();
+    private final Array<LifeListener> lifeListeners = new Array<>();
+
+    // Minimum time between two deliveries, in seconds (0 means every frame)
+    private float refreshInterval = 0f;
+
+    // Time accumulated since the last delivery
+    private float timeSinceDelivery = 0f;
+
+    /**
+     * Posts an event on the bus. It replaces any event of the same type that was not delivered yet.
+     *
+     * @param type  The type of the event.
+     * @param value The new value carried by the event.
+     */
+    public void post(EventType type, int value) {
+        values.set(type.ordinal(), value);
+        pending.set(type.ordinal(), 1);
+    }
+
+    /**
+     * Advances the bus clock and delivers the pending events if the refresh interval has elapsed.
+     * This method should be called once per frame, from the render thread.
+     *
+     * @param delta The time since the last frame in seconds.
+     */
+    public void flush(float delta) {
+        timeSinceDelivery += delta;
+        if(timeSinceDelivery < refreshInterval) return;
+
+        timeSinceDelivery = 0f;
+        deliver();
+    }
+
+    /**
+     * Delivers every pending event immediately, whatever the refresh interval.
+     */
+    public void deliver() {
+        for(EventType type : EVENT_TYPES) {
+            int index = type.ordinal();
+            if(pending.getAndSet(index, 0) == 0) continue;
+
+            dispatch(type, values.get(index));
+        }
+    }
+
+    /**
+     * Dispatches one event to the listeners of its type.
+     *
+     * @param type  The type of the event.
+     * @param value The value carried by the event.
+     */
+    private void dispatch(EventType type, int value) {
+        switch(type) {
+            case GOLD_CHANGED:
+                for(GoldListener listener : goldListeners) {
+                    listener.onGoldChanged(value);
+                }
+                break;
+            case LIFE_CHANGED:
+                for(LifeListener listener : lifeListeners) {
+                    listener.onLifeChanged(value);
+                }
+                break;
+        }
+    }
+
+    /**
+     * Sets the minimum time between two deliveries.
+     *
+     * @param seconds The refresh interval in seconds, 0 to deliver every frame.
+     */
+    public void setRefreshInterval(float seconds) {
+        this.refreshInterval = Math.max(0f, seconds);
+    }
+
+    /**
+     * Gets the minimum time between two deliveries.
+     *
+     * @return The refresh interval in seconds.
+     */
+    public float getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    /**
+     * Adds a listener notified when the gold changed.
+     *
+     * @param listener The listener to add.
+     */
+    public void addGoldListener(GoldListener listener) {
+        goldListeners.add(listener);
+    }
+
+    /**
+     * Removes a gold listener from the bus.
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeGoldListener(GoldListener listener) {
+        goldListeners.removeValue(listener, true);
+    }
+
+    /**
+     * Adds a listener notified when the life changed.
+     *
+     * @param listener The listener to add.
+     */
+    public void addLifeListener(LifeListener listener) {
+        lifeListeners.add(listener);
+    }
+
+    /**
+     * Removes a life listener from the bus.
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeLifeListener(LifeListener listener) {
+        lifeListeners.removeValue(listener, true);
+    }
+}
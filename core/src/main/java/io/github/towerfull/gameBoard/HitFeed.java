@@ -0,0 +1,130 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Keeps the recent hits on monsters in a fixed ring buffer, for the damage numbers of the renderer.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.gameBoard;
+
+/**
+ * The recent hits of the towers on the monsters: where they happened, how much damage they dealt and how long ago.
+ * The hits are kept in a ring buffer of fixed capacity as parallel arrays, so recording a hit never allocates;
+ * when the buffer is full, the oldest hit is forgotten. Hits older than their time to live are dropped.
+ */
+public class HitFeed {
+    /**
+     * The maximum number of hits kept.
+     */
+    public static final int CAPACITY = 512;
+
+    /**
+     * The time a hit is kept, in seconds.
+     */
+    public static final float TIME_TO_LIVE = 0.8f;
+
+    // Position of each hit, in cells
+    private final float[] x = new float[CAPACITY];
+    private final float[] y = new float[CAPACITY];
+
+    // Damage dealt by each hit
+    private final int[] amount = new int[CAPACITY];
+
+    // Time since each hit, in seconds
+    private final float[] age = new float[CAPACITY];
+
+    // Index of the oldest hit, and the number of hits
+    private int head = 0;
+    private int count = 0;
+
+    /**
+     * Records a hit, forgetting the oldest one if the feed is full.
+     *
+     * @param x      The x position of the hit, in cells.
+     * @param y      The y position of the hit, in cells.
+     * @param amount The damage dealt.
+     */
+    public void add(float x, float y, int amount) {
+        if(count == CAPACITY) {
+            head = (head + 1) % CAPACITY;
+            --count;
+        }
+        int slot = (head + count) % CAPACITY;
+        this.x[slot] = x;
+        this.y[slot] = y;
+        this.amount[slot] = amount;
+        this.age[slot] = 0f;
+        ++count;
+    }
+
+    /**
+     * Ages the hits, and drops the ones older than their time to live.
+     *
+     * @param delta The time elapsed, in seconds.
+     */
+    public void update(float delta) {
+        for(int i = 0; i < count; ++i) {
+            age[(head + i) % CAPACITY] += delta;
+        }
+        // The oldest hits are first
+        while(count > 0 && age[head] >= TIME_TO_LIVE) {
+            head = (head + 1) % CAPACITY;
+            --count;
+        }
+    }
+
+    /**
+     * Forgets all hits.
+     */
+    public void clear() {
+        head = 0;
+        count = 0;
+    }
+
+    /**
+     * Gets the number of hits kept.
+     *
+     * @return The number of hits.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Gets the x position of a hit.
+     *
+     * @param i The index of the hit, from the oldest.
+     * @return The x position, in cells.
+     */
+    public float getX(int i) {
+        return x[(head + i) % CAPACITY];
+    }
+
+    /**
+     * Gets the y position of a hit.
+     *
+     * @param i The index of the hit, from the oldest.
+     * @return The y position, in cells.
+     */
+    public float getY(int i) {
+        return y[(head + i) % CAPACITY];
+    }
+
+    /**
+     * Gets the damage dealt by a hit.
+     *
+     * @param i The index of the hit, from the oldest.
+     * @return The damage.
+     */
+    public int getAmount(int i) {
+        return amount[(head + i) % CAPACITY];
+    }
+
+    /**
+     * Gets the time since a hit.
+     *
+     * @param i The index of the hit, from the oldest.
+     * @return The time, in seconds.
+     */
+    public float getAge(int i) {
+        return age[(head + i) % CAPACITY];
+    }
+}
@@ -0,0 +1,289 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: A uniform grid over the live monsters of a game area, answering radius queries.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.gameBoard;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import io.github.towerfull.entities.ennemies.Monster;
+
+import java.util.Arrays;
+
+/**
+ * A spatial index over the monsters of a game area, with one bucket per cell of the level.
+ * It is rebuilt once per tick, after the monsters moved, and then answers radius queries
+ * by only looking at the buckets covered by the query instead of every monster.
+ * Buckets are stored as linked lists in int arrays, so rebuilding the index does not allocate
+ * once the arrays are large enough. Within a bucket, monsters are kept in the order of the monster array.
+ */
+public class MonsterIndex {
+    // Value marking the end of a bucket
+    private static final int NONE = -1;
+
+    // The dimensions of the grid, in cells
+    private final int cols;
+    private final int rows;
+
+    // The first monster of each bucket, or NONE
+    private final int[] heads;
+
+    // The next monster in the bucket of each monster, or NONE
+    private int[] next = new int[64];
+
+    // The positions of the monsters at the last rebuild, so queries do not have to follow references
+    private float[] xs = new float[64];
+    private float[] ys = new float[64];
+
+    // The highest effective speed of the monsters at the last rebuild, in cells per second
+    private float maxSpeed = 0f;
+
+    // Scratch vector receiving past positions of the monsters
+    private final Vector2 pastPosition = new Vector2();
+
+    // The monsters indexed by the last rebuild
+    private Array<Monster> monsters = new Array<>();
+
+    // The indices of the monsters found by the last radius query
+    private int[] results = new int[64];
+    private int resultCount = 0;
+
+    /**
+     * Constructs an empty index for a game area of the given size.
+     *
+     * @param cols The number of columns of the game area.
+     * @param rows The number of rows of the game area.
+     */
+    public MonsterIndex(int cols, int rows) {
+        this.cols = Math.max(cols, 1);
+        this.rows = Math.max(rows, 1);
+        this.heads = new int[this.cols * this.rows];
+        Arrays.fill(heads, NONE);
+    }
+
+    /**
+     * Rebuilds the index from the current positions of the monsters.
+     * Monsters outside of the game area are put in the nearest border cell.
+     *
+     * @param monsters The monsters of the game area.
+     */
+    public void rebuild(Array<Monster> monsters) {
+        this.monsters = monsters;
+        Arrays.fill(heads, NONE);
+        maxSpeed = 0f;
+        if(next.length < monsters.size) {
+            int size = Math.max(monsters.size, next.length * 2);
+            next = new int[size];
+            xs = new float[size];
+            ys = new float[size];
+        }
+
+        // Inserting from the end keeps each bucket sorted by index
+        for(int i = monsters.size - 1; i >= 0; --i) {
+            Vector2 pos = monsters.get(i).getLogicalPos();
+            if(pos == null) {
+                next[i] = NONE;
+                continue;
+            }
+
+            xs[i] = pos.x;
+            ys[i] = pos.y;
+            maxSpeed = Math.max(maxSpeed, monsters.get(i).getEffectiveSpeed());
+            int cell = cellOf(pos.x, pos.y);
+            next[i] = heads[cell];
+            heads[cell] = i;
+        }
+    }
+
+    /**
+     * Finds the alive monster with the lowest index within a radius of a position.
+     * This keeps the targeting strategy of the towers: the first monster of the array that can be hit.
+     *
+     * @param x      The x position of the centre, in cells.
+     * @param y      The y position of the centre, in cells.
+     * @param radius The radius of the query, in cells.
+     * @return The index of the monster, or -1 if no alive monster is in range.
+     */
+    public int findFirst(float x, float y, float radius) {
+        int best = NONE;
+        float radius2 = radius * radius;
+
+        int minX = clampCol(MathUtils.floor(x - radius));
+        int maxX = clampCol(MathUtils.floor(x + radius));
+        int minY = clampRow(MathUtils.floor(y - radius));
+        int maxY = clampRow(MathUtils.floor(y + radius));
+
+        for(int cy = minY; cy <= maxY; ++cy) {
+            for(int cx = minX; cx <= maxX; ++cx) {
+                for(int i = heads[cy * cols + cx]; i != NONE; i = next[i]) {
+                    // Buckets are sorted, so the rest of this one cannot do better
+                    if(best != NONE && i > best) break;
+                    if(isAliveWithin(i, x, y, radius2)) {
+                        best = i;
+                        break;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds the alive monster with the lowest index that was within a radius of a position some time ago,
+     * assuming every monster kept its current speed. The index only holds the current positions,
+     * so the query is widened by the distance the fastest monster could travel in that time.
+     * Monsters that were not on their path yet at that time are ignored.
+     *
+     * @param x      The x position of the centre, in cells.
+     * @param y      The y position of the centre, in cells.
+     * @param radius The radius of the query, in cells.
+     * @param time   How long ago, in seconds (0 for the current positions).
+     * @param out    The vector receiving the position the monster found had at that time.
+     * @return The index of the monster, or -1 if no alive monster was in range.
+     */
+    public int findFirstBefore(float x, float y, float radius, float time, Vector2 out) {
+        float travelled = maxSpeed * time;
+        if(travelled <= 0f) {
+            int first = findFirst(x, y, radius);
+            if(first != NONE) {
+                out.set(xs[first], ys[first]);
+            }
+            return first;
+        }
+
+        int best = NONE;
+        float radius2 = radius * radius;
+        int count = query(x, y, radius + travelled);
+        for(int i = 0; i < count; ++i) {
+            int index = results[i];
+            if(best != NONE && index > best) continue;
+
+            Vector2 pos = monsters.get(index).getPositionBefore(time, pastPosition);
+            if(pos != null && pos.dst2(x, y) <= radius2) {
+                best = index;
+                out.set(pos);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets the highest effective speed of the monsters at the last rebuild.
+     *
+     * @return The speed in cells per second.
+     */
+    public float getMaxSpeed() {
+        return maxSpeed;
+    }
+
+    /**
+     * Finds every alive monster within a radius of a position.
+     * The results can be read with getResult until the next query.
+     *
+     * @param x      The x position of the centre, in cells.
+     * @param y      The y position of the centre, in cells.
+     * @param radius The radius of the query, in cells.
+     * @return The number of monsters found.
+     */
+    public int query(float x, float y, float radius) {
+        resultCount = 0;
+        float radius2 = radius * radius;
+
+        int minX = clampCol(MathUtils.floor(x - radius));
+        int maxX = clampCol(MathUtils.floor(x + radius));
+        int minY = clampRow(MathUtils.floor(y - radius));
+        int maxY = clampRow(MathUtils.floor(y + radius));
+
+        for(int cy = minY; cy <= maxY; ++cy) {
+            for(int cx = minX; cx <= maxX; ++cx) {
+                for(int i = heads[cy * cols + cx]; i != NONE; i = next[i]) {
+                    if(isAliveWithin(i, x, y, radius2)) {
+                        addResult(i);
+                    }
+                }
+            }
+        }
+        return resultCount;
+    }
+
+    /**
+     * Gets the index of a monster found by the last radius query.
+     *
+     * @param i The index of the result, between 0 and the number returned by query.
+     * @return The index of the monster in the monster array.
+     */
+    public int getResult(int i) {
+        return results[i];
+    }
+
+    /**
+     * Gets a monster of the last rebuild.
+     *
+     * @param index The index of the monster in the monster array.
+     * @return The monster.
+     */
+    public Monster get(int index) {
+        return monsters.get(index);
+    }
+
+    /**
+     * Checks if a monster is alive and within a squared distance of a position.
+     * The position saved at the last rebuild is used, as the monsters do not move while the towers shoot.
+     *
+     * @param index   The index of the monster.
+     * @param x       The x position, in cells.
+     * @param y       The y position, in cells.
+     * @param radius2 The squared radius, in cells.
+     * @return true if the monster is alive and within the radius, false otherwise.
+     */
+    private boolean isAliveWithin(int index, float x, float y, float radius2) {
+        float dx = xs[index] - x;
+        float dy = ys[index] - y;
+        return dx * dx + dy * dy <= radius2 && !monsters.get(index).isDead();
+    }
+
+    /**
+     * Adds a monster index to the results of the current query.
+     *
+     * @param index The index of the monster.
+     */
+    private void addResult(int index) {
+        if(resultCount == results.length) {
+            results = Arrays.copyOf(results, results.length * 2);
+        }
+        results[resultCount++] = index;
+    }
+
+    /**
+     * Gets the bucket of a position, clamped to the game area.
+     *
+     * @param x The x position, in cells.
+     * @param y The y position, in cells.
+     * @return The index of the bucket.
+     */
+    private int cellOf(float x, float y) {
+        return clampRow(MathUtils.floor(y)) * cols + clampCol(MathUtils.floor(x));
+    }
+
+    /**
+     * Clamps a column to the game area.
+     *
+     * @param x The column.
+     * @return The clamped column.
+     */
+    private int clampCol(int x) {
+        return MathUtils.clamp(x, 0, cols - 1);
+    }
+
+    /**
+     * Clamps a row to the game area.
+     *
+     * @param y The row.
+     * @return The clamped row.
+     */
+    private int clampRow(int y) {
+        return MathUtils.clamp(y, 0, rows - 1);
+    }
+}
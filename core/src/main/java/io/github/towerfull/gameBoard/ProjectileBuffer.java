@@ -0,0 +1,223 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Stores the projectiles in flight in flat arrays, and moves them towards their targets.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.gameBoard;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IdentityMap;
+import io.github.towerfull.entities.defenses.Tower;
+import io.github.towerfull.entities.ennemies.Monster;
+
+import java.util.Arrays;
+
+/**
+ * The projectiles in flight in a game area, stored as parallel arrays (one array per property).
+ * Projectiles home in on their target; if it dies or leaves the game area, they fly to its last known position.
+ * On impact, the tower that fired the projectile applies its damage.
+ * The arrays only grow up to a fixed capacity, and the slots of the projectiles that hit are reused,
+ * so firing does not allocate once the arrays are large enough.
+ */
+public class ProjectileBuffer {
+    /**
+     * The maximum number of projectiles in flight in a game area.
+     */
+    public static final int CAPACITY = 32768;
+
+    // The number of projectiles in flight
+    private int count = 0;
+
+    // Position of each projectile, in cells
+    private float[] x = new float[256];
+    private float[] y = new float[256];
+
+    // Last known position of the target of each projectile, in cells
+    private float[] targetX = new float[256];
+    private float[] targetY = new float[256];
+
+    // Speed of each projectile, in cells per second
+    private float[] speed = new float[256];
+
+    // Target of each projectile, null once it is lost
+    private Monster[] targets = new Monster[256];
+
+    // Tower that fired each projectile, which applies the damage on impact
+    private Tower[] towers = new Tower[256];
+
+    /**
+     * Adds a projectile to the buffer.
+     * A projectile fired during the last update, before its end, has already flown for some time:
+     * it starts that far along the line to its target (at most on the target, in which case it hits on the next update).
+     *
+     * @param fromX      The x position of the start of the projectile, in cells.
+     * @param fromY      The y position of the start of the projectile, in cells.
+     * @param speed      The speed of the projectile, in cells per second.
+     * @param target     The monster targeted by the projectile.
+     * @param tower      The tower firing the projectile.
+     * @param flightTime The time the projectile has already flown, in seconds.
+     * @return true if the projectile was added, false if the buffer is full.
+     */
+    public boolean spawn(float fromX, float fromY, float speed, Monster target, Tower tower, float flightTime) {
+        if(count == CAPACITY) return false;
+        ensureCapacity(count + 1);
+
+        Vector2 pos = target.getLogicalPos();
+        float dx = pos.x - fromX;
+        float dy = pos.y - fromY;
+        float distance = (float) Math.sqrt(dx * dx + dy * dy);
+        float progress = distance > 0f ? Math.min(1f, speed * flightTime / distance) : 1f;
+
+        x[count] = fromX + dx * progress;
+        y[count] = fromY + dy * progress;
+        targetX[count] = pos.x;
+        targetY[count] = pos.y;
+        this.speed[count] = speed;
+        targets[count] = target;
+        towers[count] = tower;
+        ++count;
+        return true;
+    }
+
+    /**
+     * Moves every projectile towards its target, and applies the damage of the ones that hit.
+     * The monster index of the game area must be up to date, as impacts may damage an area.
+     *
+     * @param delta The time since the last update in seconds.
+     * @param area  The game area in which the projectiles fly.
+     */
+    public void update(float delta, GameArea area) {
+        int i = 0;
+        while(i < count) {
+            Monster target = targets[i];
+            if(target != null) {
+                if(target.isDead() || target.hasReachedEnd()) {
+                    targets[i] = null;
+                } else {
+                    Vector2 pos = target.getLogicalPos();
+                    targetX[i] = pos.x;
+                    targetY[i] = pos.y;
+                }
+            }
+
+            float dx = targetX[i] - x[i];
+            float dy = targetY[i] - y[i];
+            float distance2 = dx * dx + dy * dy;
+            float step = speed[i] * delta;
+
+            if(distance2 <= step * step) {
+                Tower tower = towers[i];
+                Monster hit = targets[i];
+                float impactX = targetX[i];
+                float impactY = targetY[i];
+
+                // The slot is reused by the last projectile, which is processed next
+                removeIndex(i);
+                tower.impact(area, hit, impactX, impactY);
+            } else {
+                float scale = step / (float) Math.sqrt(distance2);
+                x[i] += dx * scale;
+                y[i] += dy * scale;
+                ++i;
+            }
+        }
+    }
+
+    /**
+     * Copies the projectiles of another buffer, replacing the monsters and towers by their copies.
+     * Projectiles whose target has no copy keep flying to its last known position.
+     * Projectiles of a tower sold meanwhile still land, as in the game copied: the sold tower is cloned once,
+     * and its clone is added to the tower copies so its other projectiles share it.
+     *
+     * @param other         The buffer to copy.
+     * @param monsterCopies The copy of each monster.
+     * @param towerCopies   The copy of each tower, completed with the clones of the sold towers.
+     */
+    public void copyFrom(ProjectileBuffer other, IdentityMap<Monster, Monster> monsterCopies,
+                         IdentityMap<Tower, Tower> towerCopies) {
+        count = 0;
+        ensureCapacity(other.count);
+
+        for(int i = 0; i < other.count; ++i) {
+            Tower tower = towerCopies.get(other.towers[i]);
+            if(tower == null) {
+                // The tower was sold, but its projectiles still hit with its damage and splash
+                tower = other.towers[i].clone();
+                towerCopies.put(other.towers[i], tower);
+            }
+
+            x[count] = other.x[i];
+            y[count] = other.y[i];
+            targetX[count] = other.targetX[i];
+            targetY[count] = other.targetY[i];
+            speed[count] = other.speed[i];
+            targets[count] = other.targets[i] != null ? monsterCopies.get(other.targets[i]) : null;
+            towers[count] = tower;
+            ++count;
+        }
+    }
+
+    /**
+     * Removes every projectile.
+     */
+    public void clear() {
+        Arrays.fill(targets, 0, count, null);
+        Arrays.fill(towers, 0, count, null);
+        count = 0;
+    }
+
+    /**
+     * Copies the positions of the projectiles into the given arrays.
+     *
+     * @param xs The array receiving the x positions, at least as large as the number of projectiles.
+     * @param ys The array receiving the y positions, at least as large as the number of projectiles.
+     */
+    public void copyPositions(float[] xs, float[] ys) {
+        System.arraycopy(x, 0, xs, 0, count);
+        System.arraycopy(y, 0, ys, 0, count);
+    }
+
+    /**
+     * Gets the number of projectiles in flight.
+     *
+     * @return The number of projectiles.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Removes a projectile by moving the last one in its slot.
+     *
+     * @param i The index of the projectile to remove.
+     */
+    private void removeIndex(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        targetX[i] = targetX[last];
+        targetY[i] = targetY[last];
+        speed[i] = speed[last];
+        targets[i] = targets[last];
+        towers[i] = towers[last];
+        targets[last] = null;
+        towers[last] = null;
+    }
+
+    /**
+     * Grows the arrays so they can hold at least the given number of projectiles, up to the capacity.
+     *
+     * @param capacity The number of projectiles to hold.
+     */
+    private void ensureCapacity(int capacity) {
+        if(capacity <= x.length) return;
+        int size = Math.min(CAPACITY, Math.max(capacity, x.length * 2));
+        x = Arrays.copyOf(x, size);
+        y = Arrays.copyOf(y, size);
+        targetX = Arrays.copyOf(targetX, size);
+        targetY = Arrays.copyOf(targetY, size);
+        speed = Arrays.copyOf(speed, size);
+        targets = Arrays.copyOf(targets, size);
+        towers = Arrays.copyOf(towers, size);
+    }
+}
@@ -0,0 +1,619 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: A copy of everything the renderer needs from the game area at the end of a simulation tick.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.gameBoard;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import io.github.towerfull.entities.Appearance;
+import io.github.towerfull.entities.defenses.BuildSpot;
+import io.github.towerfull.entities.defenses.ShotRecord;
+import io.github.towerfull.entities.defenses.Tower;
+import io.github.towerfull.entities.ennemies.Monster;
+
+import java.util.Arrays;
+
+/**
+ * A copy of the dynamic state of a game area (monsters, build spots, towers, shots, gold and life),
+ * captured by the simulation thread at the end of a tick and read by the render thread.
+ * The data is stored in flat arrays that grow when needed and are then reused from one capture to the next,
+ * so capturing does not allocate once the arrays are large enough.
+ * A snapshot is never modified while the render thread reads it: see SnapshotBuffer.
+ */
+public class RenderSnapshot {
+    // Simulation time at which the snapshot was captured, in seconds
+    private float time;
+
+    // The player's resources at the time of the capture
+    private int gold;
+    private int life;
+
+    // Whether the game area was paused at the time of the capture
+    private boolean paused;
+
+    // Monsters: position (logical, bottom-left of the cell), health ratio and appearance.
+    // They are sorted by row, from the top row to the bottom one, so the nearer monsters are drawn over the farther ones
+    private int monsterCount;
+    private float[] monsterX = new float[16];
+    private float[] monsterY = new float[16];
+    private float[] monsterHealth = new float[16];
+    private Appearance[] monsterAppearance = new Appearance[16];
+
+    // Index of the first monster of each row, from the top row; the last entry is the number of monsters
+    private int[] rowStarts = new int[1];
+    private int rows = 1;
+
+    // Build spots: position, whether a tower is built, appearance (the tower's if built), tower range (0 if empty)
+    // and colour seed
+    private int spotCount;
+    private float[] spotX = new float[16];
+    private float[] spotY = new float[16];
+    private boolean[] spotBuilt = new boolean[16];
+    private float[] spotRange = new float[16];
+    private int[] spotColorSeed = new int[16];
+    private Appearance[] spotAppearance = new Appearance[16];
+
+    // Index of the build spot of each cell, row by row (-1 if none). The build spots never move,
+    // so it is only filled again when the size of the game area changes
+    private int[] spotAt = new int[0];
+    private int spotCols, spotRows;
+
+    // The longest range of the towers, in cells
+    private float maxSpotRange;
+
+    // Shots: origin, destination, simulation time when fired and damage
+    private int shotCount;
+    private float[] shotFromX = new float[16];
+    private float[] shotFromY = new float[16];
+    private float[] shotToX = new float[16];
+    private float[] shotToY = new float[16];
+    private float[] shotTime = new float[16];
+    private int[] shotDamage = new int[16];
+
+    // Projectiles: position (logical, bottom-left of the cell)
+    private int projectileCount;
+    private float[] projectileX = new float[64];
+    private float[] projectileY = new float[64];
+
+    // Hits on monsters, from the oldest: position (logical, bottom-left of the cell), damage and time since the hit
+    private int hitCount;
+    private final float[] hitX = new float[HitFeed.CAPACITY];
+    private final float[] hitY = new float[HitFeed.CAPACITY];
+    private final int[] hitAmount = new int[HitFeed.CAPACITY];
+    private final float[] hitAge = new float[HitFeed.CAPACITY];
+
+    /**
+     * Copies the dynamic state of a game area into this snapshot.
+     * This method must be called from the thread that updates the game area.
+     *
+     * @param area The game area to capture.
+     * @param time The simulation time of the capture, in seconds.
+     */
+    public void capture(GameArea area, float time) {
+        this.time = time;
+        this.gold = area.getEconomyManager().getGold();
+        this.life = area.getLife();
+        this.paused = area.isPaused();
+
+        captureMonsters(area.getMonsters(), area.getRows());
+        captureSpots(area.getBuildSpots(), area.getCols(), area.getRows());
+        captureShots(area.getRecentShots());
+        captureProjectiles(area.getProjectiles());
+        captureHits(area.getHits());
+    }
+
+    /**
+     * Copies the recent hits on monsters.
+     *
+     * @param hits The hit feed of the game area.
+     */
+    private void captureHits(HitFeed hits) {
+        hitCount = hits.size();
+        for(int i = 0; i < hitCount; ++i) {
+            hitX[i] = hits.getX(i);
+            hitY[i] = hits.getY(i);
+            hitAmount[i] = hits.getAmount(i);
+            hitAge[i] = hits.getAge(i);
+        }
+    }
+
+    /**
+     * Copies the positions of the projectiles in flight.
+     *
+     * @param projectiles The projectiles of the game area.
+     */
+    private void captureProjectiles(ProjectileBuffer projectiles) {
+        projectileCount = projectiles.size();
+        if(projectileCount > projectileX.length) {
+            int size = Math.max(projectileCount, projectileX.length * 2);
+            projectileX = new float[size];
+            projectileY = new float[size];
+        }
+        projectiles.copyPositions(projectileX, projectileY);
+    }
+
+    /**
+     * Copies the monsters of the game area, sorted by row with a counting sort,
+     * so that the renderer can find the monsters of the visible rows without looking at the others.
+     *
+     * @param monsters The monsters currently in the game area.
+     * @param rowCount The number of rows of the game area.
+     */
+    private void captureMonsters(Array<Monster> monsters, int rowCount) {
+        ensureMonsterCapacity(monsters.size);
+        rows = Math.max(rowCount, 1);
+        if(rowStarts.length < rows + 1) {
+            rowStarts = new int[rows + 1];
+        }
+        Arrays.fill(rowStarts, 0, rows + 1, 0);
+
+        // Count the monsters of each row, then turn the counts into start indices
+        for(Monster monster : monsters) {
+            Vector2 pos = monster.getLogicalPos();
+            if(pos == null) continue;
+            ++rowStarts[bucketOf(pos.y) + 1];
+        }
+        for(int i = 0; i < rows; ++i) {
+            rowStarts[i + 1] += rowStarts[i];
+        }
+        monsterCount = rowStarts[rows];
+
+        // Place each monster at the next free index of its row, the starts are shifted back afterwards
+        for(Monster monster : monsters) {
+            Vector2 pos = monster.getLogicalPos();
+            if(pos == null) continue;
+
+            int index = rowStarts[bucketOf(pos.y)]++;
+            monsterX[index] = pos.x;
+            monsterY[index] = pos.y;
+            monsterHealth[index] = monster.getMaxPv() > 0 ? (float) monster.getPv() / monster.getMaxPv() : 0f;
+            monsterAppearance[index] = monster.getAppearance();
+        }
+        for(int i = rows; i > 0; --i) {
+            rowStarts[i] = rowStarts[i - 1];
+        }
+        rowStarts[0] = 0;
+
+        // Release the references that are not used anymore
+        for(int i = monsterCount; i < monsterAppearance.length && monsterAppearance[i] != null; ++i) {
+            monsterAppearance[i] = null;
+        }
+    }
+
+    /**
+     * Gets the bucket of a row in the sorted monster arrays: the top row comes first.
+     *
+     * @param y The logical y position of a monster.
+     * @return The bucket, between 0 and the number of rows minus one.
+     */
+    private int bucketOf(float y) {
+        int row = Math.max(0, Math.min(rows - 1, (int) Math.floor(y)));
+        return rows - 1 - row;
+    }
+
+    /**
+     * Copies the build spots and the towers built on them.
+     *
+     * @param spots The build spots of the game area.
+     * @param cols  The number of columns of the game area.
+     * @param rows  The number of rows of the game area.
+     */
+    private void captureSpots(Array<BuildSpot> spots, int cols, int rows) {
+        ensureSpotCapacity(spots.size);
+        boolean moved = spotCount != spots.size || spotCols != cols || spotRows != rows;
+        spotCount = spots.size;
+        maxSpotRange = 0f;
+        for(int i = 0; i < spotCount; ++i) {
+            BuildSpot spot = spots.get(i);
+            Tower tower = spot.getTower();
+            spotX[i] = spot.getLogicalPos().x;
+            spotY[i] = spot.getLogicalPos().y;
+            spotBuilt[i] = tower != null;
+            spotAppearance[i] = spot.getAppearance();
+            spotRange[i] = tower != null ? tower.getRange() : 0f;
+            spotColorSeed[i] = tower != null ? System.identityHashCode(tower) : 0;
+            maxSpotRange = Math.max(maxSpotRange, spotRange[i]);
+        }
+
+        if(moved) {
+            indexSpots(cols, rows);
+        }
+    }
+
+    /**
+     * Fills the index of the build spot of each cell, from the positions of the spots.
+     *
+     * @param cols The number of columns of the game area.
+     * @param rows The number of rows of the game area.
+     */
+    private void indexSpots(int cols, int rows) {
+        spotCols = cols;
+        spotRows = rows;
+        if(spotAt.length < cols * rows) {
+            spotAt = new int[cols * rows];
+        }
+        Arrays.fill(spotAt, -1);
+        for(int i = 0; i < spotCount; ++i) {
+            int x = (int) spotX[i];
+            int y = (int) spotY[i];
+            if(x >= 0 && x < cols && y >= 0 && y < rows) {
+                spotAt[y * cols + x] = i;
+            }
+        }
+    }
+
+    /**
+     * Copies the recent shots of the game area.
+     *
+     * @param shots The recent shots fired by the towers.
+     */
+    private void captureShots(Array<ShotRecord> shots) {
+        ensureShotCapacity(shots.size);
+        shotCount = shots.size;
+        for(int i = 0; i < shotCount; ++i) {
+            ShotRecord shot = shots.get(i);
+            shotFromX[i] = shot.getFrom().x;
+            shotFromY[i] = shot.getFrom().y;
+            shotToX[i] = shot.getTo().x;
+            shotToY[i] = shot.getTo().y;
+            shotTime[i] = time - shot.getTimeSinceShot();
+            shotDamage[i] = shot.getDamage();
+        }
+    }
+
+    /**
+     * Grows the monster arrays so they can hold at least the given number of monsters.
+     *
+     * @param capacity The number of monsters to hold.
+     */
+    private void ensureMonsterCapacity(int capacity) {
+        if(capacity <= monsterX.length) return;
+        int size = Math.max(capacity, monsterX.length * 2);
+        monsterX = Arrays.copyOf(monsterX, size);
+        monsterY = Arrays.copyOf(monsterY, size);
+        monsterHealth = Arrays.copyOf(monsterHealth, size);
+        monsterAppearance = Arrays.copyOf(monsterAppearance, size);
+    }
+
+    /**
+     * Grows the build spot arrays so they can hold at least the given number of spots.
+     *
+     * @param capacity The number of build spots to hold.
+     */
+    private void ensureSpotCapacity(int capacity) {
+        if(capacity <= spotX.length) return;
+        int size = Math.max(capacity, spotX.length * 2);
+        spotX = Arrays.copyOf(spotX, size);
+        spotY = Arrays.copyOf(spotY, size);
+        spotBuilt = Arrays.copyOf(spotBuilt, size);
+        spotRange = Arrays.copyOf(spotRange, size);
+        spotColorSeed = Arrays.copyOf(spotColorSeed, size);
+        spotAppearance = Arrays.copyOf(spotAppearance, size);
+    }
+
+    /**
+     * Grows the shot arrays so they can hold at least the given number of shots.
+     *
+     * @param capacity The number of shots to hold.
+     */
+    private void ensureShotCapacity(int capacity) {
+        if(capacity <= shotFromX.length) return;
+        int size = Math.max(capacity, shotFromX.length * 2);
+        shotFromX = Arrays.copyOf(shotFromX, size);
+        shotFromY = Arrays.copyOf(shotFromY, size);
+        shotToX = Arrays.copyOf(shotToX, size);
+        shotToY = Arrays.copyOf(shotToY, size);
+        shotTime = Arrays.copyOf(shotTime, size);
+        shotDamage = Arrays.copyOf(shotDamage, size);
+    }
+
+    /**
+     * Gets the simulation time at which the snapshot was captured.
+     * @return The simulation time in seconds.
+     */
+    public float getTime() {
+        return time;
+    }
+
+    /**
+     * Gets the player's gold at the time of the capture.
+     * @return The amount of gold.
+     */
+    public int getGold() {
+        return gold;
+    }
+
+    /**
+     * Gets the player's life at the time of the capture.
+     * @return The remaining life.
+     */
+    public int getLife() {
+        return life;
+    }
+
+    /**
+     * Checks if the game area was paused at the time of the capture.
+     * @return true if the game was paused, false otherwise.
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Gets the number of monsters in the snapshot.
+     * @return The number of monsters.
+     */
+    public int getMonsterCount() {
+        return monsterCount;
+    }
+
+    /**
+     * Gets the index of the first monster at or below a row, in the order of the snapshot (top row first).
+     * With getMonsterEnd, it gives the monsters of a band of rows.
+     * @param maxRow The top row of the band.
+     * @return The index of the first monster of the band.
+     */
+    public int getMonsterStart(int maxRow) {
+        return rowStarts[rows - 1 - Math.max(0, Math.min(rows - 1, maxRow))];
+    }
+
+    /**
+     * Gets the index after the last monster at or above a row, in the order of the snapshot (top row first).
+     * @param minRow The bottom row of the band.
+     * @return The index after the last monster of the band.
+     */
+    public int getMonsterEnd(int minRow) {
+        return rowStarts[rows - Math.max(0, Math.min(rows - 1, minRow))];
+    }
+
+    /**
+     * Gets the logical x position of a monster.
+     * @param index The index of the monster.
+     * @return The x position in cells.
+     */
+    public float getMonsterX(int index) {
+        return monsterX[index];
+    }
+
+    /**
+     * Gets the logical y position of a monster.
+     * @param index The index of the monster.
+     * @return The y position in cells.
+     */
+    public float getMonsterY(int index) {
+        return monsterY[index];
+    }
+
+    /**
+     * Gets the remaining health of a monster, as a ratio of its maximum health.
+     * @param index The index of the monster.
+     * @return A value between 0 and 1.
+     */
+    public float getMonsterHealth(int index) {
+        return monsterHealth[index];
+    }
+
+    /**
+     * Gets the appearance of a monster.
+     * @param index The index of the monster.
+     * @return The appearance of the monster.
+     */
+    public Appearance getMonsterAppearance(int index) {
+        return monsterAppearance[index];
+    }
+
+    /**
+     * Gets the number of build spots in the snapshot.
+     * @return The number of build spots.
+     */
+    public int getSpotCount() {
+        return spotCount;
+    }
+
+    /**
+     * Gets the longest range of the towers.
+     * @return The range in cells, 0 if no tower is built.
+     */
+    public float getMaxSpotRange() {
+        return maxSpotRange;
+    }
+
+    /**
+     * Gets the logical x position of a build spot.
+     * @param index The index of the build spot.
+     * @return The x position in cells.
+     */
+    public float getSpotX(int index) {
+        return spotX[index];
+    }
+
+    /**
+     * Gets the logical y position of a build spot.
+     * @param index The index of the build spot.
+     * @return The y position in cells.
+     */
+    public float getSpotY(int index) {
+        return spotY[index];
+    }
+
+    /**
+     * Gets the build spot of a cell, in constant time.
+     * @param x The column of the cell.
+     * @param y The row of the cell.
+     * @return The index of the build spot, or -1 if the cell has none or is outside the game area.
+     */
+    public int getSpotAt(int x, int y) {
+        if(x < 0 || x >= spotCols || y < 0 || y >= spotRows) return -1;
+        return spotAt[y * spotCols + x];
+    }
+
+    /**
+     * Checks if a tower is built on a spot.
+     * @param index The index of the build spot.
+     * @return true if a tower is built, false if the spot is free.
+     */
+    public boolean isSpotBuilt(int index) {
+        return spotBuilt[index];
+    }
+
+    /**
+     * Gets the appearance of a build spot, which is the appearance of its tower if one is built.
+     * @param index The index of the build spot.
+     * @return The appearance to draw.
+     */
+    public Appearance getSpotAppearance(int index) {
+        return spotAppearance[index];
+    }
+
+    /**
+     * Gets the range of the tower built on a spot.
+     * @param index The index of the build spot.
+     * @return The range in cells, or 0 if no tower is built.
+     */
+    public float getSpotRange(int index) {
+        return spotRange[index];
+    }
+
+    /**
+     * Gets a value identifying the tower built on a spot, used to pick a consistent colour.
+     * @param index The index of the build spot.
+     * @return The colour seed of the tower, or 0 if no tower is built.
+     */
+    public int getSpotColorSeed(int index) {
+        return spotColorSeed[index];
+    }
+
+    /**
+     * Gets the number of shots in the snapshot.
+     * @return The number of shots.
+     */
+    public int getShotCount() {
+        return shotCount;
+    }
+
+    /**
+     * Gets the logical x position of the origin of a shot.
+     * @param index The index of the shot.
+     * @return The x position in cells.
+     */
+    public float getShotFromX(int index) {
+        return shotFromX[index];
+    }
+
+    /**
+     * Gets the logical y position of the origin of a shot.
+     * @param index The index of the shot.
+     * @return The y position in cells.
+     */
+    public float getShotFromY(int index) {
+        return shotFromY[index];
+    }
+
+    /**
+     * Gets the logical x position of the destination of a shot.
+     * @param index The index of the shot.
+     * @return The x position in cells.
+     */
+    public float getShotToX(int index) {
+        return shotToX[index];
+    }
+
+    /**
+     * Gets the logical y position of the destination of a shot.
+     * @param index The index of the shot.
+     * @return The y position in cells.
+     */
+    public float getShotToY(int index) {
+        return shotToY[index];
+    }
+
+    /**
+     * Gets the simulation time when a shot was fired.
+     * @param index The index of the shot.
+     * @return The time in seconds, on the clock of getTime.
+     */
+    public float getShotTime(int index) {
+        return shotTime[index];
+    }
+
+    /**
+     * Gets the damage dealt by a shot.
+     * @param index The index of the shot.
+     * @return The damage of the shot.
+     */
+    public int getShotDamage(int index) {
+        return shotDamage[index];
+    }
+
+    /**
+     * Gets the number of projectiles in the snapshot.
+     * @return The number of projectiles.
+     */
+    public int getProjectileCount() {
+        return projectileCount;
+    }
+
+    /**
+     * Gets the logical x position of a projectile.
+     * @param index The index of the projectile.
+     * @return The x position in cells.
+     */
+    public float getProjectileX(int index) {
+        return projectileX[index];
+    }
+
+    /**
+     * Gets the logical y position of a projectile.
+     * @param index The index of the projectile.
+     * @return The y position in cells.
+     */
+    public float getProjectileY(int index) {
+        return projectileY[index];
+    }
+
+    /**
+     * Gets the number of recent hits in the snapshot.
+     * @return The number of hits.
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the logical x position of a hit.
+     * @param index The index of the hit, from the oldest.
+     * @return The x position in cells.
+     */
+    public float getHitX(int index) {
+        return hitX[index];
+    }
+
+    /**
+     * Gets the logical y position of a hit.
+     * @param index The index of the hit, from the oldest.
+     * @return The y position in cells.
+     */
+    public float getHitY(int index) {
+        return hitY[index];
+    }
+
+    /**
+     * Gets the damage dealt by a hit.
+     * @param index The index of the hit, from the oldest.
+     * @return The damage.
+     */
+    public int getHitAmount(int index) {
+        return hitAmount[index];
+    }
+
+    /**
+     * Gets the time since a hit.
+     * @param index The index of the hit, from the oldest.
+     * @return The time in seconds.
+     */
+    public float getHitAge(int index) {
+        return hitAge[index];
+    }
+}
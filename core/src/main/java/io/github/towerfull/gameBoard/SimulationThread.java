@@ -0,0 +1,212 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Runs the updates of a game area on a dedicated thread, at a fixed tick rate.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.gameBoard;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs the updates of a game area on a dedicated thread, at a fixed tick rate.
+ * After each tick, the state of the area is captured into a triple-buffered RenderSnapshot,
+ * which is the only thing the render thread reads. Player actions reach the game area through
+ * a lock-free queue of GameCommands, executed between two ticks.
+ */
+public class SimulationThread implements Runnable {
+    // Duration of one simulation tick in seconds
+    public static final float TICK = 1f / 60f;
+
+    // Maximum amount of time simulated after a stall, to avoid a spiral of catch-up ticks
+    private static final float MAX_CATCH_UP = 0.25f;
+
+    // The game area being simulated
+    private final GameArea area;
+
+    // Snapshots exchanged with the render thread
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+
+    // Player actions waiting to be executed by the simulation thread
+    private final Queue<GameCommand> commands = new ConcurrentLinkedQueue<>();
+
+    // The thread running the simulation, null when stopped
+    private Thread thread;
+
+    // Whether the simulation loop should keep running
+    private volatile boolean running = false;
+
+    // Total simulated time, in seconds (it does not advance while the game is paused)
+    private float simulationTime = 0f;
+
+    // Number of snapshots published, telling the render thread when the state changed
+    private volatile int publishCount = 0;
+
+    /**
+     * Constructs a SimulationThread for a game area, and publishes a first snapshot of it.
+     *
+     * @param area The game area to simulate.
+     */
+    public SimulationThread(GameArea area) {
+        this.area = area;
+        publishSnapshot();
+    }
+
+    /**
+     * Starts the simulation thread. Does nothing if it is already running.
+     */
+    public void start() {
+        if(running) return;
+
+        running = true;
+        thread = new Thread(this, "Simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the simulation thread and waits for it to finish.
+     * Commands still in the queue are then executed on the calling thread, so none of them is lost.
+     */
+    public void stop() {
+        if(thread == null) return;
+
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+
+        if(executeCommands()) {
+            publishSnapshot();
+        }
+    }
+
+    /**
+     * Checks if the simulation thread is running.
+     *
+     * @return true if the simulation is running, false otherwise.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Sends a command to the simulation thread. It will be executed before the next tick.
+     * If the simulation is not running, the command is executed on the next start or stop.
+     *
+     * @param command The command to execute.
+     */
+    public void submit(GameCommand command) {
+        commands.add(command);
+    }
+
+    /**
+     * Gets the latest snapshot published by the simulation thread.
+     * Must only be called from the render thread.
+     *
+     * @return The latest render snapshot.
+     */
+    public RenderSnapshot getSnapshot() {
+        return snapshots.acquire();
+    }
+
+    /**
+     * Gets the game area being simulated.
+     * Its state must only be read or modified from the simulation thread, through commands.
+     *
+     * @return The simulated game area.
+     */
+    public GameArea getGameArea() {
+        return area;
+    }
+
+    /**
+     * The simulation loop: executes the pending commands, runs the ticks that are due,
+     * publishes a snapshot and sleeps until the next tick.
+     */
+    @Override
+    public void run() {
+        try {
+            long previous = System.nanoTime();
+            float accumulator = 0f;
+
+            while(running) {
+                long now = System.nanoTime();
+                accumulator += Math.min((now - previous) / 1e9f, MAX_CATCH_UP);
+                previous = now;
+
+                boolean changed = executeCommands();
+
+                while(accumulator >= TICK) {
+                    if(!area.isPaused()) {
+                        long before = System.nanoTime();
+                        area.update(TICK);
+                        area.getScenario().reportTickTime((System.nanoTime() - before) / 1e9f);
+                        simulationTime += TICK;
+                        changed = true;
+                    }
+                    accumulator -= TICK;
+                }
+
+                if(changed) {
+                    publishSnapshot();
+                }
+
+                LockSupport.parkNanos((long) ((TICK - accumulator) * 1e9f));
+            }
+        } catch (Throwable t) {
+            running = false;
+            // Let the render thread fail loudly instead of silently freezing the game
+            Gdx.app.postRunnable(() -> {
+                throw new GdxRuntimeException("The simulation thread crashed", t);
+            });
+        }
+    }
+
+    /**
+     * Executes all the commands waiting in the queue.
+     *
+     * @return true if at least one command was executed, false otherwise.
+     */
+    private boolean executeCommands() {
+        boolean executed = false;
+        GameCommand command;
+        while((command = commands.poll()) != null) {
+            command.execute(area);
+            executed = true;
+        }
+        return executed;
+    }
+
+    /**
+     * Captures the state of the game area into the back snapshot and publishes it.
+     */
+    private void publishSnapshot() {
+        snapshots.getBack().capture(area, simulationTime);
+        snapshots.publish();
+        ++publishCount;
+
+        // When the game is rendered on demand (paused), the new state needs a frame to be seen
+        if(Gdx.graphics != null) {
+            Gdx.graphics.requestRendering();
+        }
+    }
+
+    /**
+     * Gets the number of snapshots published so far.
+     * The state of the game area did not change while the count stays the same.
+     *
+     * @return The number of snapshots published.
+     */
+    public int getPublishCount() {
+        return publishCount;
+    }
+}
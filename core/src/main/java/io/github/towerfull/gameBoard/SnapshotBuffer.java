@@ -0,0 +1,68 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: A lock-free triple buffer exchanging render snapshots between the simulation and render threads.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.gameBoard;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A lock-free triple buffer of RenderSnapshots.
+ * The simulation thread always writes into the back snapshot and publishes it when it is complete,
+ * while the render thread always reads the front snapshot. The third snapshot is the latest published one,
+ * waiting to be picked up by the render thread. Neither thread ever waits for the other.
+ */
+public class SnapshotBuffer {
+    // Mask to extract the index of the published snapshot from the state
+    private static final int INDEX_MASK = 0b11;
+
+    // Flag set in the state when the published snapshot was not read yet
+    private static final int FRESH = 0b100;
+
+    // The three snapshots
+    private final RenderSnapshot[] snapshots = {
+        new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()
+    };
+
+    // Index of the published snapshot, and the FRESH flag
+    private final AtomicInteger state = new AtomicInteger(2);
+
+    // Index of the snapshot being written (only used by the simulation thread)
+    private int back = 0;
+
+    // Index of the snapshot being read (only used by the render thread)
+    private int front = 1;
+
+    /**
+     * Gets the snapshot the simulation thread should write into.
+     *
+     * @return The back snapshot.
+     */
+    public RenderSnapshot getBack() {
+        return snapshots[back];
+    }
+
+    /**
+     * Publishes the back snapshot, making it available to the render thread.
+     * Must only be called from the simulation thread.
+     */
+    public void publish() {
+        int previous = state.getAndSet(back | FRESH);
+        back = previous & INDEX_MASK;
+    }
+
+    /**
+     * Gets the most recent published snapshot.
+     * Must only be called from the render thread; the returned snapshot stays valid until the next call.
+     *
+     * @return The front snapshot.
+     */
+    public RenderSnapshot acquire() {
+        if((state.get() & FRESH) != 0) {
+            int previous = state.getAndSet(front);
+            front = previous & INDEX_MASK;
+        }
+        return snapshots[front];
+    }
+}
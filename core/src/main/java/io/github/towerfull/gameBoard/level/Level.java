@@ -38,6 +38,9 @@ public class Level {
     // The background of the level, which can be used for visual representation
     private final Background background;
 
+    // What occupies each cell of the level (path, build spots, spawns, exits), built once
+    private final OccupancyGrid occupancyGrid;
+
     /**
      * Constructs a Level with specified parameters.
      *
@@ -60,6 +63,7 @@ public class Level {
         this.startingGold = startingGold;
         this.startingLife = startingLife;
         this.background = background;
+        this.occupancyGrid = OccupancyGrid.build(cols, rows, pathGraph, buildableTiles);
     }
 
     /**
@@ -102,6 +106,7 @@ public class Level {
         this.startingGold = startingGold;
         this.startingLife = startingLife;
         this.background = background;
+        this.occupancyGrid = OccupancyGrid.build(cols, rows, pathGraph, buildableTiles);
     }
 
     /**
@@ -165,6 +170,16 @@ public class Level {
         return startingLife;
     }
 
+    /**
+     * Gets the occupancy grid of the level, which does not contain any tower.
+     * Game areas should work on a copy of it.
+     *
+     * @return The occupancy grid.
+     */
+    public OccupancyGrid getOccupancyGrid() {
+        return occupancyGrid;
+    }
+
     /**
      * Gets the background of the level.
      *
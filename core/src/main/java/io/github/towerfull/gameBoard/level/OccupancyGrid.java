@@ -0,0 +1,253 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: A flat grid telling what occupies each cell of a level (path, build spot, tower, spawn, exit).
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.gameBoard.level;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * A grid covering every cell of a level, telling in O(1) what occupies a cell.
+ * Each cell is stored as a single int in a flat array: the low byte holds the occupancy flags,
+ * and the remaining bits hold a payload (for build spots, the index of the spot plus one).
+ */
+public class OccupancyGrid {
+    // Flags describing the content of a cell
+    public static final int PATH = 1;
+    public static final int BUILD_SPOT = 1 << 1;
+    public static final int TOWER = 1 << 2;
+    public static final int SPAWN = 1 << 3;
+    public static final int EXIT = 1 << 4;
+
+    // Layout of a cell: flags in the low byte, payload above
+    private static final int FLAG_MASK = 0xFF;
+    private static final int PAYLOAD_SHIFT = 8;
+
+    // The dimensions of the grid
+    private final int cols;
+    private final int rows;
+
+    // The cells of the grid, row by row
+    private final int[] cells;
+
+    /**
+     * Constructs an empty grid.
+     *
+     * @param cols The number of columns.
+     * @param rows The number of rows.
+     */
+    public OccupancyGrid(int cols, int rows) {
+        this.cols = cols;
+        this.rows = rows;
+        this.cells = new int[cols * rows];
+    }
+
+    /**
+     * Copy constructor, used to give each game area its own grid on top of the level's one.
+     *
+     * @param other The grid to copy.
+     */
+    public OccupancyGrid(OccupancyGrid other) {
+        this.cols = other.cols;
+        this.rows = other.rows;
+        this.cells = other.cells.clone();
+    }
+
+    /**
+     * Builds the grid of a level from its path graph and its buildable tiles.
+     * The payload of each build spot cell is the index of its tile in the buildable tiles, plus one.
+     *
+     * @param cols           The number of columns of the level.
+     * @param rows           The number of rows of the level.
+     * @param pathGraph      The path graph of the level.
+     * @param buildableTiles The tiles where towers can be built.
+     * @return The occupancy grid of the level.
+     */
+    public static OccupancyGrid build(int cols, int rows, PathGraph pathGraph, Array<Vector2> buildableTiles) {
+        OccupancyGrid grid = new OccupancyGrid(cols, rows);
+
+        for(Node from : pathGraph.getNodes().values()) {
+            grid.mark(from.getPosition(), PATH);
+            for(Node to : from.getNextAxes()) {
+                grid.markSegment(from.getPosition(), to.getPosition(), PATH);
+            }
+        }
+        for(Node spawn : pathGraph.getSpawns()) {
+            grid.mark(spawn.getPosition(), SPAWN);
+        }
+        for(Node end : pathGraph.getEnds()) {
+            grid.mark(end.getPosition(), EXIT);
+        }
+
+        if(buildableTiles == null) return grid;
+
+        for(int i = 0; i < buildableTiles.size; ++i) {
+            Vector2 tile = buildableTiles.get(i);
+            grid.mark(tile, BUILD_SPOT);
+            grid.setPayload((int) tile.x, (int) tile.y, i + 1);
+        }
+
+        return grid;
+    }
+
+    /**
+     * Checks if a cell is inside the grid.
+     *
+     * @param x The column of the cell.
+     * @param y The row of the cell.
+     * @return true if the cell is inside the grid, false otherwise.
+     */
+    public boolean contains(int x, int y) {
+        return x >= 0 && y >= 0 && x < cols && y < rows;
+    }
+
+    /**
+     * Gets the flags of a cell.
+     *
+     * @param x The column of the cell.
+     * @param y The row of the cell.
+     * @return The flags of the cell, or 0 if the cell is outside the grid.
+     */
+    public int getFlags(int x, int y) {
+        return contains(x, y) ? cells[y * cols + x] & FLAG_MASK : 0;
+    }
+
+    /**
+     * Checks if a cell has at least one of the given flags.
+     *
+     * @param x     The column of the cell.
+     * @param y     The row of the cell.
+     * @param flags The flags to test.
+     * @return true if the cell has one of the flags, false otherwise (or if it is outside the grid).
+     */
+    public boolean has(int x, int y, int flags) {
+        return (getFlags(x, y) & flags) != 0;
+    }
+
+    /**
+     * Checks if a cell or one of its neighbours within a square radius has at least one of the given flags.
+     *
+     * @param x      The column of the cell.
+     * @param y      The row of the cell.
+     * @param radius The number of cells to look at around the cell, on each axis.
+     * @param flags  The flags to test.
+     * @return true if one of the cells has one of the flags, false otherwise.
+     */
+    public boolean hasAround(int x, int y, int radius, int flags) {
+        for(int dx = -radius; dx <= radius; ++dx) {
+            for(int dy = -radius; dy <= radius; ++dy) {
+                if(has(x + dx, y + dy, flags)) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds flags to a cell. Cells outside the grid are ignored.
+     *
+     * @param x     The column of the cell.
+     * @param y     The row of the cell.
+     * @param flags The flags to add.
+     */
+    public void mark(int x, int y, int flags) {
+        if(contains(x, y)) {
+            cells[y * cols + x] |= flags & FLAG_MASK;
+        }
+    }
+
+    /**
+     * Adds flags to the cell containing a logical position.
+     *
+     * @param pos   The logical position.
+     * @param flags The flags to add.
+     */
+    public void mark(Vector2 pos, int flags) {
+        mark((int) pos.x, (int) pos.y, flags);
+    }
+
+    /**
+     * Removes flags from a cell. Cells outside the grid are ignored.
+     *
+     * @param x     The column of the cell.
+     * @param y     The row of the cell.
+     * @param flags The flags to remove.
+     */
+    public void clear(int x, int y, int flags) {
+        if(contains(x, y)) {
+            cells[y * cols + x] &= ~(flags & FLAG_MASK);
+        }
+    }
+
+    /**
+     * Adds flags to every cell between two positions (both included), stepping towards the end on each axis.
+     *
+     * @param from  The start of the segment.
+     * @param to    The end of the segment.
+     * @param flags The flags to add.
+     * @return The number of cells that did not have any of the flags before.
+     */
+    public int markSegment(Vector2 from, Vector2 to, int flags) {
+        int x = (int) from.x;
+        int y = (int) from.y;
+        int x2 = (int) to.x;
+        int y2 = (int) to.y;
+
+        int dx = Integer.signum(x2 - x);
+        int dy = Integer.signum(y2 - y);
+
+        int marked = 0;
+        while(true) {
+            if(contains(x, y) && !has(x, y, flags)) {
+                ++marked;
+            }
+            mark(x, y, flags);
+            if(x == x2 && y == y2) break;
+            if(x != x2) x += dx;
+            if(y != y2) y += dy;
+        }
+        return marked;
+    }
+
+    /**
+     * Gets the payload of a cell.
+     *
+     * @param x The column of the cell.
+     * @param y The row of the cell.
+     * @return The payload of the cell, or 0 if it has none or is outside the grid.
+     */
+    public int getPayload(int x, int y) {
+        return contains(x, y) ? cells[y * cols + x] >>> PAYLOAD_SHIFT : 0;
+    }
+
+    /**
+     * Sets the payload of a cell, keeping its flags. Cells outside the grid are ignored.
+     *
+     * @param x       The column of the cell.
+     * @param y       The row of the cell.
+     * @param payload The payload, between 0 and 2^24 - 1.
+     */
+    public void setPayload(int x, int y, int payload) {
+        if(contains(x, y)) {
+            int index = y * cols + x;
+            cells[index] = (cells[index] & FLAG_MASK) | (payload << PAYLOAD_SHIFT);
+        }
+    }
+
+    /**
+     * Gets the number of columns of the grid.
+     * @return The number of columns.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Gets the number of rows of the grid.
+     * @return The number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+}
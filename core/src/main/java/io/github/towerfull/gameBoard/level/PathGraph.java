@@ -96,14 +96,15 @@ public class PathGraph {
     /**
      * Retrieves a list of path points starting from a given node.
      * The path is determined by following the next axes of each node, choosing randomly among them.
+     * The choices are drawn from the given generator, so a game seeded the same way takes the same paths.
      *
-     * @param start The starting node from which to begin the path.
+     * @param start  The starting node from which to begin the path.
+     * @param random The random generator choosing among the next axes.
      * @return An Array of Vector2 objects representing the positions of the path points.
      */
-    public Array<Vector2> getPathPointsStartingFrom(Node start) {
+    public Array<Vector2> getPathPointsStartingFrom(Node start, Random random) {
         Array<Vector2> pathPoints = new Array<>();
         Node current = start;
-        Random random = new Random();
 
         while(current != null) {
             pathPoints.add(current.getPosition());
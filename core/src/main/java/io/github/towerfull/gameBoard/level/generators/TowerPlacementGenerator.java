@@ -7,8 +7,8 @@ package io.github.towerfull.gameBoard.level.generators;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import io.github.towerfull.gameBoard.level.OccupancyGrid;
 
-import java.util.HashSet;
 
 /**
  * Generates valid tower placement spots around a given path.
@@ -26,40 +26,36 @@ public class TowerPlacementGenerator {
      * @return An Array of Vector2 points representing valid tower placement spots.
      */
     public static Array<Vector2> generate(int width, int height, Array<Vector2> path) {
-        // Collect all path cells
-        HashSet<Vector2> pathCells = new HashSet<>();
-        for(int i = 0; i < path.size - 1; ++i) {
-            Vector2 start = path.get(i);
-            Vector2 end = path.get(i + 1);
-
-            int x1 = (int) start.x;
-            int y1 = (int) start.y;
-            int x2 = (int) end.x;
-            int y2 = (int) end.y;
-
-            int dx = Integer.signum(x2 - x1);
-            int dy = Integer.signum(y2 - y1);
-
-            int x = x1, y = y1;
-            while(x != x2 || y != y2) {
-                pathCells.add(new Vector2(x, y));
+        OccupancyGrid grid = new OccupancyGrid(width, height);
+
+        // Collect all path cells, each one only once
+        Array<Vector2> pathCells = new Array<>();
+        for(int i = 0; i < path.size; ++i) {
+            Vector2 from = path.get(i);
+            Vector2 to = i + 1 < path.size ? path.get(i + 1) : from;
+
+            int x = (int) from.x;
+            int y = (int) from.y;
+            int x2 = (int) to.x;
+            int y2 = (int) to.y;
+
+            int dx = Integer.signum(x2 - x);
+            int dy = Integer.signum(y2 - y);
+
+            while(true) {
+                if(grid.contains(x, y) && !grid.has(x, y, OccupancyGrid.PATH)) {
+                    grid.mark(x, y, OccupancyGrid.PATH);
+                    pathCells.add(new Vector2(x, y));
+                }
+                if(x == x2 && y == y2) break;
                 if(x != x2) x += dx;
                 if(y != y2) y += dy;
             }
-            pathCells.add(new Vector2(x2, y2)); // include the final point
         }
 
-        // Exclude area around the entry and exit
-        HashSet<Vector2> entryExit = new HashSet<>();
-        Vector2 start = path.first();
-        Vector2 end = path.peek();
-
-        for(int dx = -1; dx <= 1; ++dx) {
-            for(int dy = -1; dy <= 1; ++dy) {
-                entryExit.add(new Vector2((int) start.x + dx, (int) start.y + dy));
-                entryExit.add(new Vector2((int) end.x + dx, (int) end.y + dy));
-            }
-        }
+        // The area around the entry and exit is excluded
+        grid.mark(path.first(), OccupancyGrid.SPAWN);
+        grid.mark(path.peek(), OccupancyGrid.EXIT);
 
         Array<Vector2> validSpots = new Array<>();
 
@@ -75,21 +71,18 @@ public class TowerPlacementGenerator {
                     int nx = x + dx;
                     int ny = y + dy;
 
-                    if(nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
-
-                    Vector2 candidate = new Vector2(nx, ny);
+                    if(!grid.contains(nx, ny)) continue;
+                    if(grid.has(nx, ny, OccupancyGrid.PATH | OccupancyGrid.BUILD_SPOT)) continue;
+                    if(grid.hasAround(nx, ny, 1, OccupancyGrid.SPAWN | OccupancyGrid.EXIT)) continue;
 
-                    if(containsVector(pathCells, candidate)) continue;
-                    if(containsVector(entryExit, candidate)) continue;
-                    if(containsVector(validSpots, candidate)) continue;
-
-                    validSpots.add(candidate);
+                    grid.mark(nx, ny, OccupancyGrid.BUILD_SPOT);
+                    validSpots.add(new Vector2(nx, ny));
                 }
             }
         }
 
         // Limit number of spots based on path length
-        int pathLength = pathCells.size();
+        int pathLength = pathCells.size;
         int maxSpots = Math.min(Math.max(4, pathLength / 4), 20);
 
         validSpots.shuffle();
@@ -97,11 +90,4 @@ public class TowerPlacementGenerator {
 
         return validSpots;
     }
-
-    private static boolean containsVector(Iterable<Vector2> list, Vector2 target) {
-        for(Vector2 v : list) {
-            if((int) v.x == (int) target.x && (int) v.y == (int) target.y) return true;
-        }
-        return false;
-    }
 }
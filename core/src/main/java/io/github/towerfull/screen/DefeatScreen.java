@@ -17,7 +17,9 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import io.github.towerfull.Main;
+import io.github.towerfull.enumElements.ScreenId;
 import io.github.towerfull.tools.GameAssets;
+import io.github.towerfull.tools.DisposableTracker;
 
 /**
  * DefeatScreen is displayed when the player loses a level.
@@ -37,8 +39,7 @@ public class DefeatScreen implements Screen {
      * @param game The main game instance to switch screens.
      */
     public DefeatScreen(Main game){
-        stage = new Stage(new ScreenViewport());
-        Gdx.input.setInputProcessor(stage);
+        stage = DisposableTracker.track(this, new Stage(new ScreenViewport()));
 
         skin = GameAssets.get().skin;
 
@@ -54,7 +55,7 @@ public class DefeatScreen implements Screen {
         retry.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new LevelSelectScreen(game));
+                game.getScreens().show(ScreenId.LEVEL_SELECT);
             }
         });
         table.add(retry).width(250).pad(10).row();
@@ -63,7 +64,7 @@ public class DefeatScreen implements Screen {
         menu.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new MainMenuScreen(game));
+                game.getScreens().show(ScreenId.MAIN_MENU);
             }
         });
         table.add(menu).width(250).pad(10).row();
@@ -81,10 +82,13 @@ public class DefeatScreen implements Screen {
     }
 
     /**
-     * This method is called when the screen is first shown.
+     * This method is called each time the screen is shown.
+     * It gives the input to the stage, since the screen is kept and shown again.
      */
     @Override
-    public void show() {}
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
+    }
 
     /**
      * The render method is called every frame to update and draw the screen.
@@ -134,6 +138,6 @@ public class DefeatScreen implements Screen {
      */
     @Override
     public void dispose() {
-        stage.dispose();
+        DisposableTracker.dispose(stage);
     }
 }
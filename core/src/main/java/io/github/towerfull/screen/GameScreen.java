@@ -7,15 +7,23 @@ package io.github.towerfull.screen;
 
 import com.badlogic.gdx.*;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
 
 import io.github.towerfull.entities.defenses.BuildSpot;
 import io.github.towerfull.gameBoard.GameArea;
+import io.github.towerfull.gameBoard.RenderSnapshot;
+import io.github.towerfull.gameBoard.SimulationThread;
 import io.github.towerfull.listener.LevelListener;
 import io.github.towerfull.gameBoard.level.Level;
 import io.github.towerfull.Main;
+import io.github.towerfull.enumElements.ScreenId;
+import io.github.towerfull.screen.accessories.CameraController;
+import io.github.towerfull.screen.accessories.FrameCache;
 import io.github.towerfull.screen.accessories.UiController;
 import io.github.towerfull.screen.accessories.GameUI;
+import io.github.towerfull.tools.DisposableTracker;
 import io.github.towerfull.tools.GameAssets;
 import io.github.towerfull.tools.GameRenderer;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
@@ -23,6 +31,9 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 /**
  * GameScreen is the main screen where the game is played.
  * It handles rendering the game area, user interface, and interactions.
+ * The game area itself is updated by a SimulationThread while the screen is shown.
+ * While the game is paused, frames are only rendered on demand (input, a new snapshot, a held arrow key),
+ * and the game area is drawn from the last composed frame, kept in a FrameCache, until something changes.
  */
 public class GameScreen implements Screen {
     // The main game instance
@@ -31,8 +42,17 @@ public class GameScreen implements Screen {
     // The game area containing the level, monsters, towers, etc.
     private final GameArea gameArea;
 
-    // Renderer for the game area
-    private GameRenderer gameRenderer;
+    // The thread updating the game area, and publishing its state for rendering
+    private final SimulationThread simulation;
+
+    // Set once the level is won or lost, so the end screen is only requested once (simulation thread only)
+    private boolean levelEnded = false;
+
+    // Renderer for the game area, created once: a resize only moves its cells
+    private final GameRenderer gameRenderer;
+
+    // The camera looking at the game area, moved by the player
+    private final CameraController cameraController = new CameraController();
 
     // The user interface for the game, including construction menus and HUD
     private GameUI gameUI;
@@ -40,6 +60,23 @@ public class GameScreen implements Screen {
     // Controller for handling construction actions like building towers
     private UiController constructionController;
 
+    // The last composed frame of the game area, drawn again while the game is paused
+    private final FrameCache frameCache;
+
+    // What the cached frame was composed from: the published snapshot, the camera and the hovered cell
+    private int cachedPublishCount = -1;
+    private int cachedCameraChange = -1;
+    private int cachedPointerX = -1;
+    private int cachedPointerY = -1;
+
+    // The last snapshot the destruction menu was checked against
+    private int refreshedPublishCount = -1;
+
+    // The cell under the pointer, updated every frame
+    private final Vector2 pointer = new Vector2();
+    private int pointerX = -1;
+    private int pointerY = -1;
+
     /**
      * Constructor for GameScreen with a specific level.
      * Initializes the game area and sets up the UI.
@@ -50,26 +87,22 @@ public class GameScreen implements Screen {
     public GameScreen(Main game, Level level) {
         this.game = game;
         this.gameArea = new GameArea(level);
+        this.simulation = new SimulationThread(gameArea);
+        GameAssets.get().residency.acquire(level);
 
+        DisposableTracker.enter(this);
+        this.gameRenderer = new GameRenderer(gameArea, cameraController);
+        this.frameCache = new FrameCache();
         setupUI();
+        DisposableTracker.exit();
         resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-
-        gameArea.setLevelListener(new LevelListener() {
-            @Override
-            public void onGameOver() {
-                Gdx.app.postRunnable(() -> game.setScreen(new DefeatScreen(game)));
-            }
-
-            @Override
-            public void onLevelComplete() {
-                Gdx.app.postRunnable(() -> game.setScreen(new VictoryScreen(game)));
-            }
-        });
+        listenToLevel();
     }
 
     /**
      * Constructor for GameScreen with an existing game area.
      * Initializes the UI and renderer based on the provided game area.
+     * The game area (a loaded save) gets the level listener of this screen, like a new level.
      *
      * @param game The main game instance
      * @param gameArea The existing game area to be displayed
@@ -77,9 +110,38 @@ public class GameScreen implements Screen {
     public GameScreen(Main game, GameArea gameArea) {
         this.game = game;
         this.gameArea = gameArea;
+        this.simulation = new SimulationThread(gameArea);
+        GameAssets.get().residency.acquire(gameArea.getBackground(), gameArea.getScenario());
 
+        DisposableTracker.enter(this);
+        this.gameRenderer = new GameRenderer(gameArea, cameraController);
+        this.frameCache = new FrameCache();
         setupUI();
+        DisposableTracker.exit();
         resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        listenToLevel();
+    }
+
+    /**
+     * Sets the level listener of the game area, showing the end screen once when the level is won or lost.
+     * The callbacks are called from the simulation thread.
+     */
+    private void listenToLevel() {
+        gameArea.setLevelListener(new LevelListener() {
+            @Override
+            public void onGameOver() {
+                if(levelEnded) return;
+                levelEnded = true;
+                Gdx.app.postRunnable(() -> game.getScreens().show(ScreenId.DEFEAT));
+            }
+
+            @Override
+            public void onLevelComplete() {
+                if(levelEnded) return;
+                levelEnded = true;
+                Gdx.app.postRunnable(() -> game.getScreens().show(ScreenId.VICTORY));
+            }
+        });
     }
 
     /**
@@ -87,7 +149,7 @@ public class GameScreen implements Screen {
      * Initializes the construction controller and UI elements.
      */
     private void setupUI() {
-        constructionController = new UiController(gameArea, game);
+        constructionController = new UiController(simulation, game);
 
         // Create UI with fresh viewport and optional custom skin loader
         gameUI = new GameUI(
@@ -96,56 +158,76 @@ public class GameScreen implements Screen {
             constructionController
         );
 
-        gameUI.updateGold(gameArea.getEconomyManager().getGold());
-        gameUI.updateLife(gameArea.getLife());
+        // The render thread only reads the published snapshots, never the game area the simulation updates
+        RenderSnapshot snapshot = simulation.getSnapshot();
+        gameUI.updateGold(snapshot.getGold());
+        gameUI.updateLife(snapshot.getLife());
 
-        Gdx.input.setInputProcessor(gameUI.getStage());
+        gameUI.getConstructionMenu().updateAffordability(snapshot.getGold());
 
+        // The construction menu is only updated when the gold changed, never on the other frames
         constructionController.setGoldListener(newGold -> {
-            constructionController.updateMenuButtons(gameUI.getConstructionMenu());
+            gameUI.getConstructionMenu().updateAffordability(newGold);
             gameUI.updateGold(newGold);
         });
 
         constructionController.setLifeListener(newLife -> gameUI.updateLife(newLife));
     }
 
+    /**
+     * Finds the cell under the pointer, through the camera, and tells the renderer to highlight it.
+     * No cell is hovered while the pointer is over the sidebar.
+     */
+    private void updatePointerCell() {
+        int screenX = Gdx.input.getX();
+        int screenY = Gdx.input.getY();
+
+        if(cameraController.isInRegion(screenX, screenY)) {
+            Vector3 world = cameraController.unproject(screenX, screenY);
+            Vector2 logical = gameRenderer.pixelToLogical(pointer.set(world.x, world.y));
+            pointerX = MathUtils.floor(logical.x);
+            pointerY = MathUtils.floor(logical.y);
+        } else {
+            pointerX = -1;
+            pointerY = -1;
+        }
+
+        gameRenderer.setHoveredCell(pointerX, pointerY);
+    }
+
     /**
      * Checks if a build spot was clicked and handles the interaction.
      * If a build spot is clicked, it shows the construction or destruction menu.
+     * The spot and whether it holds a tower are read from the snapshot, never from the game area
+     * the simulation thread is updating.
+     *
+     * @param snapshot The snapshot shown on this frame.
      */
-    private void checkBuildSpotClick() {
-        if(Gdx.input.justTouched()) {
-            Vector2 mouse = new Vector2(Gdx.input.getX(), Gdx.input.getY());
-            gameUI.getStage().screenToStageCoordinates(mouse);
-
-            Vector2 logical = gameRenderer.pixelToLogical(mouse);
-            int clickX = (int) logical.x;
-            int clickY = (int) logical.y;
-
-            for(BuildSpot spot : gameArea.getBuildSpots()) {
-                Vector2 spotPos = spot.getLogicalPos();
-                int spotX = (int) spotPos.x;
-                int spotY = (int) spotPos.y;
-
-                if(clickX == spotX && clickY == spotY) {
-                    if(!spot.isUsed()) {
-                        constructionController.showMenu(gameUI.getConstructionMenu(), spot);
-                        gameUI.hideDestructionMenu();
-                        gameUI.showConstructionMenu(); // ✅ THIS LINE IS MISSING
-                    } else {
-                        gameUI.getDestructionMenu().showForTower(spot, null);
-                        gameUI.hideConstructionMenu(); // ✅ RECOMMENDED
-                        gameUI.showDestructionMenu();
-                    }
-                    break;
-                }
-            }
+    private void checkBuildSpotClick(RenderSnapshot snapshot) {
+        // The other buttons move the camera
+        if(!Gdx.input.isButtonJustPressed(Input.Buttons.LEFT)) return;
+
+        int index = snapshot.getSpotAt(pointerX, pointerY);
+        if(index < 0) return;
+
+        // The list of build spots is fixed when the game area is created, only their towers change
+        BuildSpot spot = gameArea.getBuildSpots().get(index);
+        if(!snapshot.isSpotBuilt(index)) {
+            constructionController.showMenu(gameUI.getConstructionMenu(), spot);
+            gameUI.hideDestructionMenu();
+            gameUI.showConstructionMenu();
+        } else {
+            gameUI.getDestructionMenu().showForTower(spot, index, null);
+            gameUI.hideConstructionMenu();
+            gameUI.showDestructionMenu();
         }
     }
 
     /**
      * Renders the game screen.
      * Clears the screen, updates the game area, and renders the game and UI.
+     * While the game is paused, the game area comes from the cached frame when nothing changed since it
+     * was composed, and the next frame is only rendered when requested.
      *
      * @param delta Time since the last frame
      */
@@ -154,19 +236,70 @@ public class GameScreen implements Screen {
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        gameArea.update(delta);
-        gameRenderer.render();
+        gameArea.getEventBus().flush(delta);
+        boolean panning = cameraController.update(delta);
+        updatePointerCell();
+
+        // The count is read first: the snapshot is at least as recent as it
+        int publishCount = simulation.getPublishCount();
+        RenderSnapshot snapshot = simulation.getSnapshot();
+        if(publishCount != refreshedPublishCount) {
+            // A sold tower closes its menu once a snapshot shows it gone
+            gameUI.getDestructionMenu().refresh(snapshot);
+            refreshedPublishCount = publishCount;
+        }
+
+        if(snapshot.isPaused()) {
+            renderPaused(snapshot);
+        } else {
+            frameCache.invalidate();
+            gameRenderer.render(snapshot);
+        }
 
-        checkBuildSpotClick();
-        constructionController.updateMenuButtons(gameUI.getConstructionMenu());
+        checkBuildSpotClick(snapshot);
 
         gameUI.act(delta);
         gameUI.draw();
+
+        // A paused game is rendered on demand, but a held arrow key keeps moving the camera
+        Gdx.graphics.setContinuousRendering(!snapshot.isPaused());
+        if(panning) {
+            Gdx.graphics.requestRendering();
+        }
+    }
+
+    /**
+     * Renders the game area of a paused game.
+     * The game area is composed into the frame cache only if the snapshot, the camera or the hovered cell
+     * changed since the cached frame; otherwise the cached frame is drawn as it is.
+     *
+     * @param snapshot The latest snapshot of the game area.
+     */
+    private void renderPaused(RenderSnapshot snapshot) {
+        int publishCount = simulation.getPublishCount();
+        int cameraChange = cameraController.getChangeCount();
+        if(publishCount != cachedPublishCount || cameraChange != cachedCameraChange
+            || pointerX != cachedPointerX || pointerY != cachedPointerY) {
+            frameCache.invalidate();
+        }
+
+        if(!frameCache.isValid()) {
+            frameCache.begin();
+            gameRenderer.render(snapshot);
+            frameCache.end();
+
+            cachedPublishCount = publishCount;
+            cachedCameraChange = cameraChange;
+            cachedPointerX = pointerX;
+            cachedPointerY = pointerY;
+        }
+
+        frameCache.draw();
     }
 
     /**
      * This method is called when the screen is resized.
-     * It recalculates the game area dimensions and updates the renderer accordingly.
+     * It recalculates the game area dimensions and updates the camera and the renderer accordingly.
      * @param width The new width of the screen
      * @param height The new height of the screen
      */
@@ -195,12 +328,10 @@ public class GameScreen implements Screen {
         float gameStartX = (availableWidth - totalGameWidth) / 2f;
         float gameStartY = (availableHeight - totalGameHeight) / 2f;
 
-        gameRenderer = new GameRenderer(
-            gameArea,
-            new Vector2(gameStartX, gameStartY),
-            cellSize,
-            cellSize
-        );
+        cameraController.resize(width, height, availableWidth,
+            gameStartX, gameStartY, totalGameWidth, totalGameHeight, cellSize);
+
+        gameRenderer.resize(gameStartX, gameStartY, cellSize, cellSize);
     }
 
     /**
@@ -208,20 +339,33 @@ public class GameScreen implements Screen {
      * This method is called when the screen is no longer needed.
      */
     @Override public void dispose() {
+        simulation.stop();
+        constructionController.dispose();
         gameUI.dispose();
+        gameRenderer.dispose();
+        frameCache.dispose();
     }
 
 
     /**
      * This method is called when the screen is shown.
+     * It renders continuously again and starts the simulation of the game area.
      */
-    @Override public void show() {}
+    @Override public void show() {
+        Gdx.graphics.setContinuousRendering(true);
+        simulation.start();
+
+        // The sidebar gets the input first, the camera gets what falls on the game area
+        Gdx.input.setInputProcessor(new InputMultiplexer(gameUI.getStage(), cameraController));
+    }
 
     /**
      * This method is called when the screen is hidden.
-     * It can be used to pause the game or release resources.
+     * It stops the simulation, so the game area does not keep running behind another screen.
      */
-    @Override public void hide() {}
+    @Override public void hide() {
+        simulation.stop();
+    }
 
     /**
      * This method is called when the game is paused.
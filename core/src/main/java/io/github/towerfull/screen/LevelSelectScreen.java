@@ -11,28 +11,39 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import io.github.towerfull.Main;
+import io.github.towerfull.enumElements.ScreenId;
 import io.github.towerfull.enumElements.BackgroundId;
 import io.github.towerfull.gameBoard.level.Level;
 import io.github.towerfull.enumElements.LevelId;
 import io.github.towerfull.gameBoard.level.generators.PathGenerator;
+import io.github.towerfull.entities.ennemies.EndlessScenario;
 import io.github.towerfull.entities.ennemies.Scenario;
 import io.github.towerfull.gameBoard.level.generators.TowerPlacementGenerator;
+import io.github.towerfull.tools.BackgroundWorker;
 import io.github.towerfull.tools.GameAssets;
+import io.github.towerfull.tools.ThumbnailCache;
+import io.github.towerfull.tools.DisposableTracker;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Screen that allows the player to select a level to play.
  * It displays a list of available levels sorted by their display names,
- * including a button for a procedurally generated level.
+ * including a button for a procedurally generated level and one for the endless mode.
+ * Each level is shown with a thumbnail, drawn in the background by a ThumbnailCache the first time the screen
+ * is shown. The generated levels are also produced in the background, so the screen opens at once:
+ * their buttons are enabled when their level is ready, and a new one is generated each time one is played.
  */
 public class LevelSelectScreen implements Screen {
     // The main game instance
@@ -47,14 +58,56 @@ public class LevelSelectScreen implements Screen {
     // Table to organize UI elements
     private final Table table;
 
+    // Displayed size of the thumbnails, in pixels
+    private static final float THUMBNAIL_SIZE = 48f;
+
+    // The worker generating the levels and drawing the thumbnails
+    private final BackgroundWorker worker = new BackgroundWorker("LevelSelect");
+
+    // The thumbnails of the levels
+    private final ThumbnailCache thumbnails = new ThumbnailCache(worker);
+
+    // The rows of the levels, whose thumbnails are requested when the screen is first shown
+    private final Array<LevelRow> rows = new Array<>();
+
+    /**
+     * A row of the table: the thumbnail and the button of a level.
+     */
+    private static final class LevelRow {
+        // The thumbnail, empty until it is ready
+        final Image thumbnail = new Image();
+
+        // The button starting the level
+        final TextButton button;
+
+        // The level started by the button, null while it is being generated
+        Level level;
+
+        // Whether the level was generated, and is replaced by a new one once played
+        final boolean generated;
+
+        // Whether the thumbnail of the level was requested
+        boolean requested = false;
+
+        /**
+         * Constructs a row.
+         *
+         * @param button    The button starting the level.
+         * @param generated Whether the level is generated.
+         */
+        LevelRow(TextButton button, boolean generated) {
+            this.button = button;
+            this.generated = generated;
+        }
+    }
+
     /**
      * Constructor for LevelSelectScreen.
      * @param game the main game instance
      */
     public LevelSelectScreen(Main game) {
         this.game = game;
-        this.stage = new Stage(new ScreenViewport());
-        Gdx.input.setInputProcessor(stage);
+        this.stage = DisposableTracker.track(this, new Stage(new ScreenViewport()));
 
         this.skin = GameAssets.get().skin;
         this.table = new Table();
@@ -74,17 +127,20 @@ public class LevelSelectScreen implements Screen {
 
         // Add sorted buttons
         for(Map.Entry<String, Level> entry : displayNameToLevel.entrySet()) {
-            addLevelButton(entry.getKey(), entry.getValue());
+            addLevelButton(entry.getKey(), null).level = entry.getValue();
         }
 
-        // Add procedural "Generated Level"
-        addLevelButton("Generated level", createGeneratedLevel());
+        // Add procedural "Generated Level", generated in the background so the kept screen offers a new one every time
+        addLevelButton("Generated level", () -> createGeneratedLevel(GameAssets.get().scenarioFactory.getRandom()));
+
+        // Add the endless mode, on a generated level with waves generated as the game goes
+        addLevelButton("Endless", () -> createGeneratedLevel(new EndlessScenario(GameAssets.get().monsterFactory, new Random().nextLong())));
 
         // Back button
         TextButton backButton = new TextButton("Back", skin);
         backButton.addListener(new ClickListener() {
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new MainMenuScreen(game));
+                game.getScreens().show(ScreenId.MAIN_MENU);
             }
         });
 
@@ -94,31 +150,87 @@ public class LevelSelectScreen implements Screen {
     }
 
     /**
-     * Adds a button for a level to the table.
+     * Adds a row for a level to the table: its thumbnail and its button.
      * @param label the label for the button
-     * @param level the level to start when the button is clicked
+     * @param generator generates the level in the background, or null for a level set on the returned row
+     * @return the row of the level
      */
-    private void addLevelButton(String label, Level level) {
+    private LevelRow addLevelButton(String label, Supplier<Level> generator) {
         TextButton button = new TextButton(label, skin);
+        LevelRow row = new LevelRow(button, generator != null);
         button.addListener(new ClickListener() {
             public void clicked(InputEvent event, float x, float y) {
+                if(row.level == null) return;
+
+                Level level = row.level;
+                if(row.generated) {
+                    // The thumbnail of a generated level is not seen again, a new level takes its place
+                    row.thumbnail.setDrawable(null);
+                    thumbnails.forget(level);
+                    generate(row, generator);
+                }
                 game.setScreen(new GameScreen(game, level));
             }
         });
+
         table.row().pad(10);
-        table.add(button).width(200).colspan(2);
+        table.add(row.thumbnail).size(THUMBNAIL_SIZE).padRight(10);
+        table.add(button).width(200);
+        rows.add(row);
+
+        if(generator != null) {
+            generate(row, generator);
+        }
+        return row;
+    }
+
+    /**
+     * Generates the level of a row in the background. The button is disabled until the level is ready,
+     * then the thumbnail of the level is requested.
+     * @param row the row of the level
+     * @param generator generates the level, on the background thread
+     */
+    private void generate(LevelRow row, Supplier<Level> generator) {
+        row.level = null;
+        row.requested = false;
+        row.button.setDisabled(true);
+
+        worker.submit(generator, level -> {
+            row.level = level;
+            row.button.setDisabled(false);
+            requestThumbnail(row);
+        });
+    }
+
+    /**
+     * Requests the thumbnail of the level of a row, once, and shows it when it is ready.
+     * The thumbnails of the generated levels are not written to disk, as they are never seen again.
+     * @param row the row of the level
+     */
+    private void requestThumbnail(LevelRow row) {
+        if(row.requested || row.level == null) return;
+        row.requested = true;
+
+        Level level = row.level;
+        thumbnails.request(level, !row.generated, texture -> {
+            // A generated level may have been played and replaced in the meantime
+            if(row.level == level) {
+                row.thumbnail.setDrawable(new TextureRegionDrawable(texture));
+            }
+        });
     }
 
     /**
      * Creates a procedurally generated level with random parameters.
      * The level will have a random background and a path generated using the PathGenerator.
+     * Runs on the background worker.
+     * @param scenario the scenario of the level
      * @return a new Level instance with generated parameters
      */
-    private Level createGeneratedLevel() {
+    private Level createGeneratedLevel(Scenario scenario) {
         int cols = 16;
         int rows = 16;
         Array<Vector2> path = PathGenerator.generatePath(cols, rows);
-        Scenario scenario = GameAssets.get().scenarioFactory.getRandom();
         Array<Vector2> buildableTiles = TowerPlacementGenerator.generate(cols, rows, path);
 
         // Get a random value from the BackgroundId enum
@@ -138,10 +250,17 @@ public class LevelSelectScreen implements Screen {
     }
 
     /**
-     * Called when the screen is shown.
-     * Initializes the stage and sets the input processor.
+     * Called each time the screen is shown.
+     * Sets the input processor, since the screen is kept and shown again.
      */
-    @Override public void show() {}
+    @Override public void show() {
+        Gdx.input.setInputProcessor(stage);
+
+        // Drawn lazily: only the levels without a thumbnail yet are requested
+        for(LevelRow row : rows) {
+            requestThumbnail(row);
+        }
+    }
 
     /**
      * Called when the screen is hidden.
@@ -164,10 +283,12 @@ public class LevelSelectScreen implements Screen {
     }
 
     /**
-     * Disposes of the stage and skin resources.
+     * Disposes of the stage, the thumbnails and the background worker.
      */
     @Override public void dispose() {
-        stage.dispose();
+        worker.dispose();
+        thumbnails.dispose();
+        DisposableTracker.dispose(stage);
     }
 
     /**
@@ -11,45 +11,49 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.scenes.scene2d.*;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
-import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import io.github.towerfull.Main;
+import io.github.towerfull.enumElements.ScreenId;
 import io.github.towerfull.gameBoard.GameArea;
 import io.github.towerfull.tools.GameAssets;
 import io.github.towerfull.tools.SaveManager;
+import io.github.towerfull.tools.DisposableTracker;
+
+import java.util.List;
 
 /**
  * LoadScreen is the screen that allows the player to load a previously saved game.
  * It displays a list of saved games with options to load or delete each save.
+ * The screen is kept between two visits: the list is brought up to date when the screen is shown,
+ * building rows only for the new saves, and a deleted save only removes its own row.
  */
 public class LoadScreen extends ScreenAdapter {
     // The main game instance
     private final Main game;
 
     // The stage for rendering UI elements
-    private Stage stage;
+    private final Stage stage;
 
     // The skin used for UI elements
-    private Skin skin;
+    private final Skin skin;
+
+    // The list of saves, one row per save, newest first
+    private final VerticalGroup saveList = new VerticalGroup();
+
+    // The row of each save shown
+    private final ObjectMap<String, Table> rows = new ObjectMap<>();
 
     /**
      * Constructor for LoadScreen.
+     * Sets up the stage and UI elements; the saves are listed when the screen is shown.
      *
      * @param game The main game instance.
      */
     public LoadScreen(Main game) {
         this.game = game;
-    }
-
-    /**
-     * Initializes the screen, setting up the stage and UI elements.
-     */
-    @Override
-    public void show() {
-        stage = new Stage(new ScreenViewport());
-        Gdx.input.setInputProcessor(stage);
-
-        skin = GameAssets.get().skin;
+        this.stage = DisposableTracker.track(this, new Stage(new ScreenViewport()));
+        this.skin = GameAssets.get().skin;
 
         Table root = new Table();
         root.setFillParent(true);
@@ -60,13 +64,15 @@ public class LoadScreen extends ScreenAdapter {
         title.setFontScale(2);
         root.add(title).colspan(3).padBottom(20).row();
 
-        ScrollPane scrollPane = createSaveList();
+        saveList.top().grow();
+        ScrollPane scrollPane = new ScrollPane(saveList, skin);
+        scrollPane.setFadeScrollBars(false);
         root.add(scrollPane).colspan(3).expand().fill().padBottom(20).row();
 
         TextButton backButton = new TextButton("Back", skin);
         backButton.addListener(new ClickListener() {
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new MainMenuScreen(game));
+                game.getScreens().show(ScreenId.MAIN_MENU);
             }
         });
 
@@ -74,51 +80,73 @@ public class LoadScreen extends ScreenAdapter {
     }
 
     /**
-     * Creates a scrollable list of saved games.
-     *
-     * @return A ScrollPane containing the list of saved games.
+     * Brings the list of saves up to date and gives the input to the stage.
+     */
+    @Override
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
+        updateSaveList();
+    }
+
+    /**
+     * Brings the list of saves up to date with the saves on disk.
+     * The rows of the saves already listed are reused, only the new saves get a new row.
      */
-    private ScrollPane createSaveList() {
-        Table saveTable = new Table();
-        saveTable.align(Align.top);
-
-        for(String saveName : SaveManager.getInstance().getSortedSaveNamesNewestFirst()) {
-            Label nameLabel = new Label(saveName, skin);
-            TextButton loadButton = new TextButton("Load", skin);
-            TextButton deleteButton = new TextButton("Delete", skin);
-
-            loadButton.addListener(new ClickListener() {
-                @Override
-                public void clicked(InputEvent event, float x, float y) {
-                    GameArea gameArea = SaveManager.getInstance().getGameArea(saveName);
-                    game.setScreen(new GameScreen(game, gameArea));
-                }
-            });
-
-            deleteButton.addListener(new ClickListener() {
-                @Override
-                public void clicked(InputEvent event, float x, float y) {
-                    SaveManager.getInstance().removeSave(saveName);
-                    refresh(); // Refresh the list after deletion
-                }
-            });
-
-            saveTable.add(nameLabel).left().pad(5);
-            saveTable.add(loadButton).pad(5);
-            saveTable.add(deleteButton).pad(5).row();
+    private void updateSaveList() {
+        List<String> saveNames = SaveManager.getInstance().getSortedSaveNamesNewestFirst();
+
+        // Forget the rows of the saves that no longer exist
+        ObjectMap.Keys<String> shown = rows.keys();
+        while(shown.hasNext()) {
+            if(!saveNames.contains(shown.next())) {
+                shown.remove();
+            }
         }
 
-        ScrollPane scrollPane = new ScrollPane(saveTable, skin);
-        scrollPane.setFadeScrollBars(false);
-        return scrollPane;
+        saveList.clearChildren();
+        for(String saveName : saveNames) {
+            Table row = rows.get(saveName);
+            if(row == null) {
+                row = createRow(saveName);
+                rows.put(saveName, row);
+            }
+            saveList.addActor(row);
+        }
     }
 
     /**
-     * Refreshes the save list by rebuilding the screen.
-     * This is called after a save is deleted to update the displayed list.
+     * Creates the row of a saved game, with its name and the buttons to load or delete it.
+     *
+     * @param saveName The name of the save.
+     * @return The row.
      */
-    private void refresh() {
-        show(); // Rebuild screen
+    private Table createRow(String saveName) {
+        Table row = new Table();
+        Label nameLabel = new Label(saveName, skin);
+        TextButton loadButton = new TextButton("Load", skin);
+        TextButton deleteButton = new TextButton("Delete", skin);
+
+        loadButton.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                GameArea gameArea = SaveManager.getInstance().getGameArea(saveName);
+                game.setScreen(new GameScreen(game, gameArea));
+            }
+        });
+
+        deleteButton.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                SaveManager.getInstance().removeSave(saveName);
+                rows.remove(saveName);
+                row.remove(); // Only this row leaves the list
+            }
+        });
+
+        row.add(nameLabel).expandX().left().pad(5);
+        row.add(loadButton).pad(5);
+        row.add(deleteButton).pad(5);
+        return row;
     }
 
     /**
@@ -134,11 +162,22 @@ public class LoadScreen extends ScreenAdapter {
         stage.draw();
     }
 
+    /**
+     * Resizes the stage viewport to match the new width and height.
+     *
+     * @param width The new width of the screen.
+     * @param height The new height of the screen.
+     */
+    @Override
+    public void resize(int width, int height) {
+        stage.getViewport().update(width, height, true);
+    }
+
     /**
      * This allows us to dispose of the stage
      */
     @Override
     public void dispose() {
-        stage.dispose();
+        DisposableTracker.dispose(stage);
     }
 }
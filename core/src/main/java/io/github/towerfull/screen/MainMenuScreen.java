@@ -15,7 +15,9 @@ import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import io.github.towerfull.Main;
+import io.github.towerfull.enumElements.ScreenId;
 import io.github.towerfull.tools.GameAssets;
+import io.github.towerfull.tools.DisposableTracker;
 
 /**
  * The main menu screen of the game.
@@ -33,8 +35,7 @@ public class MainMenuScreen implements Screen {
      * @param game The main game instance.
      */
     public MainMenuScreen(Main game) {
-        stage = new Stage(new ScreenViewport());
-        Gdx.input.setInputProcessor(stage);
+        stage = DisposableTracker.track(this, new Stage(new ScreenViewport()));
 
         Skin skin = GameAssets.get().skin;
 
@@ -55,13 +56,13 @@ public class MainMenuScreen implements Screen {
 
         startButton.addListener(new ClickListener() {
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new LevelSelectScreen(game));
+                game.getScreens().show(ScreenId.LEVEL_SELECT);
             }
         });
 
         loadButton.addListener(new ClickListener() {
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new LoadScreen(game));
+                game.getScreens().show(ScreenId.LOAD);
             }
         });
 
@@ -88,11 +89,13 @@ public class MainMenuScreen implements Screen {
     }
 
     /**
-     * Called when the screen is first shown.
-     * This method is empty as we don't need to perform any actions on show.
+     * Called each time the screen is shown.
+     * Gives the input to the stage, since the screen is kept and shown again.
      */
     @Override
-    public void show() {}
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
+    }
 
     /**
      * Renders the screen.
@@ -126,7 +129,7 @@ public class MainMenuScreen implements Screen {
      */
     @Override
     public void dispose() {
-        stage.dispose();
+        DisposableTracker.dispose(stage);
     }
 
     /**
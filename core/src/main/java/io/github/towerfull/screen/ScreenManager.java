@@ -0,0 +1,121 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Switches between the screens of the game, keeping the menus and disposing of the others when they are left.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.screen;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.Disposable;
+import io.github.towerfull.Main;
+import io.github.towerfull.enumElements.ScreenId;
+import io.github.towerfull.tools.DisposableTracker;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Owns the screens of the game.
+ * The menu screens are light: each one is built the first time it is shown, then kept and shown again,
+ * so going back and forth between the menus does not build a new stage every time.
+ * The other screens (the game screens) are heavy: they are disposed as soon as they are left,
+ * at the start of the next frame since a screen is often left from its own render (a button clicked),
+ * and the resources they did not dispose of are reported.
+ * The input processor of a screen is set when it is shown, since a kept screen is shown many times.
+ * The menus only change on input, so they are rendered on demand instead of at every vsync.
+ */
+public class ScreenManager implements Disposable {
+    // The main game instance
+    private final Main game;
+
+    // The menu screens built so far
+    private final Map<ScreenId, Screen> menus = new EnumMap<>(ScreenId.class);
+
+    /**
+     * Constructs a screen manager.
+     *
+     * @param game The main game instance.
+     */
+    public ScreenManager(Main game) {
+        this.game = game;
+    }
+
+    /**
+     * Shows a menu screen, building it the first time, and renders it on demand.
+     *
+     * @param id The menu screen to show.
+     */
+    public void show(ScreenId id) {
+        game.setScreen(get(id));
+        Gdx.graphics.setContinuousRendering(false);
+        Gdx.graphics.requestRendering();
+    }
+
+    /**
+     * Gets a menu screen, building it the first time.
+     *
+     * @param id The menu screen.
+     * @return The menu screen.
+     */
+    public Screen get(ScreenId id) {
+        Screen screen = menus.get(id);
+        if(screen == null) {
+            screen = create(id);
+            menus.put(id, screen);
+        }
+        return screen;
+    }
+
+    /**
+     * Builds a menu screen.
+     *
+     * @param id The menu screen.
+     * @return The new screen.
+     */
+    private Screen create(ScreenId id) {
+        switch(id) {
+            case MAIN_MENU: return new MainMenuScreen(game);
+            case LEVEL_SELECT: return new LevelSelectScreen(game);
+            case LOAD: return new LoadScreen(game);
+            case VICTORY: return new VictoryScreen(game);
+            case DEFEAT: return new DefeatScreen(game);
+            default: throw new IllegalArgumentException("Unknown screen: " + id);
+        }
+    }
+
+    /**
+     * Checks if a screen is one of the menus kept by the manager.
+     *
+     * @param screen The screen.
+     * @return true if the screen is kept, false if it is disposed when left.
+     */
+    public boolean isKept(Screen screen) {
+        return menus.containsValue(screen);
+    }
+
+    /**
+     * Releases a screen that was left: a menu screen is kept, any other screen is disposed after the current frame.
+     *
+     * @param screen The screen left.
+     */
+    public void release(Screen screen) {
+        if(isKept(screen)) return;
+        Gdx.app.postRunnable(() -> {
+            screen.dispose();
+            DisposableTracker.report(screen);
+        });
+    }
+
+    /**
+     * Disposes of the menu screens, when the game is closed, and reports what they leaked.
+     */
+    @Override
+    public void dispose() {
+        for(Screen screen : menus.values()) {
+            screen.dispose();
+            DisposableTracker.report(screen);
+        }
+        menus.clear();
+    }
+}
@@ -17,7 +17,9 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import io.github.towerfull.Main;
+import io.github.towerfull.enumElements.ScreenId;
 import io.github.towerfull.tools.GameAssets;
+import io.github.towerfull.tools.DisposableTracker;
 
 /**
  * VictoryScreen is displayed when the player wins a level.
@@ -34,8 +36,7 @@ public class VictoryScreen implements Screen {
      * @param game The main game instance to switch screens.
      */
     public VictoryScreen(Main game){
-        stage = new Stage(new ScreenViewport());
-        Gdx.input.setInputProcessor(stage);
+        stage = DisposableTracker.track(this, new Stage(new ScreenViewport()));
 
         Skin skin = GameAssets.get().skin;
 
@@ -51,7 +52,7 @@ public class VictoryScreen implements Screen {
         chooseLevel.addListener(new ClickListener(){
             @Override
             public void clicked(InputEvent event, float x, float y){
-                game.setScreen(new LevelSelectScreen(game));
+                game.getScreens().show(ScreenId.LEVEL_SELECT);
             }
         });
         table.add(chooseLevel).width(250).pad(10).row();
@@ -60,7 +61,7 @@ public class VictoryScreen implements Screen {
         menu.addListener(new ClickListener(){
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new MainMenuScreen(game));
+                game.getScreens().show(ScreenId.MAIN_MENU);
             }
         });
         table.add(menu).width(250).pad(10).row();
@@ -78,11 +79,15 @@ public class VictoryScreen implements Screen {
     }
 
     /**
-     * This method is called when the screen is first shown.
-     * It can be used to initialize resources or set up the screen.
+     * This method is called each time the screen is shown.
+     * It gives the input to the stage, since the screen is kept and shown again,
+     * and prefetches the textures of the levels likely to be played next.
      */
     @Override
-    public void show() {}
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
+        GameAssets.get().residency.prefetchNext();
+    }
 
     /**
      * This method is called each frame to render the screen.
@@ -136,6 +141,6 @@ public class VictoryScreen implements Screen {
      */
     @Override
     public void dispose() {
-        stage.dispose();
+        DisposableTracker.dispose(stage);
     }
 }
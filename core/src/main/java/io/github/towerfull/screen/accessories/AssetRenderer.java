@@ -5,36 +5,54 @@
 
 package io.github.towerfull.screen.accessories;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import io.github.towerfull.entities.Appearance;
 
 /**
  * A tool we use to render assets in the game, such as towers and other entities.
  * This class handles the rendering of appearances at specified pixel positions.
+ * The appearances are submitted to a render queue, in a layer, and drawn when the queue is flushed;
+ * the opaque ones are drawn without blending.
  */
 public class AssetRenderer {
     /**
-     * The SpriteBatch used for rendering.
-     * It is assumed that the batch is already set up with the correct projection matrix.
+     * The render queue the appearances are submitted to.
      */
-    private final SpriteBatch batch;
+    private final RenderQueue queue;
+
+    /**
+     * The packed colour of the sprites: white, so the textures are drawn as they are.
+     */
+    private static final float WHITE = Color.WHITE.toFloatBits();
 
     /**
      * The width and height of a cell in pixels.
      * This is used to convert logical units to pixel coordinates.
      */
-    private final float cellWidth, cellHeight;
+    private float cellWidth, cellHeight;
 
     /**
-     * Constructs an AssetRenderer with the specified SpriteBatch and cell dimensions.
+     * Constructs an AssetRenderer with the specified render queue and cell dimensions.
      *
-     * @param batch The SpriteBatch used for rendering.
+     * @param queue The render queue the appearances are submitted to.
      * @param cellWidth The width of a cell in pixels.
      * @param cellHeight The height of a cell in pixels.
      */
-    public AssetRenderer(SpriteBatch batch, float cellWidth, float cellHeight) {
-        this.batch = batch;
+    public AssetRenderer(RenderQueue queue, float cellWidth, float cellHeight) {
+        this.queue = queue;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+    }
+
+    /**
+     * Changes the size of a cell, when the window was resized.
+     *
+     * @param cellWidth The width of a cell in pixels.
+     * @param cellHeight The height of a cell in pixels.
+     */
+    public void setCellSize(float cellWidth, float cellHeight) {
         this.cellWidth = cellWidth;
         this.cellHeight = cellHeight;
     }
@@ -43,10 +61,23 @@ public class AssetRenderer {
      * Renders the given appearance at the specified pixel center position.
      * The appearance's width and height are converted from logical units to pixels.
      *
+     * @param layer The layer of the render queue the appearance is drawn in.
+     * @param appearance The appearance to render. If null, nothing is rendered.
+     * @param pixelCenterPos The center position in pixels where the appearance should be drawn.
+     */
+    public void renderAppearance(int layer, Appearance appearance, Vector2 pixelCenterPos) {
+        renderAppearance(layer, appearance, pixelCenterPos, false);
+    }
+
+    /**
+     * Renders the given appearance at the specified pixel center position, with its full or its small texture.
+     *
+     * @param layer The layer of the render queue the appearance is drawn in.
      * @param appearance The appearance to render. If null, nothing is rendered.
      * @param pixelCenterPos The center position in pixels where the appearance should be drawn.
+     * @param small true to draw the small mipmapped copy of the texture, for an entity small on screen.
      */
-    public void renderAppearance(Appearance appearance, Vector2 pixelCenterPos) {
+    public void renderAppearance(int layer, Appearance appearance, Vector2 pixelCenterPos, boolean small) {
         if(appearance == null) return;
 
         // Convert appearance width/height from logical units to pixels
@@ -57,6 +88,8 @@ public class AssetRenderer {
         float drawX = pixelCenterPos.x - width / 2f;
         float drawY = pixelCenterPos.y - height / 2f;
 
-        batch.draw(appearance.getTexture(), drawX, drawY, width, height);
+        Texture texture = small ? appearance.getSmallTexture() : appearance.getTexture();
+        int blend = appearance.isOpaque() ? RenderQueue.OPAQUE : RenderQueue.ALPHA;
+        queue.sprite(layer, blend, texture, drawX, drawY, width, height, WHITE);
     }
 }
@@ -0,0 +1,293 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Moves the camera looking at the game area: pan with a drag or the arrow keys, zoom with the mouse wheel.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.screen.accessories;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * Controls the camera through which the game area is drawn.
+ * The world of the camera is the layout of the game area fitted to the region left of the sidebar:
+ * at zoom 1 the whole map is visible, as before the camera existed. Large maps start zoomed in,
+ * so that a cell is never drawn smaller than DEFAULT_CELL_PIXELS.
+ * The map is dragged with the right or middle mouse button or moved with the arrow keys,
+ * and the mouse wheel zooms around the pointer. The point at the centre of the region is kept on the map.
+ */
+public class CameraController extends InputAdapter {
+    // Smallest size of a cell when a level starts, in pixels
+    private static final float DEFAULT_CELL_PIXELS = 32f;
+
+    // Largest size of a cell when zooming in, in pixels
+    private static final float MAX_CELL_PIXELS = 128f;
+
+    // Zoom change for one notch of the mouse wheel
+    private static final float ZOOM_STEP = 0.1f;
+
+    // Speed of the arrow keys, in screen pixels per second
+    private static final float PAN_SPEED = 600f;
+
+    // Longest frame time used to move with the arrow keys, in seconds
+    private static final float MAX_PAN_DELTA = 0.1f;
+
+    // The camera, covering the whole window
+    private final OrthographicCamera camera = new OrthographicCamera();
+
+    // The map in world coordinates, and the size of a cell at zoom 1
+    private final Rectangle map = new Rectangle();
+    private float cellSize = 1f;
+
+    // The size of the window, and of the region where the game area is drawn (left of the sidebar)
+    private float screenWidth, screenHeight;
+    private float regionWidth, regionHeight;
+
+    // The world point shown at the centre of the region
+    private final Vector2 focus = new Vector2();
+
+    // The zoom limits: below 1 is zoomed in
+    private float minZoom = 1f;
+
+    // The last position of the pointer while dragging, and the button dragging (-1 if none)
+    private int lastX, lastY;
+    private int dragButton = -1;
+
+    // Number of times the camera moved, telling the renderer when a cached frame is outdated
+    private int changeCount = 0;
+
+    // Scratch vector for the conversions
+    private final Vector3 scratch = new Vector3();
+
+    /**
+     * Sets up the camera for a new size of the window, showing the whole map at the default zoom.
+     *
+     * @param screenWidth  The width of the window.
+     * @param screenHeight The height of the window.
+     * @param regionWidth  The width of the region where the game area is drawn.
+     * @param mapX         The left of the map at zoom 1.
+     * @param mapY         The bottom of the map at zoom 1.
+     * @param mapWidth     The width of the map at zoom 1.
+     * @param mapHeight    The height of the map at zoom 1.
+     * @param cellSize     The size of a cell at zoom 1.
+     */
+    public void resize(float screenWidth, float screenHeight, float regionWidth,
+                       float mapX, float mapY, float mapWidth, float mapHeight, float cellSize) {
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.regionWidth = regionWidth;
+        this.regionHeight = screenHeight;
+        this.map.set(mapX, mapY, mapWidth, mapHeight);
+        this.cellSize = cellSize;
+
+        camera.setToOrtho(false, screenWidth, screenHeight);
+        minZoom = Math.min(1f, cellSize / MAX_CELL_PIXELS);
+        camera.zoom = MathUtils.clamp(cellSize / DEFAULT_CELL_PIXELS, minZoom, 1f);
+        map.getCenter(focus);
+        apply();
+    }
+
+    /**
+     * Moves the camera with the arrow keys. Called every frame.
+     *
+     * @param delta The time since the last frame.
+     * @return true if the camera moved, so another frame is needed while the keys are held.
+     */
+    public boolean update(float delta) {
+        float dx = 0f;
+        float dy = 0f;
+        if(Gdx.input.isKeyPressed(Input.Keys.LEFT)) dx -= 1f;
+        if(Gdx.input.isKeyPressed(Input.Keys.RIGHT)) dx += 1f;
+        if(Gdx.input.isKeyPressed(Input.Keys.DOWN)) dy -= 1f;
+        if(Gdx.input.isKeyPressed(Input.Keys.UP)) dy += 1f;
+        if(dx == 0f && dy == 0f) return false;
+
+        // Without continuous rendering, the time since the last frame may be long: the step is bounded
+        float distance = PAN_SPEED * Math.min(delta, MAX_PAN_DELTA) * camera.zoom;
+        focus.add(dx * distance, dy * distance);
+        apply();
+        return true;
+    }
+
+    /**
+     * Zooms around the pointer, keeping the world point under it in place.
+     *
+     * @param amountX The horizontal scroll, ignored.
+     * @param amountY The vertical scroll, positive to zoom out.
+     * @return true if the pointer is over the game area.
+     */
+    @Override
+    public boolean scrolled(float amountX, float amountY) {
+        int screenX = Gdx.input.getX();
+        int screenY = Gdx.input.getY();
+        if(!isInRegion(screenX, screenY)) return false;
+
+        Vector3 pointer = unproject(screenX, screenY);
+        float pointerX = pointer.x;
+        float pointerY = pointer.y;
+
+        float zoom = MathUtils.clamp(camera.zoom * (1f + ZOOM_STEP * amountY), minZoom, 1f);
+        float ratio = zoom / camera.zoom;
+        focus.set(pointerX + (focus.x - pointerX) * ratio, pointerY + (focus.y - pointerY) * ratio);
+        camera.zoom = zoom;
+        apply();
+        return true;
+    }
+
+    /**
+     * Starts dragging the map with the right or middle mouse button.
+     *
+     * @param screenX The x position of the pointer.
+     * @param screenY The y position of the pointer.
+     * @param pointer The pointer.
+     * @param button  The button pressed.
+     * @return true if a drag started.
+     */
+    @Override
+    public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        if(button != Input.Buttons.RIGHT && button != Input.Buttons.MIDDLE) return false;
+        if(!isInRegion(screenX, screenY)) return false;
+
+        dragButton = button;
+        lastX = screenX;
+        lastY = screenY;
+        return true;
+    }
+
+    /**
+     * Moves the map with the pointer while dragging.
+     *
+     * @param screenX The x position of the pointer.
+     * @param screenY The y position of the pointer.
+     * @param pointer The pointer.
+     * @return true if the map is being dragged.
+     */
+    @Override
+    public boolean touchDragged(int screenX, int screenY, int pointer) {
+        if(dragButton < 0) return false;
+
+        // Screen y goes down, world y goes up
+        focus.add(-(screenX - lastX) * camera.zoom, (screenY - lastY) * camera.zoom);
+        lastX = screenX;
+        lastY = screenY;
+        apply();
+        return true;
+    }
+
+    /**
+     * Stops dragging the map.
+     *
+     * @param screenX The x position of the pointer.
+     * @param screenY The y position of the pointer.
+     * @param pointer The pointer.
+     * @param button  The button released.
+     * @return true if a drag ended.
+     */
+    @Override
+    public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+        if(button != dragButton) return false;
+        dragButton = -1;
+        return true;
+    }
+
+    /**
+     * Keeps the focus on the map and places the camera so that the focus is at the centre of the region.
+     */
+    private void apply() {
+        focus.x = MathUtils.clamp(focus.x, map.x, map.x + map.width);
+        focus.y = MathUtils.clamp(focus.y, map.y, map.y + map.height);
+
+        // The camera is centred on the window, the region is on its left
+        camera.position.set(
+            focus.x - (regionWidth / 2f - screenWidth / 2f) * camera.zoom,
+            focus.y - (regionHeight / 2f - screenHeight / 2f) * camera.zoom,
+            0f
+        );
+        camera.update();
+        ++changeCount;
+    }
+
+    /**
+     * Converts a position on the screen to world coordinates.
+     *
+     * @param screenX The x position, from the left of the window.
+     * @param screenY The y position, from the top of the window.
+     * @return The world position, in a scratch vector.
+     */
+    public Vector3 unproject(float screenX, float screenY) {
+        return camera.unproject(scratch.set(screenX, screenY, 0f), 0f, 0f, screenWidth, screenHeight);
+    }
+
+    /**
+     * Checks if a position on the screen is within the region where the game area is drawn.
+     *
+     * @param screenX The x position, from the left of the window.
+     * @param screenY The y position, from the top of the window.
+     * @return true if the position is in the region, false if it is over the sidebar or outside the window.
+     */
+    public boolean isInRegion(float screenX, float screenY) {
+        return screenX >= 0 && screenX < regionWidth && screenY >= 0 && screenY < regionHeight;
+    }
+
+    /**
+     * Computes the cells visible in the region, clamped to the map.
+     * The bounds are inclusive and may be empty (min greater than max) if the map is not visible.
+     *
+     * @param out The rectangle receiving the first column and row, and the number of columns and rows.
+     * @return The out rectangle.
+     */
+    public Rectangle getVisibleCells(Rectangle out) {
+        float halfWidth = regionWidth * camera.zoom / 2f;
+        float halfHeight = regionHeight * camera.zoom / 2f;
+
+        int cols = Math.round(map.width / cellSize);
+        int rows = Math.round(map.height / cellSize);
+        int minX = Math.max(0, MathUtils.floor((focus.x - halfWidth - map.x) / cellSize));
+        int minY = Math.max(0, MathUtils.floor((focus.y - halfHeight - map.y) / cellSize));
+        int maxX = Math.min(cols - 1, MathUtils.floor((focus.x + halfWidth - map.x) / cellSize));
+        int maxY = Math.min(rows - 1, MathUtils.floor((focus.y + halfHeight - map.y) / cellSize));
+        return out.set(minX, minY, maxX - minX + 1, maxY - minY + 1);
+    }
+
+    /**
+     * Gets the number of times the camera moved or was resized.
+     *
+     * @return The number of changes so far.
+     */
+    public int getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Gets the camera.
+     *
+     * @return The camera.
+     */
+    public OrthographicCamera getCamera() {
+        return camera;
+    }
+
+    /**
+     * Gets the width of the region where the game area is drawn.
+     *
+     * @return The width in pixels.
+     */
+    public float getRegionWidth() {
+        return regionWidth;
+    }
+
+    /**
+     * Gets the height of the region where the game area is drawn.
+     *
+     * @return The height in pixels.
+     */
+    public float getRegionHeight() {
+        return regionHeight;
+    }
+}
@@ -40,6 +40,13 @@ public class ConstructionMenu extends Table {
     // Map to hold buttons for each TowerType
     private final EnumMap<TowerType, TextButton> buttons = new EnumMap<>(TowerType.class);
 
+    // The tower types sorted by cost, and their costs in the same order (the affordability thresholds)
+    private final TowerType[] sortedTypes;
+    private final int[] sortedCosts;
+
+    // The number of tower types affordable with the last gold amount (-1 before the first update)
+    private int affordableCount = -1;
+
     /**
      * Constructs a ConstructionMenu with the specified skin and listener.
      *
@@ -60,8 +67,13 @@ public class ConstructionMenu extends Table {
             .sorted(java.util.Comparator.comparingInt(type -> GameAssets.get().towerFactory.getPrototype(type).getCost()))
             .collect(java.util.stream.Collectors.toList());
 
-        for(TowerType type : sortedTypes) {
+        this.sortedTypes = sortedTypes.toArray(new TowerType[0]);
+        this.sortedCosts = new int[this.sortedTypes.length];
+
+        for(int i = 0; i < this.sortedTypes.length; ++i) {
+            TowerType type = this.sortedTypes[i];
             Tower prototype = GameAssets.get().towerFactory.getPrototype(type);
+            sortedCosts[i] = prototype.getCost();
             String label = type.name() + " (" + prototype.getCost() + "g)";
             TextButton btn = new TextButton(label, skin);
             btn.addListener(new ClickListener() {
@@ -100,6 +112,49 @@ public class ConstructionMenu extends Table {
         }
     }
 
+    /**
+     * Updates the enabled state of the buttons for a new amount of gold.
+     * The number of affordable towers is found by a binary search in the sorted costs,
+     * and only the buttons whose threshold was crossed since the last update are touched.
+     *
+     * @param gold The amount of gold the player has.
+     */
+    public void updateAffordability(int gold) {
+        int count = countAffordable(gold);
+        if(count == affordableCount) return;
+
+        if(affordableCount < 0) {
+            for(int i = 0; i < sortedTypes.length; ++i) {
+                setEnabled(sortedTypes[i], i < count);
+            }
+        } else {
+            for(int i = Math.min(count, affordableCount); i < Math.max(count, affordableCount); ++i) {
+                setEnabled(sortedTypes[i], i < count);
+            }
+        }
+        affordableCount = count;
+    }
+
+    /**
+     * Counts the tower types whose cost is at most the given amount of gold.
+     *
+     * @param gold The amount of gold.
+     * @return The number of affordable tower types, which are the first ones in the sorted order.
+     */
+    private int countAffordable(int gold) {
+        int low = 0;
+        int high = sortedCosts.length;
+        while(low < high) {
+            int mid = (low + high) >>> 1;
+            if(sortedCosts[mid] <= gold) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     /**
      * Sets the scale of all buttons in the menu.
      *
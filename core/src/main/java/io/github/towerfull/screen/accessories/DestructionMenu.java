@@ -10,6 +10,7 @@ import com.badlogic.gdx.scenes.scene2d.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.Align;
 import io.github.towerfull.entities.defenses.BuildSpot;
+import io.github.towerfull.gameBoard.RenderSnapshot;
 import io.github.towerfull.listener.DestructionListener;
 
 /**
@@ -20,8 +21,9 @@ public class DestructionMenu extends Table {
     // Label to display information about the selected tower
     private final Label infoLabel;
 
-    // The current build spot that the menu is associated with
+    // The current build spot that the menu is associated with, and its index in the snapshots
     private BuildSpot currentSpot;
+    private int currentIndex = -1;
 
     /**
      * The constructor for the DestructionMenu.
@@ -63,24 +65,39 @@ public class DestructionMenu extends Table {
 
     /**
      * Shows the destruction menu for a specific tower at the given build spot.
+     * The caller checks that the spot holds a tower; if it was sold meanwhile, selling it again does nothing.
      * @param spot the build spot where the tower is located
+     * @param index the index of the build spot, in the snapshots of the game area
      * @param labelText optional label text to display
      */
-    public void showForTower(BuildSpot spot, String labelText) {
-        if(spot == null || !spot.isUsed()) {
+    public void showForTower(BuildSpot spot, int index, String labelText) {
+        if(spot == null) {
             hide();
             return;
         }
         this.currentSpot = spot;
+        this.currentIndex = index;
         this.infoLabel.setText(labelText != null ? labelText : "Tower Selected");
         setVisible(true);
     }
 
+    /**
+     * Hides the menu if the tower it was shown for does not exist anymore, as seen in a snapshot.
+     * This method is called when a new snapshot was published, not every frame.
+     * @param snapshot the latest snapshot of the game area
+     */
+    public void refresh(RenderSnapshot snapshot) {
+        if(currentSpot != null && !snapshot.isSpotBuilt(currentIndex)) {
+            hide();
+        }
+    }
+
     /**
      * Hides the destruction menu.
      */
     public void hide() {
         this.currentSpot = null;
+        this.currentIndex = -1;
         setVisible(false);
     }
 
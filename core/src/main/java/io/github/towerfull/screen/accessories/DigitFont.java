@@ -0,0 +1,101 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Draws whole numbers straight from the cached glyphs of the digits of a font, without building strings.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.screen.accessories;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Draws non-negative whole numbers, such as damage numbers, with the digits of a bitmap font.
+ * The glyphs of the ten digits are looked up once; a number is split into digits by division
+ * and each digit is drawn as a quad of the font texture, so no string, layout or glyph run is created per number.
+ */
+public class DigitFont {
+    // Most digits in an int
+    private static final int MAX_DIGITS = 10;
+
+    // The texture of the font page holding the digits
+    private final Texture texture;
+
+    // For each digit: texture coordinates, size, offset from the pen and advance of the pen, in font units
+    private final float[] u = new float[10], v = new float[10], u2 = new float[10], v2 = new float[10];
+    private final float[] width = new float[10], height = new float[10];
+    private final float[] offsetX = new float[10], offsetY = new float[10];
+    private final float[] advance = new float[10];
+
+    // The height of the digits, and the middle of the digits relative to the pen, in font units
+    private final float digitHeight;
+    private final float middleY;
+
+    // Scratch for the digits of the number being drawn, from the last one
+    private final int[] digits = new int[MAX_DIGITS];
+
+    /**
+     * Caches the digits of a font. The digits must all be on the same page of the font.
+     *
+     * @param font The font.
+     */
+    public DigitFont(BitmapFont font) {
+        BitmapFont.BitmapFontData data = font.getData();
+        BitmapFont.Glyph zero = data.getGlyph('0');
+        if(zero == null) throw new GdxRuntimeException("The font has no digits");
+        this.texture = font.getRegion(zero.page).getTexture();
+        this.digitHeight = Math.max(1f, Math.abs(zero.height));
+        this.middleY = zero.yoffset + zero.height / 2f;
+
+        for(int d = 0; d < 10; ++d) {
+            BitmapFont.Glyph glyph = data.getGlyph((char) ('0' + d));
+            if(glyph == null || glyph.page != zero.page) throw new GdxRuntimeException("Missing digit " + d);
+            u[d] = glyph.u;
+            v[d] = glyph.v;
+            u2[d] = glyph.u2;
+            v2[d] = glyph.v2;
+            width[d] = glyph.width;
+            height[d] = glyph.height;
+            offsetX[d] = glyph.xoffset;
+            offsetY[d] = glyph.yoffset;
+            advance[d] = glyph.xadvance;
+        }
+    }
+
+    /**
+     * Draws a number centred on a point, submitting its digits to a render queue.
+     *
+     * @param queue   The render queue.
+     * @param layer   The layer of the digits.
+     * @param value   The number, negative numbers are drawn as 0.
+     * @param centerX The x position of the centre of the number.
+     * @param centerY The y position of the centre of the number.
+     * @param size    The height of the digits.
+     * @param color   The packed colour of the digits.
+     */
+    public void draw(RenderQueue queue, int layer, int value, float centerX, float centerY, float size, float color) {
+        int count = 0;
+        int rest = Math.max(0, value);
+        do {
+            digits[count++] = rest % 10;
+            rest /= 10;
+        } while(rest > 0);
+
+        float scale = size / digitHeight;
+        float total = 0f;
+        for(int i = 0; i < count; ++i) {
+            total += advance[digits[i]];
+        }
+
+        float penX = centerX - total * scale / 2f;
+        float baseY = centerY - middleY * scale;
+        for(int i = count - 1; i >= 0; --i) {
+            int d = digits[i];
+            queue.sprite(layer, RenderQueue.ALPHA, texture,
+                penX + offsetX[d] * scale, baseY + offsetY[d] * scale,
+                width[d] * scale, height[d] * scale,
+                u[d], v[d], u2[d], v2[d], color);
+            penX += advance[d] * scale;
+        }
+    }
+}
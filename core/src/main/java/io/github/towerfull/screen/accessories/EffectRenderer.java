@@ -0,0 +1,306 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Draws the shots and the tower ranges with dedicated meshes, shaped and faded by their shaders.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.screen.accessories;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.github.towerfull.tools.DisposableTracker;
+
+import java.util.Arrays;
+
+/**
+ * Draws the shots of the towers and the ranges of the towers, each kind with its own mesh and shader.
+ * The CPU only writes the raw data of each shot or tower into the vertices of a quad:
+ * a shot gives its ends, thickness and firing time, and its vertex shader builds the thick line
+ * and fades it out from the firing time, so no colour or geometry is computed per shot.
+ * A range gives its centre, radius and hue, and its fragment shader draws the disk as a signed distance
+ * with a smooth edge, instead of a circle tessellated into triangles, and computes its colour from the hue.
+ * Each frame costs one upload of the vertices and one draw call per kind.
+ * OpenGL ES 2 has no instancing, so the data of each shot or tower is repeated on the four vertices of its quad.
+ */
+public class EffectRenderer implements Disposable {
+    // The most quads in a mesh, so that the vertex indices fit in shorts
+    private static final int MAX_QUADS = 16383;
+
+    // Floats per vertex of a shot: from (x, y), to (x, y), corner (along, side), thickness and firing time
+    private static final int SHOT_VERTEX = 8;
+
+    // Floats per vertex of a range: centre (x, y), corner (x, y), radius and hue
+    private static final int RANGE_VERTEX = 6;
+
+    // The opacity of the inside of a range
+    private static final float RANGE_ALPHA = 0.15f;
+
+    // The corners of a quad: along the shot (0 or 1) or across the disk (-1 or 1), then across the shot or the disk
+    private static final float[] SHOT_CORNERS = { 0f, 1f, 1f, 1f, 1f, -1f, 0f, -1f };
+    private static final float[] RANGE_CORNERS = { -1f, -1f, -1f, 1f, 1f, 1f, 1f, -1f };
+
+    private static final String SHOT_VERTEX_SHADER =
+        "attribute vec2 a_from;\n"
+            + "attribute vec2 a_to;\n"
+            + "attribute vec2 a_corner;\n"
+            + "attribute float a_thickness;\n"
+            + "attribute float a_time;\n"
+            + "uniform mat4 u_projTrans;\n"
+            + "uniform float u_time;\n"
+            + "uniform float u_lifetime;\n"
+            + "varying float v_alpha;\n"
+            + "void main() {\n"
+            + "    vec2 dir = a_to - a_from;\n"
+            + "    vec2 normal = vec2(-dir.y, dir.x) / max(length(dir), 0.0001);\n"
+            + "    vec2 pos = a_from + dir * a_corner.x + normal * a_corner.y * a_thickness * 0.5;\n"
+            + "    v_alpha = max(0.2, 1.0 - (u_time - a_time) / u_lifetime);\n"
+            + "    gl_Position = u_projTrans * vec4(pos, 0.0, 1.0);\n"
+            + "}\n";
+    private static final String SHOT_FRAGMENT_SHADER =
+        "#ifdef GL_ES\n"
+            + "precision mediump float;\n"
+            + "#endif\n"
+            + "varying float v_alpha;\n"
+            + "void main() {\n"
+            + "    gl_FragColor = vec4(1.0, 0.1, 0.1, v_alpha);\n"
+            + "}\n";
+
+    private static final String RANGE_VERTEX_SHADER =
+        "attribute vec2 a_center;\n"
+            + "attribute vec2 a_corner;\n"
+            + "attribute float a_radius;\n"
+            + "attribute float a_hue;\n"
+            + "uniform mat4 u_projTrans;\n"
+            + "uniform float u_pixelsPerUnit;\n"
+            + "varying vec2 v_local;\n"
+            + "varying vec3 v_color;\n"
+            + "varying float v_edge;\n"
+            + "void main() {\n"
+            + "    vec3 k = mod(vec3(5.0, 3.0, 1.0) + a_hue * 6.0, 6.0);\n"
+            + "    v_color = 1.0 - 0.4 * clamp(min(k, 4.0 - k), 0.0, 1.0);\n"
+            + "    v_local = a_corner;\n"
+            + "    v_edge = 1.5 / max(a_radius * u_pixelsPerUnit, 1.0);\n"
+            + "    gl_Position = u_projTrans * vec4(a_center + a_corner * a_radius, 0.0, 1.0);\n"
+            + "}\n";
+    private static final String RANGE_FRAGMENT_SHADER =
+        "#ifdef GL_ES\n"
+            + "precision mediump float;\n"
+            + "#endif\n"
+            + "uniform float u_alpha;\n"
+            + "varying vec2 v_local;\n"
+            + "varying vec3 v_color;\n"
+            + "varying float v_edge;\n"
+            + "void main() {\n"
+            + "    float distance = length(v_local);\n"
+            + "    gl_FragColor = vec4(v_color, u_alpha * (1.0 - smoothstep(1.0 - v_edge, 1.0, distance)));\n"
+            + "}\n";
+
+    // The meshes, and the shaders drawing them
+    private Mesh shotMesh, rangeMesh;
+    private final ShaderProgram shotShader, rangeShader;
+
+    // The vertices of the current frame, and the number of quads in them
+    private float[] shotVertices = new float[64 * 4 * SHOT_VERTEX];
+    private float[] rangeVertices = new float[16 * 4 * RANGE_VERTEX];
+    private int shots = 0, ranges = 0;
+
+    /**
+     * Constructs an effect renderer, compiling its shaders.
+     */
+    public EffectRenderer() {
+        shotShader = compile(SHOT_VERTEX_SHADER, SHOT_FRAGMENT_SHADER);
+        rangeShader = compile(RANGE_VERTEX_SHADER, RANGE_FRAGMENT_SHADER);
+        shotMesh = createShotMesh(64);
+        rangeMesh = createRangeMesh(16);
+    }
+
+    /**
+     * Compiles a shader.
+     *
+     * @param vertex   The source of the vertex shader.
+     * @param fragment The source of the fragment shader.
+     * @return The shader.
+     */
+    private static ShaderProgram compile(String vertex, String fragment) {
+        ShaderProgram shader = new ShaderProgram(vertex, fragment);
+        if(!shader.isCompiled()) {
+            throw new GdxRuntimeException("Effect shader: " + shader.getLog());
+        }
+        return DisposableTracker.track(shader);
+    }
+
+    /**
+     * Creates the mesh of the shots.
+     *
+     * @param quads The number of shots it holds.
+     * @return The mesh.
+     */
+    private static Mesh createShotMesh(int quads) {
+        return withIndices(new Mesh(false, quads * 4, quads * 6,
+            new VertexAttribute(VertexAttributes.Usage.Generic, 2, "a_from"),
+            new VertexAttribute(VertexAttributes.Usage.Generic, 2, "a_to"),
+            new VertexAttribute(VertexAttributes.Usage.Generic, 2, "a_corner"),
+            new VertexAttribute(VertexAttributes.Usage.Generic, 1, "a_thickness"),
+            new VertexAttribute(VertexAttributes.Usage.Generic, 1, "a_time")), quads);
+    }
+
+    /**
+     * Creates the mesh of the ranges.
+     *
+     * @param quads The number of ranges it holds.
+     * @return The mesh.
+     */
+    private static Mesh createRangeMesh(int quads) {
+        return withIndices(new Mesh(false, quads * 4, quads * 6,
+            new VertexAttribute(VertexAttributes.Usage.Generic, 2, "a_center"),
+            new VertexAttribute(VertexAttributes.Usage.Generic, 2, "a_corner"),
+            new VertexAttribute(VertexAttributes.Usage.Generic, 1, "a_radius"),
+            new VertexAttribute(VertexAttributes.Usage.Generic, 1, "a_hue")), quads);
+    }
+
+    /**
+     * Sets the indices of a mesh of quads, two triangles per quad. The indices never change.
+     *
+     * @param mesh  The mesh.
+     * @param quads The number of quads of the mesh.
+     * @return The mesh.
+     */
+    private static Mesh withIndices(Mesh mesh, int quads) {
+        short[] indices = new short[quads * 6];
+        for(int quad = 0, i = 0; quad < quads; ++quad, i += 6) {
+            short first = (short) (quad * 4);
+            indices[i] = first;
+            indices[i + 1] = (short) (first + 1);
+            indices[i + 2] = (short) (first + 2);
+            indices[i + 3] = (short) (first + 2);
+            indices[i + 4] = (short) (first + 3);
+            indices[i + 5] = first;
+        }
+        mesh.setIndices(indices);
+        return DisposableTracker.track(mesh);
+    }
+
+    /**
+     * Adds a shot to the current frame. Shots beyond the capacity of a mesh are ignored.
+     *
+     * @param fromX     The x position of the start.
+     * @param fromY     The y position of the start.
+     * @param toX       The x position of the end.
+     * @param toY       The y position of the end.
+     * @param thickness The thickness of the line.
+     * @param time      The simulation time when the shot was fired.
+     */
+    public void addShot(float fromX, float fromY, float toX, float toY, float thickness, float time) {
+        if(shots == MAX_QUADS) return;
+        if((shots + 1) * 4 * SHOT_VERTEX > shotVertices.length) {
+            shotVertices = Arrays.copyOf(shotVertices, shotVertices.length * 2);
+        }
+
+        int i = shots * 4 * SHOT_VERTEX;
+        for(int corner = 0; corner < 4; ++corner, i += SHOT_VERTEX) {
+            shotVertices[i] = fromX;
+            shotVertices[i + 1] = fromY;
+            shotVertices[i + 2] = toX;
+            shotVertices[i + 3] = toY;
+            shotVertices[i + 4] = SHOT_CORNERS[2 * corner];
+            shotVertices[i + 5] = SHOT_CORNERS[2 * corner + 1];
+            shotVertices[i + 6] = thickness;
+            shotVertices[i + 7] = time;
+        }
+        ++shots;
+    }
+
+    /**
+     * Adds a tower range to the current frame. Ranges beyond the capacity of a mesh are ignored.
+     *
+     * @param centerX The x position of the centre.
+     * @param centerY The y position of the centre.
+     * @param radius  The radius.
+     * @param hue     The hue of the range, between 0 and 1.
+     */
+    public void addRange(float centerX, float centerY, float radius, float hue) {
+        if(ranges == MAX_QUADS) return;
+        if((ranges + 1) * 4 * RANGE_VERTEX > rangeVertices.length) {
+            rangeVertices = Arrays.copyOf(rangeVertices, rangeVertices.length * 2);
+        }
+
+        int i = ranges * 4 * RANGE_VERTEX;
+        for(int corner = 0; corner < 4; ++corner, i += RANGE_VERTEX) {
+            rangeVertices[i] = centerX;
+            rangeVertices[i + 1] = centerY;
+            rangeVertices[i + 2] = RANGE_CORNERS[2 * corner];
+            rangeVertices[i + 3] = RANGE_CORNERS[2 * corner + 1];
+            rangeVertices[i + 4] = radius;
+            rangeVertices[i + 5] = hue;
+        }
+        ++ranges;
+    }
+
+    /**
+     * Draws the ranges added since the last call, blended over what is already drawn.
+     *
+     * @param projection    The projection of the camera.
+     * @param pixelsPerUnit The size on screen of one unit of the projection, in pixels.
+     */
+    public void drawRanges(Matrix4 projection, float pixelsPerUnit) {
+        if(ranges == 0) return;
+        if(rangeMesh.getMaxVertices() < ranges * 4) {
+            DisposableTracker.dispose(rangeMesh);
+            rangeMesh = createRangeMesh(Math.min(MAX_QUADS, Math.max(ranges, rangeMesh.getMaxVertices() / 2)));
+        }
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        rangeShader.bind();
+        rangeShader.setUniformMatrix("u_projTrans", projection);
+        rangeShader.setUniformf("u_pixelsPerUnit", pixelsPerUnit);
+        rangeShader.setUniformf("u_alpha", RANGE_ALPHA);
+        rangeMesh.setVertices(rangeVertices, 0, ranges * 4 * RANGE_VERTEX);
+        rangeMesh.render(rangeShader, GL20.GL_TRIANGLES, 0, ranges * 6);
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+        ranges = 0;
+    }
+
+    /**
+     * Draws the shots added since the last call, blended over what is already drawn.
+     *
+     * @param projection The projection of the camera.
+     * @param time       The current simulation time.
+     * @param lifetime   The time a shot is shown, in seconds.
+     */
+    public void drawShots(Matrix4 projection, float time, float lifetime) {
+        if(shots == 0) return;
+        if(shotMesh.getMaxVertices() < shots * 4) {
+            DisposableTracker.dispose(shotMesh);
+            shotMesh = createShotMesh(Math.min(MAX_QUADS, Math.max(shots, shotMesh.getMaxVertices() / 2)));
+        }
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        shotShader.bind();
+        shotShader.setUniformMatrix("u_projTrans", projection);
+        shotShader.setUniformf("u_time", time);
+        shotShader.setUniformf("u_lifetime", lifetime);
+        shotMesh.setVertices(shotVertices, 0, shots * 4 * SHOT_VERTEX);
+        shotMesh.render(shotShader, GL20.GL_TRIANGLES, 0, shots * 6);
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+        shots = 0;
+    }
+
+    /**
+     * Disposes of the meshes and of the shaders.
+     */
+    @Override
+    public void dispose() {
+        DisposableTracker.dispose(shotMesh);
+        DisposableTracker.dispose(rangeMesh);
+        DisposableTracker.dispose(shotShader);
+        DisposableTracker.dispose(rangeShader);
+    }
+}
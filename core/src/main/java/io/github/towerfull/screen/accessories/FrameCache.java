@@ -0,0 +1,101 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Keeps a composed frame in a frame buffer, to draw it again without composing it again.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.screen.accessories;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.utils.Disposable;
+import io.github.towerfull.tools.DisposableTracker;
+
+/**
+ * A frame composed once and drawn many times.
+ * While nothing changes (a paused game), the frame is drawn from the frame buffer, a single textured quad,
+ * instead of being composed again from all the layers. The owner tells when the frame is outdated;
+ * the frame buffer follows the size of the window.
+ */
+public class FrameCache implements Disposable {
+    // The frame buffer holding the frame, null until the first frame is composed
+    private FrameBuffer frameBuffer;
+
+    // Draws the frame on the screen
+    private final SpriteBatch batch = DisposableTracker.track(new SpriteBatch(1));
+
+    // Whether the frame in the frame buffer is up to date
+    private boolean valid = false;
+
+    /**
+     * Checks if the frame in the frame buffer can be drawn again.
+     *
+     * @return true if the frame is up to date.
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Marks the frame as outdated: the next frame is composed again.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Starts composing the frame into the frame buffer, created or resized to the window first.
+     * The frame buffer is cleared in black.
+     */
+    public void begin() {
+        int width = Gdx.graphics.getBackBufferWidth();
+        int height = Gdx.graphics.getBackBufferHeight();
+        if(frameBuffer == null || frameBuffer.getWidth() != width || frameBuffer.getHeight() != height) {
+            DisposableTracker.dispose(frameBuffer);
+            frameBuffer = DisposableTracker.track(new FrameBuffer(Pixmap.Format.RGB888, width, height, false));
+        }
+
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+    }
+
+    /**
+     * Stops composing the frame: it is up to date until invalidated.
+     */
+    public void end() {
+        frameBuffer.end();
+        valid = true;
+    }
+
+    /**
+     * Draws the frame on the whole window, without blending.
+     */
+    public void draw() {
+        if(frameBuffer == null) return;
+
+        int width = Gdx.graphics.getBackBufferWidth();
+        int height = Gdx.graphics.getBackBufferHeight();
+        Texture texture = frameBuffer.getColorBufferTexture();
+
+        batch.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+        batch.disableBlending();
+        batch.begin();
+        // The frame buffer is upside down
+        batch.draw(texture, 0, 0, width, height, 0, 0, texture.getWidth(), texture.getHeight(), false, true);
+        batch.end();
+    }
+
+    /**
+     * Disposes of the frame buffer and the batch.
+     */
+    @Override
+    public void dispose() {
+        DisposableTracker.dispose(frameBuffer);
+        DisposableTracker.dispose(batch);
+        frameBuffer = null;
+    }
+}
@@ -15,7 +15,7 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import io.github.towerfull.entities.defenses.BuildSpot;
 import io.github.towerfull.enumElements.TowerType;
 import io.github.towerfull.listener.DestructionListener;
-import io.github.towerfull.tools.SaveManager;
+import io.github.towerfull.tools.DisposableTracker;
 
 /**
  * GameUI is responsible for managing the user interface of the game,
@@ -47,11 +47,15 @@ public class GameUI {
     private final Label goldLabel;
     private final Label lifeLabel;
 
+    // Label displaying the last hint of the auto player
+    private final Label hintLabel;
+
     // Buttons for saving the game, accessing the menu, quitting, and pausing/resuming
     private final TextButton saveButton;
     private final TextButton menuButton;
     private final TextButton quitButton;
     private final TextButton pauseResumeButton;
+    private final TextButton hintButton;
 
     // Constants for button text
     private static final String PAUSE_BUTTON_TEXT = "Pause";
@@ -71,7 +75,7 @@ public class GameUI {
      * @param controller The controller that manages game logic and interactions.
      */
     public GameUI(Skin skin, Viewport viewport, UiController controller) {
-        this.stage = new Stage(viewport);
+        this.stage = DisposableTracker.track(new Stage(viewport));
         this.root = new Table();
         this.root.setFillParent(true);
         this.stage.addActor(root);
@@ -82,11 +86,14 @@ public class GameUI {
 
         goldLabel = new Label("Gold: 0", skin);
         lifeLabel = new Label("Life: 0", skin);
+        hintLabel = new Label("", skin);
+        hintLabel.setWrap(true);
 
         saveButton = new TextButton("Save", skin);
         menuButton = new TextButton("Menu", skin);
         quitButton = new TextButton("Quit", skin);
         pauseResumeButton = new TextButton(isPaused ? RESUME_BUTTON_TEXT : PAUSE_BUTTON_TEXT, skin);
+        hintButton = new TextButton("Hint", skin);
 
         constructionMenu = createConstructionMenu();
         constructionMenuContainer = new Container<>(constructionMenu);
@@ -110,9 +117,17 @@ public class GameUI {
 
     /**
      * Sets up listeners for the buttons in the UI.
-     * This includes pause/resume, save, menu, and quit actions.
+     * This includes pause/resume, hint, save, menu, and quit actions.
      */
     private void setupListeners() {
+        hintButton.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, Actor actor) {
+                hintLabel.setText("Thinking...");
+                controller.requestHint(hintLabel::setText);
+            }
+        });
+
         pauseResumeButton.addListener(new ChangeListener() {
             @Override
             public void changed(ChangeEvent event, Actor actor) {
@@ -125,7 +140,7 @@ public class GameUI {
         saveButton.addListener(new ChangeListener() {
             @Override
             public void changed(ChangeEvent event, Actor actor) {
-                SaveManager.getInstance().saveGameWithTimestamp(controller.getGameArea());
+                controller.saveGame();
             }
         });
 
@@ -156,6 +171,8 @@ public class GameUI {
         sideBar.add(goldLabel).left().row();
 
         sideBar.add(pauseResumeButton).width(100).height(20).left().row();
+        sideBar.add(hintButton).width(100).height(20).left().row();
+        sideBar.add(hintLabel).width(getSidebarWidth() - 20).left().row();
         sideBar.add(saveButton).width(100).height(20).left().row();
         sideBar.add(menuButton).width(100).height(20).left().row();
         sideBar.add(quitButton).width(100).height(20).left().row();
@@ -245,7 +262,7 @@ public class GameUI {
      * This method should be called when the game is closed or the UI is no longer needed.
      */
     public void dispose() {
-        stage.dispose();
+        DisposableTracker.dispose(stage);
     }
 
     /**
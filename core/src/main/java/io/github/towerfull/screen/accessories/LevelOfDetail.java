@@ -0,0 +1,129 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Chooses how much detail an entity is drawn with, from its size on screen and the time taken to render.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.screen.accessories;
+
+/**
+ * Chooses the level of detail of the entities drawn by the game renderer.
+ * An entity large on screen is drawn with its full texture, a smaller one with the small mipmapped copy
+ * of its texture, and one only a few pixels wide as a quad of its average colour, all quads in one pass.
+ * In adaptive mode, the size thresholds grow while rendering the game area takes longer than the budget,
+ * so that a crowded or zoomed out map lowers its detail before it lowers the frame rate,
+ * and shrink back once rendering is fast again. The render time is measured by the renderer itself:
+ * the time between two frames includes the wait for the vertical sync, and only tells the refresh rate.
+ */
+public class LevelOfDetail {
+    /**
+     * The levels of detail, from the most detailed.
+     */
+    public enum Tier {
+        FULL, SMALL, POINT
+    }
+
+    // Smallest size on screen of an entity drawn with its full texture, in pixels
+    private static final float FULL_PIXELS = 24f;
+
+    // Smallest size on screen of an entity drawn with its small texture, in pixels
+    private static final float SMALL_PIXELS = 8f;
+
+    // Render time above which the detail is lowered, in seconds: half a frame at 60 Hz, leaving the rest
+    // to the simulation, the interface and the driver
+    private static final float RENDER_BUDGET = 1f / 120f;
+
+    // Fraction of the budget below which the detail is raised back
+    private static final float RAISE_FRACTION = 0.9f;
+
+    // Factor applied to the thresholds by each step of lowered detail, and the number of steps
+    private static final float STEP_FACTOR = 1.5f;
+    private static final int MAX_STEPS = 4;
+
+    // Time between two changes of the detail, so that one change shows in the render time before the next
+    private static final float COOLDOWN = 0.5f;
+
+    // Weight of the last frame in the smoothed render time
+    private static final float SMOOTHING = 0.1f;
+
+    // Whether the detail follows the render time
+    private boolean adaptive = true;
+
+    // The smoothed render time, in seconds
+    private float renderTime = 0f;
+
+    // The number of steps the detail is lowered by, its factor on the thresholds, and the time since the last change
+    private int steps = 0;
+    private float bias = 1f;
+    private float sinceChange = 0f;
+
+    /**
+     * Takes the render time of the last frame into account, lowering or raising the detail in adaptive mode.
+     *
+     * @param render The time taken to render the last frame, in seconds.
+     * @param delta  The time since the previous frame, in seconds, only used to space the changes.
+     */
+    public void update(float render, float delta) {
+        renderTime += (render - renderTime) * SMOOTHING;
+        sinceChange += delta;
+        if(!adaptive || sinceChange < COOLDOWN) return;
+
+        if(renderTime > RENDER_BUDGET && steps < MAX_STEPS) {
+            setSteps(steps + 1);
+        } else if(renderTime < RENDER_BUDGET * RAISE_FRACTION && steps > 0) {
+            setSteps(steps - 1);
+        }
+    }
+
+    /**
+     * Sets the number of steps the detail is lowered by.
+     *
+     * @param steps The number of steps.
+     */
+    private void setSteps(int steps) {
+        this.steps = steps;
+        this.bias = (float) Math.pow(STEP_FACTOR, steps);
+        this.sinceChange = 0f;
+    }
+
+    /**
+     * Chooses the level of detail of an entity.
+     *
+     * @param pixels The size of the entity on screen, in pixels.
+     * @return The level of detail.
+     */
+    public Tier select(float pixels) {
+        if(pixels >= FULL_PIXELS * bias) return Tier.FULL;
+        if(pixels >= SMALL_PIXELS * bias) return Tier.SMALL;
+        return Tier.POINT;
+    }
+
+    /**
+     * Turns the adaptive mode on or off. Turning it off restores the full detail.
+     *
+     * @param adaptive true to follow the render time.
+     */
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+        if(!adaptive) {
+            setSteps(0);
+        }
+    }
+
+    /**
+     * Checks if the adaptive mode is on.
+     *
+     * @return true if the detail follows the render time.
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Gets the number of steps the detail is currently lowered by.
+     *
+     * @return The number of steps, 0 for the full detail.
+     */
+    public int getSteps() {
+        return steps;
+    }
+}
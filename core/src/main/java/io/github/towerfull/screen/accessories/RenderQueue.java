@@ -0,0 +1,384 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Collects the sprites and shapes of a frame, sorts them by layer, blending and texture, and draws them in one pass.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.screen.accessories;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import io.github.towerfull.tools.DisposableTracker;
+
+import java.util.Arrays;
+
+/**
+ * A queue of drawing commands, flushed once per frame through a single sprite batch.
+ * Every command is a textured quad: sprites use their texture, rectangles and lines use a white pixel
+ * tinted with the colour of the command. Each command is submitted with a layer
+ * and a blend mode, and its four vertices are written straight away, so a command is stored as its sort key
+ * and the vertices the batch takes as they are.
+ * On flush, the keys are sorted by layer, then blend mode, then texture, then order of submission:
+ * the layers are drawn in order, and within a layer the commands sharing a blend mode and a texture are drawn
+ * together, so the batch only flushes when the blending or the texture really has to change.
+ * The layers whose drawing order matters, such as sprites overlapping by depth, can keep the order of submission:
+ * their commands are only sorted by layer and index, and switch blending and texture as often as they need.
+ * A frame can also be drawn in several parts, flushing the layers up to a given one, so that passes drawn
+ * outside of the batch can go between two layers; the commands are then all submitted before the first part.
+ * The counters of the last frame tell how many draw calls, texture binds and blending switches it took.
+ */
+public class RenderQueue implements Disposable {
+    /**
+     * Blend mode of the commands drawn without blending, whose pixels are all opaque.
+     */
+    public static final int OPAQUE = 0;
+
+    /**
+     * Blend mode of the commands drawn with alpha blending.
+     */
+    public static final int ALPHA = 1;
+
+    // Largest number of sprites in one draw call of the batch
+    private static final int BATCH_SIZE = 8191;
+
+    // Floats per command: four vertices of position (x, y), packed colour and texture coordinates (u, v)
+    private static final int COMMAND_SIZE = 20;
+
+    // Bits of the sort key: layer, blend mode, texture, then the index of the command (order of submission)
+    private static final int LAYER_SHIFT = 48;
+    private static final int BLEND_SHIFT = 47;
+    private static final int TEXTURE_SHIFT = 32;
+    private static final int MAX_TEXTURE_ID = (1 << (BLEND_SHIFT - TEXTURE_SHIFT)) - 1;
+    private static final long INDEX_MASK = 0xFFFFFFFFL;
+
+    // The batch drawing the commands
+    private final SpriteBatch batch = DisposableTracker.track(new SpriteBatch(BATCH_SIZE));
+
+    // The texture of the shapes: a white pixel
+    private final Texture whitePixel;
+
+    // The layers keeping the order of submission, one bit per layer
+    private long orderedLayers = 0L;
+
+    // The commands: sort keys, textures, blend modes, and vertices
+    private long[] keys = new long[1024];
+    private Texture[] textures = new Texture[1024];
+    private byte[] blends = new byte[1024];
+    private float[] vertices = new float[1024 * COMMAND_SIZE];
+    private int count = 0;
+
+    // The index in the sorted keys of the next command to draw, when the frame is drawn in parts
+    private int next = 0;
+
+    // A number for each texture of the frame, used in the sort keys, in order of first use.
+    // It is emptied with the queue, so it never holds on to a texture unloaded since
+    private final ObjectIntMap<Texture> textureIds = new ObjectIntMap<>();
+
+    // The counters of the last frame
+    private int drawCalls, textureBinds, blendSwitches, commands;
+
+    /**
+     * Constructs a render queue, with its batch and the texture of its shapes.
+     */
+    public RenderQueue() {
+        Pixmap pixel = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixel.setColor(Color.WHITE);
+        pixel.fill();
+        whitePixel = DisposableTracker.track(new Texture(pixel));
+        pixel.dispose();
+    }
+
+    /**
+     * Makes a layer keep the order of submission of its commands, instead of grouping them by blending and texture.
+     *
+     * @param layer The layer, between 0 and 63.
+     */
+    public void keepOrder(int layer) {
+        orderedLayers |= 1L << layer;
+    }
+
+    /**
+     * Queues a whole texture drawn in a rectangle.
+     *
+     * @param layer   The layer of the command, lower layers are drawn first.
+     * @param blend   The blend mode, OPAQUE or ALPHA.
+     * @param texture The texture.
+     * @param x       The left of the rectangle.
+     * @param y       The bottom of the rectangle.
+     * @param width   The width of the rectangle.
+     * @param height  The height of the rectangle.
+     * @param color   The packed colour tinting the texture.
+     */
+    public void sprite(int layer, int blend, Texture texture, float x, float y, float width, float height, float color) {
+        sprite(layer, blend, texture, x, y, width, height, 0f, 1f, 1f, 0f, color);
+    }
+
+    /**
+     * Queues a part of a texture drawn in a rectangle.
+     *
+     * @param layer   The layer of the command, lower layers are drawn first.
+     * @param blend   The blend mode, OPAQUE or ALPHA.
+     * @param texture The texture.
+     * @param x       The left of the rectangle.
+     * @param y       The bottom of the rectangle.
+     * @param width   The width of the rectangle.
+     * @param height  The height of the rectangle.
+     * @param u       The texture coordinate of the left.
+     * @param v       The texture coordinate of the bottom.
+     * @param u2      The texture coordinate of the right.
+     * @param v2      The texture coordinate of the top.
+     * @param color   The packed colour tinting the texture.
+     */
+    public void sprite(int layer, int blend, Texture texture, float x, float y, float width, float height,
+                       float u, float v, float u2, float v2, float color) {
+        int i = push(layer, blend, texture);
+        float x2 = x + width;
+        float y2 = y + height;
+        vertex(i, x, y, color, u, v);
+        vertex(i + 5, x, y2, color, u, v2);
+        vertex(i + 10, x2, y2, color, u2, v2);
+        vertex(i + 15, x2, y, color, u2, v);
+    }
+
+    /**
+     * Queues a filled rectangle.
+     *
+     * @param layer  The layer of the command, lower layers are drawn first.
+     * @param blend  The blend mode, OPAQUE or ALPHA.
+     * @param x      The left of the rectangle.
+     * @param y      The bottom of the rectangle.
+     * @param width  The width of the rectangle.
+     * @param height The height of the rectangle.
+     * @param color  The packed colour of the rectangle.
+     */
+    public void rect(int layer, int blend, float x, float y, float width, float height, float color) {
+        sprite(layer, blend, whitePixel, x, y, width, height, color);
+    }
+
+    /**
+     * Queues the outline of a rectangle, drawn inside the rectangle.
+     *
+     * @param layer     The layer of the command, lower layers are drawn first.
+     * @param x         The left of the rectangle.
+     * @param y         The bottom of the rectangle.
+     * @param width     The width of the rectangle.
+     * @param height    The height of the rectangle.
+     * @param thickness The thickness of the outline.
+     * @param color     The packed colour of the outline, opaque.
+     */
+    public void outline(int layer, float x, float y, float width, float height, float thickness, float color) {
+        rect(layer, OPAQUE, x, y, width, thickness, color);
+        rect(layer, OPAQUE, x, y + height - thickness, width, thickness, color);
+        rect(layer, OPAQUE, x, y + thickness, thickness, height - 2f * thickness, color);
+        rect(layer, OPAQUE, x + width - thickness, y + thickness, thickness, height - 2f * thickness, color);
+    }
+
+    /**
+     * Queues a thick line.
+     *
+     * @param layer     The layer of the command, lower layers are drawn first.
+     * @param blend     The blend mode, OPAQUE or ALPHA.
+     * @param x0        The x position of the start.
+     * @param y0        The y position of the start.
+     * @param x1        The x position of the end.
+     * @param y1        The y position of the end.
+     * @param thickness The thickness of the line.
+     * @param color     The packed colour of the line.
+     */
+    public void line(int layer, int blend, float x0, float y0, float x1, float y1, float thickness, float color) {
+        float dx = x1 - x0;
+        float dy = y1 - y0;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+        if(length == 0f) return;
+
+        // Half the thickness, perpendicular to the line
+        float nx = -dy / length * thickness / 2f;
+        float ny = dx / length * thickness / 2f;
+
+        int i = push(layer, blend, whitePixel);
+        vertex(i, x0 + nx, y0 + ny, color, 0f, 1f);
+        vertex(i + 5, x1 + nx, y1 + ny, color, 0f, 0f);
+        vertex(i + 10, x1 - nx, y1 - ny, color, 1f, 0f);
+        vertex(i + 15, x0 - nx, y0 - ny, color, 1f, 1f);
+    }
+
+    /**
+     * Adds a command, growing the arrays if needed.
+     *
+     * @param layer   The layer of the command.
+     * @param blend   The blend mode of the command.
+     * @param texture The texture of the command.
+     * @return The index of the first float of the vertices of the command.
+     */
+    private int push(int layer, int blend, Texture texture) {
+        if(count == keys.length) {
+            keys = Arrays.copyOf(keys, count * 2);
+            textures = Arrays.copyOf(textures, count * 2);
+            blends = Arrays.copyOf(blends, count * 2);
+            vertices = Arrays.copyOf(vertices, count * 2 * COMMAND_SIZE);
+        }
+
+        int textureId = textureIds.get(texture, -1);
+        if(textureId < 0) {
+            // Past the bits of the key, the last textures share a number: they are only grouped less well
+            textureId = Math.min(textureIds.size, MAX_TEXTURE_ID);
+            textureIds.put(texture, textureId);
+        }
+
+        long key = ((long) layer << LAYER_SHIFT) | count;
+        if(layer >= 64 || (orderedLayers & (1L << layer)) == 0) {
+            key |= ((long) blend << BLEND_SHIFT) | ((long) textureId << TEXTURE_SHIFT);
+        }
+        keys[count] = key;
+        textures[count] = texture;
+        blends[count] = (byte) blend;
+        return count++ * COMMAND_SIZE;
+    }
+
+    /**
+     * Writes a vertex of a command.
+     *
+     * @param i     The index of the first float of the vertex.
+     * @param x     The x position.
+     * @param y     The y position.
+     * @param color The packed colour.
+     * @param u     The horizontal texture coordinate.
+     * @param v     The vertical texture coordinate.
+     */
+    private void vertex(int i, float x, float y, float color, float u, float v) {
+        vertices[i] = x;
+        vertices[i + 1] = y;
+        vertices[i + 2] = color;
+        vertices[i + 3] = u;
+        vertices[i + 4] = v;
+    }
+
+    /**
+     * Sorts the queued commands, draws them through a camera, and empties the queue.
+     *
+     * @param projection The projection of the camera.
+     */
+    public void flush(Matrix4 projection) {
+        flush(projection, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Draws the queued commands up to a layer through a camera. The commands of the next layers stay queued,
+     * for the next call; the queue is empty once all layers are drawn.
+     *
+     * @param projection The projection of the camera.
+     * @param lastLayer  The last layer to draw.
+     */
+    public void flush(Matrix4 projection, int lastLayer) {
+        // The first part of a frame sorts the commands and resets the counters
+        if(next == 0) {
+            Arrays.sort(keys, 0, count);
+            drawCalls = 0;
+            textureBinds = 0;
+            blendSwitches = 0;
+            commands = count;
+        }
+
+        int end = next;
+        while(end < count && (keys[end] >>> LAYER_SHIFT) <= lastLayer) {
+            ++end;
+        }
+        if(end == next) {
+            finishFrame();
+            return;
+        }
+
+        batch.setProjectionMatrix(projection);
+        batch.enableBlending();
+        batch.begin();
+
+        int blend = ALPHA;
+        Texture texture = null;
+        for(int k = next; k < end; ++k) {
+            int index = (int) (keys[k] & INDEX_MASK);
+
+            int commandBlend = blends[index];
+            if(commandBlend != blend) {
+                blend = commandBlend;
+                if(blend == OPAQUE) {
+                    batch.disableBlending();
+                } else {
+                    batch.enableBlending();
+                }
+                ++blendSwitches;
+            }
+            if(textures[index] != texture) {
+                texture = textures[index];
+                ++textureBinds;
+            }
+
+            batch.draw(texture, vertices, index * COMMAND_SIZE, COMMAND_SIZE);
+            textures[index] = null;
+        }
+
+        batch.end();
+        drawCalls += batch.renderCalls;
+        next = end;
+        finishFrame();
+    }
+
+    /**
+     * Empties the queue once all its commands are drawn, with the numbers of its textures.
+     */
+    private void finishFrame() {
+        if(next == count) {
+            next = 0;
+            count = 0;
+            textureIds.clear();
+        }
+    }
+
+    /**
+     * Gets the number of draw calls of the last frame.
+     *
+     * @return The number of draw calls.
+     */
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    /**
+     * Gets the number of texture changes of the last frame, each binding a texture.
+     *
+     * @return The number of texture binds.
+     */
+    public int getTextureBinds() {
+        return textureBinds;
+    }
+
+    /**
+     * Gets the number of blending changes of the last frame.
+     *
+     * @return The number of blending switches.
+     */
+    public int getBlendSwitches() {
+        return blendSwitches;
+    }
+
+    /**
+     * Gets the number of commands drawn by the last frame.
+     *
+     * @return The number of commands.
+     */
+    public int getCommandCount() {
+        return commands;
+    }
+
+    /**
+     * Disposes of the batch and of the texture of the shapes.
+     */
+    @Override
+    public void dispose() {
+        DisposableTracker.dispose(batch);
+        DisposableTracker.dispose(whitePixel);
+    }
+}
@@ -6,48 +6,63 @@
 
 package io.github.towerfull.screen.accessories;
 
+import com.badlogic.gdx.Gdx;
+import io.github.towerfull.enumElements.ScreenId;
 import io.github.towerfull.Main;
 import io.github.towerfull.entities.defenses.BuildSpot;
 import io.github.towerfull.entities.defenses.Tower;
 import io.github.towerfull.enumElements.TowerType;
 import io.github.towerfull.gameBoard.GameArea;
+import io.github.towerfull.gameBoard.SimulationThread;
 import io.github.towerfull.listener.GoldListener;
 import io.github.towerfull.listener.LifeListener;
 import io.github.towerfull.tools.GameAssets;
+import io.github.towerfull.tools.SaveManager;
+import io.github.towerfull.tools.ai.AutoPlayer;
 
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import static java.lang.Math.max;
 
 /**
  * A central controller for managing the construction and destruction of towers,
  * as well as handling game state changes like gold and life updates.
+ * Every action modifying the game area is sent to the simulation thread as a GameCommand.
  */
 public class UiController {
     // The spot where the current tower is being built or managed.
     private BuildSpot currentSpot;
 
     // Callbacks for gold and life changes, allowing external components to react to these changes.
-    private Consumer<Integer> goldChangedCallback;
-    private Consumer<Integer> lifeChangedCallback;
+    // They take primitive values, so delivering a change never boxes it
+    private IntConsumer goldChangedCallback;
+    private IntConsumer lifeChangedCallback;
 
     // The game area where the construction takes place, providing access to economy and game state.
     private final GameArea gameArea;
 
+    // The simulation running the game area, which executes the player's actions.
+    private final SimulationThread simulation;
+
     // Reference to the main game instance, used for screen transitions and other game-wide actions.
     private final Main game;
 
+    // The computer player suggesting actions when the player asks for a hint, created on the first request.
+    private AutoPlayer hintPlayer;
+
     /**
-     * Constructs a ConstructionController for managing tower construction in the specified game area.
+     * Constructs a ConstructionController for managing tower construction in the specified simulation.
      *
-     * @param gameArea The game area where towers can be constructed.
+     * @param simulation The simulation running the game area where towers can be constructed.
      * @param game The main game instance for screen management and other actions.
      */
-    public UiController(GameArea gameArea, Main game) {
-        this.gameArea = gameArea;
+    public UiController(SimulationThread simulation, Main game) {
+        this.simulation = simulation;
+        this.gameArea = simulation.getGameArea();
         this.game = game;
 
-        gameArea.getEconomyManager().addListener(new GoldListener() {
+        gameArea.getEventBus().addGoldListener(new GoldListener() {
             @Override
             public void onGoldChanged(int newGold) {
                 if(goldChangedCallback != null) {
@@ -71,7 +86,7 @@ public class UiController {
      *
      * @param callback The callback to invoke with the new gold amount.
      */
-    public void setGoldListener(Consumer<Integer> callback) {
+    public void setGoldListener(IntConsumer callback) {
         this.goldChangedCallback = callback;
     }
 
@@ -80,7 +95,7 @@ public class UiController {
      *
      * @param callback The callback to invoke with the new life amount.
      */
-    public void setLifeListener(Consumer<Integer> callback) {
+    public void setLifeListener(IntConsumer callback) {
         this.lifeChangedCallback = callback;
     }
 
@@ -105,12 +120,16 @@ public class UiController {
      * @param menu The construction menu that was used for selection.
      */
     public void handleSelection(TowerType type, ConstructionMenu menu) {
-        if(currentSpot != null && !currentSpot.isUsed()) {
-            Tower t = GameAssets.get().towerFactory.create(type);
-            if(t != null && gameArea.getEconomyManager().spendGold(t.getCost())) {
-                currentSpot.setTower(t);
-                currentSpot.setUsed(true);
-            }
+        BuildSpot spot = currentSpot;
+        if(spot != null) {
+            simulation.submit(area -> {
+                if(spot.isUsed()) return;
+
+                Tower t = GameAssets.get().towerFactory.create(type);
+                if(t != null && area.getEconomyManager().spendGold(t.getCost())) {
+                    area.buildTower(spot, t);
+                }
+            });
         }
         currentSpot = null;
         menu.setVisible(false);
@@ -132,16 +151,16 @@ public class UiController {
      * @param paused True to pause the game, false to resume.
      */
     public void setPaused(boolean paused) {
-        gameArea.setPaused(paused);
+        simulation.submit(area -> area.setPaused(paused));
     }
 
     /**
-     * Checks if the game area is currently paused.
+     * Checks if the game area is currently paused, as published in its latest snapshot.
      *
      * @return True if the game area is paused, false otherwise.
      */
     public boolean isPaused() {
-        return gameArea.isPaused();
+        return simulation.getSnapshot().isPaused();
     }
 
     /**
@@ -153,23 +172,31 @@ public class UiController {
         return gameArea;
     }
 
+    /**
+     * Saves a copy of the game area, taken on the simulation thread between two ticks.
+     */
+    public void saveGame() {
+        simulation.submit(area -> {
+            GameArea copy = area.clone();
+            Gdx.app.postRunnable(() -> SaveManager.getInstance().saveGameWithTimestamp(copy));
+        });
+    }
+
     /**
      * Exits to the main menu of the game.
      */
     public void exitToMenu() {
-        game.setScreen(new io.github.towerfull.screen.MainMenuScreen(game));
+        game.getScreens().show(ScreenId.MAIN_MENU);
     }
 
     /**
-     * Updates the enabled state of buttons in the construction menu based on the current economy.
+     * Updates the enabled state of buttons in the construction menu based on the gold of the latest snapshot.
+     * Buttons are only touched when the gold crossed the cost of a tower since the last update.
      *
      * @param menu The construction menu to update.
      */
     public void updateMenuButtons(ConstructionMenu menu) {
-        for(TowerType type : TowerType.values()) {
-            Tower t = GameAssets.get().towerFactory.getPrototype(type);
-            menu.setEnabled(type, gameArea.getEconomyManager().canAfford(t.getCost()));
-        }
+        menu.updateAffordability(simulation.getSnapshot().getGold());
     }
 
     /**
@@ -178,11 +205,45 @@ public class UiController {
      * @param spot The build spot where the tower is located.
      */
     public void sellTower(BuildSpot spot) {
-        Tower tower = spot.getTower();
-        if(tower != null) {
-            int refund = max(tower.getCost() / 2,0);
-            gameArea.getEconomyManager().earnGold(refund);
-            spot.setUsed(false);
+        simulation.submit(area -> {
+            Tower tower = spot.getTower();
+            if(tower != null) {
+                int refund = max(tower.getCost() / 2,0);
+                area.getEconomyManager().earnGold(refund);
+                area.removeTower(spot);
+            }
+        });
+    }
+
+    /**
+     * Asks the auto player for the best action in the current state of the game area.
+     * A snapshot is taken on the simulation thread, then the search runs on the threads of the auto player,
+     * so neither the simulation nor the rendering wait for it.
+     *
+     * @param callback Called on the render thread with the description of the suggested action.
+     */
+    public void requestHint(Consumer<String> callback) {
+        if(hintPlayer == null) {
+            hintPlayer = new AutoPlayer(GameAssets.get().towerFactory);
+        }
+        AutoPlayer player = hintPlayer;
+
+        simulation.submit(area -> {
+            GameArea snapshot = area.snapshot();
+            player.decideAsync(snapshot, action -> {
+                String hint = action.describe(snapshot);
+                Gdx.app.postRunnable(() -> callback.accept(hint));
+            });
+        });
+    }
+
+    /**
+     * Stops the threads of the auto player, if a hint was ever requested.
+     */
+    public void dispose() {
+        if(hintPlayer != null) {
+            hintPlayer.dispose();
+            hintPlayer = null;
         }
     }
 }
@@ -0,0 +1,114 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Runs slow work off the render thread, and hands its result back to the render thread.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.tools;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Disposable;
+import io.github.towerfull.tools.log.Log;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs slow work (generating a level, reading or drawing an image) on a background thread,
+ * so that a screen opens and stays responsive while the work is done.
+ * The work runs in the order it was submitted; its result is handed to the render thread,
+ * which is the only one allowed to touch the textures and the actors. Once the worker is disposed,
+ * the work not started yet is dropped and the results still to come are ignored, after being disposed of
+ * when they are Disposable (such as a Pixmap), since nobody else will.
+ */
+public class BackgroundWorker implements Disposable {
+    // The thread running the work
+    private final ExecutorService executor;
+
+    // Set when the worker is disposed, so late results are dropped (render thread only)
+    private boolean disposed = false;
+
+    /**
+     * Constructs a background worker, with its thread.
+     *
+     * @param name The name of the thread.
+     */
+    public BackgroundWorker(String name) {
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs work on the background thread, then hands its result to the render thread.
+     * If the work fails, the failure is logged and the result is never handed.
+     *
+     * @param work   The work, run on the background thread.
+     * @param onDone Receives the result, on the render thread.
+     * @param <T>    The type of the result.
+     */
+    public <T> void submit(Supplier<T> work, Consumer<T> onDone) {
+        submit(work, onDone, null);
+    }
+
+    /**
+     * Runs work on the background thread, then hands its result to the render thread.
+     * If the work fails, the failure is logged and the failure callback is called instead, on the render thread.
+     *
+     * @param work     The work, run on the background thread.
+     * @param onDone   Receives the result, on the render thread.
+     * @param onFailed Called on the render thread if the work failed, may be null.
+     * @param <T>      The type of the result.
+     */
+    public <T> void submit(Supplier<T> work, Consumer<T> onDone, Runnable onFailed) {
+        if(disposed) return;
+
+        executor.execute(() -> {
+            T result;
+            try {
+                result = work.get();
+            } catch (RuntimeException e) {
+                Log.error("BackgroundWorker", "Background work failed", e);
+                if(onFailed != null) {
+                    Gdx.app.postRunnable(() -> {
+                        if(!disposed) onFailed.run();
+                    });
+                }
+                return;
+            }
+
+            Gdx.app.postRunnable(() -> {
+                if(disposed) {
+                    drop(result);
+                    return;
+                }
+                onDone.accept(result);
+                // The screen may be rendered on demand: the result needs a frame to be seen
+                Gdx.graphics.requestRendering();
+            });
+        });
+    }
+
+    /**
+     * Drops a result arriving after the worker was disposed, disposing of it if it holds resources.
+     *
+     * @param result The result, may be null.
+     */
+    private static void drop(Object result) {
+        if(result instanceof Disposable) {
+            ((Disposable) result).dispose();
+        }
+    }
+
+    /**
+     * Stops the thread. The work not started yet is dropped, the results of the work in progress are disposed of.
+     */
+    @Override
+    public void dispose() {
+        disposed = true;
+        executor.shutdownNow();
+    }
+}
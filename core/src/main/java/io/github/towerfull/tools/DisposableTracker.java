@@ -0,0 +1,160 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Keeps track of the native resources created by the screens, and reports the ones a screen leaves undisposed.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.tools;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IdentityMap;
+import io.github.towerfull.tools.log.Log;
+
+/**
+ * Keeps track of the libGDX resources holding native memory (batches, meshes, shaders, textures, stages),
+ * to find the ones that are never disposed.
+ * Each tracked resource belongs to a scope, usually a screen: the scope entered while the resource is created,
+ * or else the active scope, the screen currently shown. A resource is forgotten when it is disposed through
+ * the tracker. When a screen is left, the resources of its scope that are still alive are reported,
+ * with where they were created, then forgotten so they are only reported once.
+ * This only concerns the render thread, which creates and disposes all of these resources.
+ */
+public final class DisposableTracker {
+    /**
+     * A tracked resource: its scope, and where it was created.
+     */
+    private static final class Entry {
+        // The scope the resource belongs to, null for the resources of the whole game
+        final Object scope;
+
+        // Where the resource was created
+        final StackTraceElement site;
+
+        /**
+         * Constructs an entry.
+         *
+         * @param scope The scope the resource belongs to.
+         * @param site  Where the resource was created.
+         */
+        Entry(Object scope, StackTraceElement site) {
+            this.scope = scope;
+            this.site = site;
+        }
+    }
+
+    // The resources alive, by identity
+    private static final IdentityMap<Disposable, Entry> live = new IdentityMap<>();
+
+    // The scopes entered, the last one being the current one
+    private static final Array<Object> scopes = new Array<>();
+
+    // The scope of the resources created outside of any entered scope
+    private static Object activeScope = null;
+
+    // Scratch list of the resources reported
+    private static final Array<Disposable> reported = new Array<>();
+
+    /**
+     * The tracker only has static methods.
+     */
+    private DisposableTracker() {}
+
+    /**
+     * Starts creating the resources of a scope, for instance at the start of the constructor of a screen.
+     *
+     * @param scope The scope.
+     */
+    public static void enter(Object scope) {
+        scopes.add(scope);
+    }
+
+    /**
+     * Stops creating the resources of the current scope.
+     */
+    public static void exit() {
+        scopes.pop();
+    }
+
+    /**
+     * Sets the scope of the resources created outside of any entered scope: the screen shown.
+     *
+     * @param scope The scope, or null for the whole game.
+     */
+    public static void setActiveScope(Object scope) {
+        activeScope = scope;
+    }
+
+    /**
+     * Tracks a resource, in the current scope.
+     *
+     * @param resource The resource.
+     * @param <T>      The type of the resource.
+     * @return The resource.
+     */
+    public static <T extends Disposable> T track(T resource) {
+        Object scope = scopes.size > 0 ? scopes.peek() : activeScope;
+        StackTraceElement[] stack = new Throwable().getStackTrace();
+        live.put(resource, new Entry(scope, stack.length > 1 ? stack[1] : null));
+        return resource;
+    }
+
+    /**
+     * Tracks a resource, in a given scope.
+     *
+     * @param scope    The scope, for instance the screen being constructed.
+     * @param resource The resource.
+     * @param <T>      The type of the resource.
+     * @return The resource.
+     */
+    public static <T extends Disposable> T track(Object scope, T resource) {
+        StackTraceElement[] stack = new Throwable().getStackTrace();
+        live.put(resource, new Entry(scope, stack.length > 1 ? stack[1] : null));
+        return resource;
+    }
+
+    /**
+     * Disposes of a resource and forgets it.
+     *
+     * @param resource The resource, may be null.
+     */
+    public static void dispose(Disposable resource) {
+        if(resource == null) return;
+        live.remove(resource);
+        resource.dispose();
+    }
+
+    /**
+     * Reports the resources of a scope that are still alive, then forgets them.
+     *
+     * @param scope The scope, usually a screen that was left.
+     * @return The number of resources reported.
+     */
+    public static int report(Object scope) {
+        reported.clear();
+        for(IdentityMap.Entry<Disposable, Entry> entry : live) {
+            if(entry.value.scope == scope) {
+                reported.add(entry.key);
+            }
+        }
+
+        String owner = scope == null ? "the game" : scope.getClass().getSimpleName();
+        for(Disposable resource : reported) {
+            Log.error("DisposableTracker", "{} leaks a {}", owner,
+                resource.getClass().getSimpleName() + " created at " + live.get(resource).site);
+            live.remove(resource);
+        }
+
+        int count = reported.size;
+        reported.clear();
+        return count;
+    }
+
+    /**
+     * Gets the number of resources alive.
+     *
+     * @return The number of tracked resources not disposed yet.
+     */
+    public static int size() {
+        return live.size;
+    }
+}
@@ -8,7 +8,8 @@ package io.github.towerfull.tools;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.Array;
@@ -30,6 +31,7 @@ import io.github.towerfull.tools.loader.TowerPrototypeLoader;
 import io.github.towerfull.tools.loader.WavePrototypeLoader;
 import io.github.towerfull.entities.*;
 import io.github.towerfull.tools.data.*;
+import io.github.towerfull.tools.log.Log;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -43,6 +45,9 @@ public class GameAssets {
     // Singleton instance
     private static final GameAssets instance = new GameAssets();
 
+    // Memory the textures of the appearances may take on the graphics card, in bytes
+    public static final long TEXTURE_BUDGET = 48L << 20;
+
     // Factories for creating game entities
     public final PrototypeFactory<MonsterType, Monster> monsterFactory = new PrototypeFactory<>();
     public final PrototypeFactory<TowerType, Tower> towerFactory = new PrototypeFactory<>();
@@ -54,6 +59,9 @@ public class GameAssets {
     public final Map<AppearanceId, Appearance> appearances = new HashMap<>();
     public final Map<BackgroundId, Background> backgrounds = new HashMap<>();
 
+    // Loads the textures of the appearances a level needs, and unloads the others to stay within the budget
+    public final TextureResidencyManager residency = new TextureResidencyManager(TEXTURE_BUDGET);
+
     // Skin for the game's UI
     public Skin skin;
 
@@ -84,14 +92,32 @@ public class GameAssets {
         Json json = new Json();
 
         loadAppearances(json);
+        loadBackgrounds(json);
+        loadSimulationData(json);
+        loadMusic();
+        loadSkin();
+    }
+
+    /**
+     * Loads only what the simulation needs: towers, monsters, waves, scenarios and levels.
+     * Nothing is uploaded to the graphics card, so this can be used by the headless benchmarks;
+     * without the appearances and backgrounds, the prototypes and levels are loaded without them.
+     */
+    public void loadSimulationData() {
+        loadSimulationData(new Json());
+    }
+
+    /**
+     * Loads the towers, monsters, waves, scenarios and levels, in the order of their dependencies.
+     *
+     * @param json the Json instance used for deserialization
+     */
+    private void loadSimulationData(Json json) {
         loadTowers();
         loadMonsters();
         loadWaves();
         loadScenarios();
-        loadBackgrounds(json);
         loadLevels(json);
-        loadMusic();
-        loadSkin();
     }
 
     /**
@@ -101,9 +127,9 @@ public class GameAssets {
     private void loadSkin() {
         skin = new Skin(Gdx.files.internal("uiskin.json"));
         if(skin == null) {
-            Gdx.app.error("GameAssets", "Failed to load skin");
+            Log.error("GameAssets", "Failed to load skin");
         } else {
-            Gdx.app.log("GameAssets", "Skin loaded successfully");
+            Log.info("GameAssets", "Skin loaded successfully");
         }
     }
 
@@ -118,9 +144,68 @@ public class GameAssets {
             Gdx.files.internal("appearances.json"));
         for(ObjectMap.Entry<String, AppearanceData> entry : appearanceMap.entries()) {
             AppearanceId id = AppearanceId.valueOf(entry.key);
-            Texture texture = new Texture(Gdx.files.internal(entry.value.appearance));
-            appearances.put(id, new Appearance(texture, entry.value.width, entry.value.height));
+            Appearance appearance = createAppearance(entry.value);
+            appearances.put(id, appearance);
+            residency.register(appearance);
+        }
+    }
+
+    /**
+     * Creates an appearance from its image: the average colour of the visible pixels,
+     * and whether the image is opaque, so that it can be drawn without blending.
+     * The textures are not uploaded here: the residency manager loads them when a level needs them.
+     *
+     * @param data the data of the appearance
+     * @return the appearance
+     */
+    private Appearance createAppearance(AppearanceData data) {
+        Pixmap pixmap = new Pixmap(Gdx.files.internal(data.appearance));
+        Pixmap small = Appearance.shrink(pixmap);
+
+        Color color = averageColor(small);
+        boolean opaque = isOpaque(pixmap);
+        small.dispose();
+        pixmap.dispose();
+
+        return new Appearance(null, null, color, opaque, data.width, data.height, data.appearance);
+    }
+
+    /**
+     * Checks if every pixel of an image is opaque.
+     *
+     * @param pixmap the image
+     * @return true if no pixel is even partly transparent
+     */
+    private static boolean isOpaque(Pixmap pixmap) {
+        if(pixmap.getFormat() == Pixmap.Format.RGB888 || pixmap.getFormat() == Pixmap.Format.RGB565) return true;
+        for(int y = 0; y < pixmap.getHeight(); ++y) {
+            for(int x = 0; x < pixmap.getWidth(); ++x) {
+                if((pixmap.getPixel(x, y) & 0xFF) != 0xFF) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the average colour of the visible pixels of an image, weighted by their alpha.
+     *
+     * @param pixmap the image
+     * @return the average colour, opaque
+     */
+    private static Color averageColor(Pixmap pixmap) {
+        float r = 0f, g = 0f, b = 0f, weight = 0f;
+        Color pixel = new Color();
+        for(int y = 0; y < pixmap.getHeight(); ++y) {
+            for(int x = 0; x < pixmap.getWidth(); ++x) {
+                Color.rgba8888ToColor(pixel, pixmap.getPixel(x, y));
+                r += pixel.r * pixel.a;
+                g += pixel.g * pixel.a;
+                b += pixel.b * pixel.a;
+                weight += pixel.a;
+            }
         }
+        if(weight == 0f) return new Color(Color.WHITE);
+        return new Color(r / weight, g / weight, b / weight, 1f);
     }
 
     /**
@@ -176,7 +261,7 @@ public class GameAssets {
             Appearance pathEndAppearance = appearances.get(entry.value.pathEndAppearance);
 
             if(backgroundAppearance == null || pathAppearance == null || pathStartAppearance == null || pathEndAppearance == null) {
-                Gdx.app.error("GameAssets", "Missing appearance(s) for background: " + entry.key);
+                Log.error("GameAssets", "Missing appearance(s) for background: {}", entry.key);
                 continue;
             }
 
@@ -257,9 +342,10 @@ public class GameAssets {
      */
     public void dispose() {
         for(Appearance appearance : appearances.values()) {
-            appearance.getTexture().dispose();
+            appearance.dispose();
         }
         appearances.clear();
+        residency.clear();
         levels.clear();
         backgrounds.clear();
 
@@ -8,97 +8,236 @@ package io.github.towerfull.tools;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ObjectMap;
-import io.github.towerfull.entities.defenses.BuildSpot;
-import io.github.towerfull.entities.defenses.Tower;
 import io.github.towerfull.gameBoard.GameArea;
+import io.github.towerfull.gameBoard.HitFeed;
+import io.github.towerfull.gameBoard.RenderSnapshot;
 import io.github.towerfull.gameBoard.level.Node;
+import io.github.towerfull.gameBoard.level.OccupancyGrid;
 import io.github.towerfull.screen.accessories.AssetRenderer;
-import io.github.towerfull.entities.defenses.ShotRecord;
+import io.github.towerfull.screen.accessories.CameraController;
+import io.github.towerfull.screen.accessories.DigitFont;
+import io.github.towerfull.screen.accessories.EffectRenderer;
+import io.github.towerfull.screen.accessories.LevelOfDetail;
+import io.github.towerfull.screen.accessories.RenderQueue;
 import io.github.towerfull.entities.*;
+import io.github.towerfull.entities.defenses.ShotRecord;
 
 /**
  * GameRenderer is responsible for rendering the game area, including towers, monsters,
- * paths, and shots. It uses a ShapeRenderer for shapes and a SpriteBatch for textures.
+ * paths, and shots. Every layer submits its sprites and shapes to a RenderQueue, which draws the whole frame
+ * in one pass of a single sprite batch, sorted to change the blending and the texture as rarely as possible.
+ * The tower ranges and the shots are drawn between the layers by an EffectRenderer, whose shaders shape them.
+ * The static parts of the level (background, paths) are read from the game area, while everything that
+ * changes during the game, towers included, is read from a RenderSnapshot published by the simulation thread.
+ * Everything is drawn through the camera of a CameraController, and every layer is culled to the visible cells:
+ * the paths are found through the occupancy grid of the visible rectangle, the build spots through the cell index
+ * of the snapshot, and the monsters through the rows of the snapshot, so the cost of a frame depends on what is
+ * on screen, not on the size of the map.
+ * Monsters and build spots are drawn at a level of detail chosen from their size on screen:
+ * the entities drawn as points are quads of the colour of their appearance.
+ * Above them come the health bars of the damaged monsters, and the recent hits as damage numbers
+ * made of cached digit glyphs.
+ * The GPU resources (sprite batch, meshes, shaders) are created once with the renderer and live as long as
+ * the screen: a resize only changes the position and the size of the cells.
  */
 public class GameRenderer {
     // The game area to render
     private final GameArea gameArea;
 
     // The starting position of the game area in pixel coordinates
-    private final Vector2 startPosition;
+    private final Vector2 startPosition = new Vector2();
 
     // The width and height of each cell in the game area in pixel coordinates
-    private final float cellWidth, cellHeight;
-
-    // Renderers for shapes and sprites
-    private final ShapeRenderer shapeRenderer = new ShapeRenderer();
-    private final SpriteBatch spriteBatch = new SpriteBatch();
+    private float cellWidth = 1f, cellHeight = 1f;
+
+    // Size of a projectile, as a fraction of a cell
+    private static final float PROJECTILE_SIZE = 0.15f;
+
+    // Health bars: position and size relative to the cell of the monster, and smallest cell on screen showing them
+    private static final float BAR_LEFT = 0.1f;
+    private static final float BAR_BOTTOM = 0.92f;
+    private static final float BAR_WIDTH = 0.8f;
+    private static final float BAR_HEIGHT = 0.08f;
+    private static final float BAR_MIN_PIXELS = 8f;
+
+    // Damage numbers: height and rise (over their life) relative to a cell, and smallest cell on screen showing them
+    private static final float NUMBER_SIZE = 0.35f;
+    private static final float NUMBER_RISE = 0.6f;
+    private static final float NUMBER_MIN_PIXELS = 16f;
+
+    // The layers of the render queue, in drawing order
+    private static final int LAYER_BORDER = 0;
+    private static final int LAYER_BACKGROUND = 1;
+    private static final int LAYER_PATHS = 2;
+    private static final int LAYER_ENDPOINTS = 3;
+    private static final int LAYER_SPOTS = 4;
+    private static final int LAYER_HOVER = 5;
+    private static final int LAYER_MONSTERS = 7;
+    private static final int LAYER_BARS = 8;
+    private static final int LAYER_PROJECTILES = 9;
+    private static final int LAYER_NUMBERS = 11;
+
+    // Packed colours of the shapes
+    private static final float BORDER_COLOR = Color.WHITE.toFloatBits();
+    private static final float PROJECTILE_COLOR = Color.GOLDENROD.toFloatBits();
+    private static final float BAR_BACKGROUND = new Color(0.1f, 0.1f, 0.1f, 1f).toFloatBits();
+
+    // Cells drawn around the visible ones, for the sprites overflowing their cell
+    private static final int CULL_MARGIN = 1;
+
+    // The camera through which the game area is drawn
+    private final CameraController cameraController;
+
+    // The visible cells of the current frame, inclusive, margin included
+    private final Rectangle visibleCells = new Rectangle();
+    private int minX, minY, maxX, maxY;
+
+    // The queue collecting the sprites and shapes of a frame, drawn in one pass
+    private final RenderQueue renderQueue = new RenderQueue();
 
     // Asset renderer for rendering appearances
     private final AssetRenderer assetRenderer;
 
+    // Chooses the level of detail of the monsters and build spots
+    private final LevelOfDetail levelOfDetail = new LevelOfDetail();
+
+    // Draws the tower ranges and the shots
+    private final EffectRenderer effectRenderer = new EffectRenderer();
+
+    // Draws the damage numbers
+    private final DigitFont digitFont = new DigitFont(GameAssets.get().skin.getFont("default-font"));
+
+    // Scratch for the pixel positions, and for the colours of the shapes
+    private final Vector2 scratch = new Vector2();
+    private final Color color = new Color();
+
+    // The cell under the pointer, highlighted if it is a build spot (-1 if none)
+    private int hoveredX = -1;
+    private int hoveredY = -1;
+
     /**
      * Constructs a GameRenderer for the specified game area.
+     * The layout of the cells is set by resize, before the first frame.
      *
      * @param gameArea The game area to render.
-     * @param startPosition The starting position of the game area in pixel coordinates.
+     * @param cameraController The camera through which the game area is drawn.
+     */
+    public GameRenderer(GameArea gameArea, CameraController cameraController) {
+        this.gameArea = gameArea;
+        this.cameraController = cameraController;
+        this.assetRenderer = new AssetRenderer(renderQueue, cellWidth, cellHeight);
+
+        // The monsters are submitted by row, from the back to the front, and overlap in that order
+        renderQueue.keepOrder(LAYER_MONSTERS);
+    }
+
+    /**
+     * Places the game area in the window, after it was resized.
+     * Only the metrics change: the GPU resources are kept.
+     *
+     * @param startX The left of the game area in pixel coordinates.
+     * @param startY The bottom of the game area in pixel coordinates.
      * @param cellWidth The width of each cell in pixel coordinates.
      * @param cellHeight The height of each cell in pixel coordinates.
      */
-    public GameRenderer(GameArea gameArea, Vector2 startPosition, float cellWidth, float cellHeight) {
-        this.gameArea = gameArea;
-        this.startPosition = startPosition;
+    public void resize(float startX, float startY, float cellWidth, float cellHeight) {
+        this.startPosition.set(startX, startY);
         this.cellWidth = cellWidth;
         this.cellHeight = cellHeight;
-        this.assetRenderer = new AssetRenderer(spriteBatch, cellWidth, cellHeight);
+        assetRenderer.setCellSize(cellWidth, cellHeight);
     }
 
     /**
      * Renders the game area, including paths, towers, monsters, and shots.
-     * Uses OpenGL scissor test to limit rendering to the game area.
+     * The layers fill the render queue, which is then drawn through the camera in one pass.
+     * Uses OpenGL scissor test to limit rendering to the region left of the sidebar.
+     *
+     * @param snapshot The latest state of the game area published by the simulation.
      */
-    public void render() {
-        Gdx.gl.glEnable(GL20.GL_SCISSOR_TEST);
+    public void render(RenderSnapshot snapshot) {
+        long start = System.nanoTime();
 
-        // Define the scissor box to match the game area
-        Gdx.gl.glScissor(
-            (int) startPosition.x,
-            (int) startPosition.y,
-            (int) (gameArea.getCols() * cellWidth),
-            (int) (gameArea.getRows() * cellHeight)
-        );
+        cameraController.getVisibleCells(visibleCells);
+        minX = (int) visibleCells.x - CULL_MARGIN;
+        minY = (int) visibleCells.y - CULL_MARGIN;
+        maxX = (int) (visibleCells.x + visibleCells.width) - 1 + CULL_MARGIN;
+        maxY = (int) (visibleCells.y + visibleCells.height) - 1 + CULL_MARGIN;
 
-        // All game rendering
+        // All game rendering, in any order: the layers decide the drawing order
         renderMapBorder();
         renderBackground();
         renderPaths();
         renderPathEndpoints();
-        renderBuildSpots();
-        renderTowerRanges();
-        renderMonsters();
-        renderShots();
+        renderBuildSpots(snapshot);
+        renderHoveredCell(snapshot);
+        renderTowerRanges(snapshot);
+        renderMonsters(snapshot);
+        renderHealthBars(snapshot);
+        renderProjectiles(snapshot);
+        renderShots(snapshot);
+        renderDamageNumbers(snapshot);
+
+        Gdx.gl.glEnable(GL20.GL_SCISSOR_TEST);
+
+        // Define the scissor box to match the region of the game area
+        Gdx.gl.glScissor(0, 0, (int) cameraController.getRegionWidth(), (int) cameraController.getRegionHeight());
+
+        // The ranges go above the hovered cell, the shots above the projectiles
+        Matrix4 projection = cameraController.getCamera().combined;
+        renderQueue.flush(projection, LAYER_HOVER);
+        effectRenderer.drawRanges(projection, 1f / cameraController.getCamera().zoom);
+        renderQueue.flush(projection, LAYER_PROJECTILES);
+        effectRenderer.drawShots(projection, snapshot.getTime(), ShotRecord.TIME_TO_LIVE);
+        renderQueue.flush(projection);
 
         Gdx.gl.glDisable(GL20.GL_SCISSOR_TEST);
+
+        // The cost of this frame chooses the detail of the next ones. The frame delta cannot: it includes
+        // the wait for the vertical sync. A paused game is rendered on demand, from a cached frame most of the time
+        if(!snapshot.isPaused()) {
+            levelOfDetail.update((System.nanoTime() - start) / 1e9f, Gdx.graphics.getDeltaTime());
+        }
     }
 
     /**
-     * Renders the recent shots in the game area.
-     * Shots are drawn as lines with varying thickness based on damage.
+     * Renders the projectiles in flight.
+     *
+     * @param snapshot The snapshot containing the projectiles to draw.
      */
-    private void renderShots() {
-        Array<ShotRecord> shots = gameArea.getRecentShots();
-        if(shots.size == 0) return;
-
-        Gdx.gl.glEnable(GL20.GL_BLEND);
-        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    private void renderProjectiles(RenderSnapshot snapshot) {
+        int count = snapshot.getProjectileCount();
+        if(count == 0) return;
+
+        float width = cellWidth * PROJECTILE_SIZE;
+        float height = cellHeight * PROJECTILE_SIZE;
+        float offsetX = startPosition.x + (cellWidth - width) / 2f;
+        float offsetY = startPosition.y + (cellHeight - height) / 2f;
+
+        for(int i = 0; i < count; ++i) {
+            if(!isVisible(snapshot.getProjectileX(i), snapshot.getProjectileY(i))) continue;
+            renderQueue.rect(LAYER_PROJECTILES, RenderQueue.OPAQUE,
+                offsetX + snapshot.getProjectileX(i) * cellWidth,
+                offsetY + snapshot.getProjectileY(i) * cellHeight,
+                width,
+                height,
+                PROJECTILE_COLOR
+            );
+        }
+    }
 
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+    /**
+     * Renders the recent shots in the game area.
+     * Shots are drawn as lines with varying thickness based on damage, fading out from the time they were fired.
+     *
+     * @param snapshot The snapshot containing the shots to draw.
+     */
+    private void renderShots(RenderSnapshot snapshot) {
+        int count = snapshot.getShotCount();
+        if(count == 0) return;
 
         float baseThickness = 0.2f * Math.min(cellWidth, cellHeight);
 
@@ -106,110 +245,72 @@ public class GameRenderer {
         float minScale = 0.5f;
         float maxScale = 2.0f;
 
-        for(ShotRecord shot : shots) {
-            float alpha = shot.getPercentageAlive();
-            alpha = Math.max(0.2f, alpha); // Clamp alpha
+        for(int i = 0; i < count; ++i) {
+            if(!isSegmentVisible(snapshot.getShotFromX(i), snapshot.getShotFromY(i),
+                snapshot.getShotToX(i), snapshot.getShotToY(i))) continue;
 
-            Vector2 from = logicalToPixel(shot.getFrom());
-            Vector2 to = logicalToPixel(shot.getTo());
+            float fromX = startPosition.x + snapshot.getShotFromX(i) * cellWidth;
+            float fromY = startPosition.y + snapshot.getShotFromY(i) * cellHeight;
+            float toX = startPosition.x + snapshot.getShotToX(i) * cellWidth;
+            float toY = startPosition.y + snapshot.getShotToY(i) * cellHeight;
 
-            int damage = shot.getDamage();
+            int damage = snapshot.getShotDamage(i);
 
             // Scale thickness by damage (you can normalize if needed)
             float scale = MathUtils.clamp(damage / 10f, minScale, maxScale); // Example: damage 10 = 1.0x
             float thickness = baseThickness * scale;
 
-            shapeRenderer.setColor(1f, 0.1f, 0.1f, alpha); // rich red
-            shapeRenderer.rectLine(from, to, thickness);
+            effectRenderer.addShot(fromX, fromY, toX, toY, thickness, snapshot.getShotTime(i));
         }
-
-        shapeRenderer.end();
-        Gdx.gl.glDisable(GL20.GL_BLEND);
     }
 
     /**
-     * Generates a color for a tower instance based on its identity hash code.
-     * This ensures each tower has a unique but consistent color.
+     * Renders the ranges of the towers whose range circle reaches the visible cells.
+     * Each tower's range is drawn as a semi-transparent disk, of a hue of its own.
+     * The towers are found through the cell index of the snapshot, in the visible cells widened by the longest range.
      *
-     * @param tower The tower instance to generate a color for.
-     * @return A Color object representing the tower's color.
+     * @param snapshot The snapshot containing the towers.
      */
-    private Color getColorForTowerInstance(Tower tower) {
-        int hash = System.identityHashCode(tower);
-
-        // Convert to hue between 0–360, avoid super-saturated
-        float hue = (hash & 0xFFFFFF) % 360;
-        float saturation = 0.4f; // softer color
-        float brightness = 1f;   // full brightness
-
-        Color base = hsbToColor(hue, saturation, brightness);
-        base.a = 0.15f;
-        return base;
+    private void renderTowerRanges(RenderSnapshot snapshot) {
+        if(snapshot.getMaxSpotRange() <= 0f) return;
+
+        int reach = MathUtils.ceil(snapshot.getMaxSpotRange());
+        int fromX = Math.max(0, minX - reach);
+        int toX = Math.min(gameArea.getCols() - 1, maxX + reach);
+        int fromY = Math.max(0, minY - reach);
+        int toY = Math.min(gameArea.getRows() - 1, maxY + reach);
+
+        for(int y = fromY; y <= toY; ++y) {
+            for(int x = fromX; x <= toX; ++x) {
+                int i = snapshot.getSpotAt(x, y);
+                if(i < 0 || !snapshot.isSpotBuilt(i)) continue;
+                renderTowerRange(snapshot, i);
+            }
+        }
     }
 
     /**
-     * Converts HSB (Hue, Saturation, Brightness) values to a Color object.
+     * Renders the range circle of a tower.
+     * The hue comes from the identity of the tower, so each tower has a unique but consistent color.
      *
-     * @param h Hue value (0–360).
-     * @param s Saturation value (0–1).
-     * @param b Brightness value (0–1).
-     * @return A Color object representing the HSB color.
+     * @param snapshot The snapshot containing the towers.
+     * @param i        The index of the build spot holding the tower.
      */
-    private Color hsbToColor(float h, float s, float b) {
-        float c = b * s;
-        float x = c * (1 - Math.abs((h / 60f) % 2 - 1));
-        float m = b - c;
-
-        float r = 0, g = 0, bl = 0;
-
-        if(h < 60) {
-            r = c; g = x;
-        } else if(h < 120) {
-            r = x; g = c;
-        } else if(h < 180) {
-            g = c; bl = x;
-        } else if(h < 240) {
-            g = x; bl = c;
-        } else if(h < 300) {
-            r = x; bl = c;
-        } else {
-            r = c; bl = x;
-        }
-
-        return new Color(r + m, g + m, bl + m, 1f);
-    }
+    private void renderTowerRange(RenderSnapshot snapshot, int i) {
+        float range = snapshot.getSpotRange(i);
+        if(range > 0f) {
 
-    /**
-     * Renders the ranges of all towers in the game area.
-     * Each tower's range is drawn as a circle with a semi-transparent color.
-     */
-    private void renderTowerRanges() {
-        // Enable blending for transparency
-        Gdx.gl.glEnable(GL20.GL_BLEND);
-        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        for(BuildSpot spot : gameArea.getBuildSpots()) {
-            Tower tower = spot.getTower();
-            if(tower == null) continue;
-
-            float range = tower.getRange();
-            Vector2 logicalCenter = spot.getLogicalPos().cpy().add(0.5f, 0.5f);
-            Vector2 pixelCenter = logicalToPixel(logicalCenter);
+            Vector2 pixelCenter = pixelCenter(snapshot.getSpotX(i), snapshot.getSpotY(i));
             float pixelRadius = range * cellWidth;
 
-            shapeRenderer.setColor(getColorForTowerInstance(tower));
-            shapeRenderer.circle(pixelCenter.x, pixelCenter.y, pixelRadius);
+            float hue = ((snapshot.getSpotColorSeed(i) & 0xFFFFFF) % 360) / 360f;
+            effectRenderer.addRange(pixelCenter.x, pixelCenter.y, pixelRadius, hue);
         }
-        shapeRenderer.end();
-
-        // Disable blending after drawing (optional but good practice)
-        Gdx.gl.glDisable(GL20.GL_BLEND);
     }
 
     /**
      * Renders the border of the game area.
-     * The border is drawn as a white rectangle around the game area.
+     * The border is drawn as a white rectangle around the game area, one pixel thick on screen.
      */
     private void renderMapBorder() {
         int cols = gameArea.getCols();
@@ -218,10 +319,8 @@ public class GameRenderer {
         float width = cols * cellWidth;
         float height = rows * cellHeight;
 
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        shapeRenderer.setColor(Color.WHITE);
-        shapeRenderer.rect(startPosition.x, startPosition.y, width, height);
-        shapeRenderer.end();
+        renderQueue.outline(LAYER_BORDER, startPosition.x, startPosition.y, width, height,
+            cameraController.getCamera().zoom, BORDER_COLOR);
     }
 
     /**
@@ -234,119 +333,235 @@ public class GameRenderer {
 
         if(start == null || end == null) return;
 
-        spriteBatch.begin();
-
         for(Node spawn : gameArea.getPathGraph().getSpawns()) {
-            Vector2 pos = logicalToPixelCenter(spawn.getPosition());
-            assetRenderer.renderAppearance(start, pos);
+            if(!isVisible(spawn.getPosition().x, spawn.getPosition().y)) continue;
+            Vector2 pos = pixelCenter(spawn.getPosition().x, spawn.getPosition().y);
+            assetRenderer.renderAppearance(LAYER_ENDPOINTS, start, pos);
         }
 
         for(Node endNode : gameArea.getPathGraph().getEnds()) {
-            Vector2 pos = logicalToPixelCenter(endNode.getPosition());
-            assetRenderer.renderAppearance(end, pos);
+            if(!isVisible(endNode.getPosition().x, endNode.getPosition().y)) continue;
+            Vector2 pos = pixelCenter(endNode.getPosition().x, endNode.getPosition().y);
+            assetRenderer.renderAppearance(LAYER_ENDPOINTS, end, pos);
         }
-
-        spriteBatch.end();
     }
 
     /**
-     * Renders the paths between nodes in the game area.
-     * Paths are drawn as lines connecting nodes in the path graph.
+     * Renders the path tiles of the visible cells.
+     * The tiles between the nodes of the path graph are marked in the occupancy grid,
+     * so only the visible cells have to be looked at.
      */
     private void renderPaths() {
         Appearance pathAppearance = gameArea.getBackground().getPathAppearance();
         if(pathAppearance == null) return;
 
-        spriteBatch.begin();
-
-        ObjectMap<String, Node> nodes = gameArea.getPathGraph().getNodes();
-
-        for(Node from : nodes.values()) {
-            Vector2 start = from.getPosition();
-
-            for(Node to : from.getNextAxes()) {
-                Vector2 end = to.getPosition();
-
-                int x0 = (int) start.x;
-                int y0 = (int) start.y;
-                int x1 = (int) end.x;
-                int y1 = (int) end.y;
-
-                int dx = Integer.signum(x1 - x0);
-                int dy = Integer.signum(y1 - y0);
-
-                int x = x0;
-                int y = y0;
+        OccupancyGrid grid = gameArea.getOccupancyGrid();
 
-                // Draw all tiles between from and to
-                while(x != x1 || y != y1) {
-                    Vector2 pixelPos = logicalToPixelCenter(new Vector2(x, y));
-                    assetRenderer.renderAppearance(pathAppearance, pixelPos);
-                    x += dx;
-                    y += dy;
+        for(int y = Math.max(0, minY); y <= Math.min(gameArea.getRows() - 1, maxY); ++y) {
+            for(int x = Math.max(0, minX); x <= Math.min(gameArea.getCols() - 1, maxX); ++x) {
+                if(grid.has(x, y, OccupancyGrid.PATH)) {
+                    assetRenderer.renderAppearance(LAYER_PATHS, pathAppearance, pixelCenter(x, y));
                 }
-
-                // Draw last tile
-                Vector2 last = to.getPosition();
-                Vector2 lastPixel = logicalToPixelCenter(last);
-                assetRenderer.renderAppearance(pathAppearance, lastPixel);
             }
         }
-
-        spriteBatch.end();
     }
 
     /**
-     * Renders the background of the game area.
+     * Renders the background of the visible cells.
      * The background is drawn as a grid of appearances based on the background settings.
      */
     private void renderBackground() {
-        spriteBatch.begin();
-
         Appearance background = gameArea.getBackground().getBackgroundAppearance();
 
         if(background != null) {
-            for(int x = 0; x < gameArea.getCols(); ++x) {
-                for(int y = 0; y < gameArea.getRows(); ++y) {
-                    Vector2 pixelPos = logicalToPixel(new Vector2(x, y));
-                    assetRenderer.renderAppearance(background, pixelPos.add(cellWidth / 2f, cellHeight / 2f));
+            for(int x = Math.max(0, minX); x <= Math.min(gameArea.getCols() - 1, maxX); ++x) {
+                for(int y = Math.max(0, minY); y <= Math.min(gameArea.getRows() - 1, maxY); ++y) {
+                    assetRenderer.renderAppearance(LAYER_BACKGROUND, background, pixelCenter(x, y));
                 }
             }
         }
-
-        spriteBatch.end();
     }
 
     /**
-     * Renders all build spots in the game area.
+     * Renders the build spots of the visible cells, found through the cell index of the snapshot.
      * Each build spot is drawn using its appearance.
+     *
+     * @param snapshot The snapshot containing the build spots.
      */
-    private void renderBuildSpots() {
-        spriteBatch.begin();
+    private void renderBuildSpots(RenderSnapshot snapshot) {
+        for(int y = Math.max(0, minY); y <= Math.min(gameArea.getRows() - 1, maxY); ++y) {
+            for(int x = Math.max(0, minX); x <= Math.min(gameArea.getCols() - 1, maxX); ++x) {
+                int i = snapshot.getSpotAt(x, y);
+                if(i < 0) continue;
+
+                renderEntity(LAYER_SPOTS, snapshot.getSpotAppearance(i),
+                    pixelCenter(snapshot.getSpotX(i), snapshot.getSpotY(i)));
+            }
+        }
+    }
+
+    /**
+     * Highlights the cell under the pointer if it is a build spot.
+     * Free spots are outlined in green, spots holding a tower in orange, as in the snapshot.
+     *
+     * @param snapshot The snapshot containing the build spots.
+     */
+    private void renderHoveredCell(RenderSnapshot snapshot) {
+        int i = snapshot.getSpotAt(hoveredX, hoveredY);
+        if(i < 0) return;
+
+        Color outline = snapshot.isSpotBuilt(i) ? Color.ORANGE : Color.GREEN;
+        renderQueue.outline(LAYER_HOVER,
+            startPosition.x + hoveredX * cellWidth,
+            startPosition.y + hoveredY * cellHeight,
+            cellWidth,
+            cellHeight,
+            cameraController.getCamera().zoom,
+            outline.toFloatBits()
+        );
+    }
 
-        for(BuildSpot spot : gameArea.getBuildSpots()) {
-            Vector2 pixelCenter = logicalToPixelCenter(spot.getLogicalPos());
-            Appearance appearance = spot.getAppearance();
+    /**
+     * Sets the cell under the pointer, highlighted on the next frame if it is a build spot.
+     *
+     * @param x The column of the cell.
+     * @param y The row of the cell.
+     */
+    public void setHoveredCell(int x, int y) {
+        this.hoveredX = x;
+        this.hoveredY = y;
+    }
+
+    /**
+     * Renders the monsters of the visible cells.
+     * The snapshot sorts the monsters by row, so only the monsters of the visible rows are looked at.
+     * Each monster is drawn using its appearance at its logical position.
+     *
+     * @param snapshot The snapshot containing the monsters.
+     */
+    private void renderMonsters(RenderSnapshot snapshot) {
+        int end = snapshot.getMonsterEnd(minY);
+        for(int i = snapshot.getMonsterStart(maxY); i < end; ++i) {
+            float x = snapshot.getMonsterX(i);
+            if(x < minX || x > maxX + 1) continue;
 
-            assetRenderer.renderAppearance(appearance, pixelCenter);
+            renderEntity(LAYER_MONSTERS, snapshot.getMonsterAppearance(i), pixelCenter(x, snapshot.getMonsterY(i)));
         }
+    }
+
+    /**
+     * Renders the health bars of the damaged monsters of the visible cells:
+     * a dark background and a fill coloured from green to red.
+     * The bars are not drawn when the cells are too small on screen to show them.
+     *
+     * @param snapshot The snapshot containing the monsters.
+     */
+    private void renderHealthBars(RenderSnapshot snapshot) {
+        if(cellHeight / cameraController.getCamera().zoom < BAR_MIN_PIXELS) return;
+
+        float width = BAR_WIDTH * cellWidth;
+        float height = BAR_HEIGHT * cellHeight;
+
+        int end = snapshot.getMonsterEnd(minY);
+        for(int i = snapshot.getMonsterStart(maxY); i < end; ++i) {
+            float health = snapshot.getMonsterHealth(i);
+            if(health >= 1f || health <= 0f) continue;
 
-        spriteBatch.end();
+            float x = snapshot.getMonsterX(i);
+            if(x < minX || x > maxX + 1) continue;
+
+            float left = startPosition.x + (x + BAR_LEFT) * cellWidth;
+            float bottom = startPosition.y + (snapshot.getMonsterY(i) + BAR_BOTTOM) * cellHeight;
+
+            // Green at full health, yellow at half, red when nearly dead
+            float fill = color.set(Math.min(1f, 2f * (1f - health)), Math.min(1f, 2f * health), 0f, 1f).toFloatBits();
+            renderQueue.rect(LAYER_BARS, RenderQueue.OPAQUE, left, bottom, width, height, BAR_BACKGROUND);
+            renderQueue.rect(LAYER_BARS, RenderQueue.OPAQUE, left, bottom, width * health, height, fill);
+        }
     }
 
     /**
-     * Renders all monsters in the game area.
-     * Each monster is drawn using its appearance at its logical position.
+     * Renders the recent hits of the visible cells as damage numbers, rising and fading out over their life.
+     * The numbers are not drawn when the cells are too small on screen to read them.
+     *
+     * @param snapshot The snapshot containing the hits.
+     */
+    private void renderDamageNumbers(RenderSnapshot snapshot) {
+        int count = snapshot.getHitCount();
+        if(count == 0 || cellHeight / cameraController.getCamera().zoom < NUMBER_MIN_PIXELS) return;
+
+        float size = NUMBER_SIZE * cellHeight;
+
+        for(int i = 0; i < count; ++i) {
+            float x = snapshot.getHitX(i);
+            float y = snapshot.getHitY(i);
+            if(!isVisible(x, y)) continue;
+
+            float life = snapshot.getHitAge(i) / HitFeed.TIME_TO_LIVE;
+            digitFont.draw(renderQueue, LAYER_NUMBERS, snapshot.getHitAmount(i),
+                startPosition.x + (x + 0.5f) * cellWidth,
+                startPosition.y + (y + 0.5f + life * NUMBER_RISE) * cellHeight,
+                size, color.set(1f, 0.9f, 0.3f, 1f - life).toFloatBits());
+        }
+    }
+
+    /**
+     * Draws an entity at the level of detail matching its size on screen.
+     * The entities too small for a sprite are drawn as quads of the colour of their appearance.
+     *
+     * @param layer       The layer of the entity.
+     * @param appearance  The appearance of the entity. If null, nothing is drawn.
+     * @param pixelCenter The center of the entity, in pixels.
      */
-    private void renderMonsters() {
-        spriteBatch.begin();
+    private void renderEntity(int layer, Appearance appearance, Vector2 pixelCenter) {
+        if(appearance == null) return;
 
-        for(Printable monster : gameArea.getMonsters()) {
-            Vector2 pixelCenter = logicalToPixelCenter(monster.getLogicalPos());
-            assetRenderer.renderAppearance(monster.getAppearance(), pixelCenter);
+        float width = appearance.getWidth() * cellWidth;
+        float height = appearance.getHeight() * cellHeight;
+        LevelOfDetail.Tier tier = levelOfDetail.select(Math.max(width, height) / cameraController.getCamera().zoom);
+
+        if(tier == LevelOfDetail.Tier.POINT) {
+            renderQueue.rect(layer, RenderQueue.OPAQUE, pixelCenter.x - width / 2f, pixelCenter.y - height / 2f,
+                width, height, appearance.getColor().toFloatBits());
+        } else {
+            assetRenderer.renderAppearance(layer, appearance, pixelCenter, tier == LevelOfDetail.Tier.SMALL);
         }
+    }
+
+    /**
+     * Checks if a logical position is within the visible cells of the current frame.
+     *
+     * @param x The x position, in cells.
+     * @param y The y position, in cells.
+     * @return true if the position is visible.
+     */
+    private boolean isVisible(float x, float y) {
+        return x >= minX && x < maxX + 1 && y >= minY && y < maxY + 1;
+    }
+
+    /**
+     * Checks if the bounding box of a segment overlaps the visible cells of the current frame.
+     *
+     * @param x0 The x position of the start, in cells.
+     * @param y0 The y position of the start, in cells.
+     * @param x1 The x position of the end, in cells.
+     * @param y1 The y position of the end, in cells.
+     * @return true if the segment may be visible.
+     */
+    private boolean isSegmentVisible(float x0, float y0, float x1, float y1) {
+        return Math.max(x0, x1) >= minX && Math.min(x0, x1) < maxX + 1
+            && Math.max(y0, y1) >= minY && Math.min(y0, y1) < maxY + 1;
+    }
 
-        spriteBatch.end();
+    /**
+     * Computes the pixel position of the center of a cell, in a scratch vector.
+     *
+     * @param x The x position, in cells.
+     * @param y The y position, in cells.
+     * @return The pixel position of the center, valid until the next call.
+     */
+    private Vector2 pixelCenter(float x, float y) {
+        return scratch.set(startPosition.x + (x + 0.5f) * cellWidth, startPosition.y + (y + 0.5f) * cellHeight);
     }
 
     /**
@@ -385,12 +600,31 @@ public class GameRenderer {
         );
     }
 
+    /**
+     * Gets the render queue, whose counters tell how many draw calls, texture binds
+     * and blending switches the last frame took.
+     *
+     * @return The render queue.
+     */
+    public RenderQueue getRenderQueue() {
+        return renderQueue;
+    }
+
+    /**
+     * Gets the level of detail chooser, to turn its adaptive mode on or off.
+     *
+     * @return The level of detail chooser.
+     */
+    public LevelOfDetail getLevelOfDetail() {
+        return levelOfDetail;
+    }
+
     /**
      * Disposes of the resources used by the GameRenderer.
      * This should be called when the renderer is no longer needed.
      */
     public void dispose() {
-        shapeRenderer.dispose();
-        spriteBatch.dispose();
+        renderQueue.dispose();
+        effectRenderer.dispose();
     }
 }
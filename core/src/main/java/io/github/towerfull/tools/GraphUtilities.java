@@ -10,7 +10,7 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
 import io.github.towerfull.gameBoard.level.Node;
 import io.github.towerfull.tools.data.LevelData;
-import com.badlogic.gdx.Gdx;
+import io.github.towerfull.tools.log.Log;
 
 import java.util.List;
 
@@ -53,7 +53,7 @@ public final class GraphUtilities {
                 if(nextNode != null) {
                     node.addNextAxis(nextNode);
                 } else {
-                    Gdx.app.error("GraphUtilities", "Path node '" + nextId + "' not found for connection from '" + entry.key + "'");
+                    Log.error("GraphUtilities", "Path node '{}' not found for connection from '{}'", nextId, entry.key);
                 }
             }
         }
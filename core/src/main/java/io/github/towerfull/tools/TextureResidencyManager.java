@@ -0,0 +1,279 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Keeps on the graphics card the textures the current level needs, within a memory budget.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.tools;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectLongMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import io.github.towerfull.entities.Appearance;
+import io.github.towerfull.entities.defenses.Tower;
+import io.github.towerfull.entities.ennemies.Monster;
+import io.github.towerfull.entities.ennemies.Scenario;
+import io.github.towerfull.enumElements.AppearanceId;
+import io.github.towerfull.enumElements.LevelId;
+import io.github.towerfull.enumElements.MonsterType;
+import io.github.towerfull.enumElements.TowerType;
+import io.github.towerfull.gameBoard.level.Background;
+import io.github.towerfull.gameBoard.level.Level;
+import io.github.towerfull.tools.log.Log;
+
+import java.util.EnumSet;
+
+/**
+ * Decides which textures of the appearances are resident on the graphics card.
+ * When a level is entered, the appearances it needs (its background, the monsters its scenario spawns,
+ * the towers and the build spots) are loaded and pinned: they stay resident while the level is played.
+ * The other appearances stay resident as long as the memory budget allows, and the least recently used
+ * ones are unloaded first when it is exceeded. During the victory screen, the levels likely to be played next
+ * are prefetched, one appearance per frame so the screen stays smooth.
+ * Everything happens on the render thread; an appearance drawn while not resident is loaded on the spot.
+ */
+public class TextureResidencyManager {
+    // Number of levels prefetched after the current one
+    private static final int PREFETCHED_LEVELS = 2;
+
+    // The memory the textures may take, in bytes
+    private long budget;
+
+    // Every appearance whose textures are managed
+    private final Array<Appearance> managed = new Array<>();
+
+    // When each appearance was last needed, in acquisitions
+    private final ObjectLongMap<Appearance> lastUse = new ObjectLongMap<>();
+
+    // The appearances of the current level, never unloaded
+    private final ObjectSet<Appearance> pinned = new ObjectSet<>();
+
+    // The appearances waiting to be prefetched, loaded one per frame
+    private final Array<Appearance> prefetching = new Array<>();
+
+    // The clock of the uses, advanced at each acquisition and prefetch
+    private long clock = 0L;
+
+    // The level being played, null if unknown (a loaded game)
+    private Level currentLevel;
+
+    // Scratch for the appearances of a level, and the monster types of a scenario
+    private final Array<Appearance> needed = new Array<>();
+    private final EnumSet<MonsterType> monsterTypes = EnumSet.noneOf(MonsterType.class);
+
+    /**
+     * Constructs a residency manager.
+     *
+     * @param budget The memory the textures may take, in bytes.
+     */
+    public TextureResidencyManager(long budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Manages the textures of an appearance. Only the appearances made from an image file can be unloaded.
+     *
+     * @param appearance The appearance.
+     */
+    public void register(Appearance appearance) {
+        managed.add(appearance);
+    }
+
+    /**
+     * Loads and pins the appearances a level needs, then unloads the least recently used ones over the budget.
+     *
+     * @param level The level entered.
+     */
+    public void acquire(Level level) {
+        acquire(level.getBackground(), level.getScenario());
+        currentLevel = level;
+    }
+
+    /**
+     * Loads and pins the appearances a game needs, then unloads the least recently used ones over the budget.
+     * Used for a loaded game, whose level is not known.
+     *
+     * @param background The background of the game.
+     * @param scenario   The scenario of the game, may be null.
+     */
+    public void acquire(Background background, Scenario scenario) {
+        collect(background, scenario, needed);
+        currentLevel = null;
+        prefetching.clear();
+        pinned.clear();
+        ++clock;
+
+        for(Appearance appearance : needed) {
+            pinned.add(appearance);
+            lastUse.put(appearance, clock);
+            appearance.load();
+        }
+        evict();
+
+        Log.debug("TextureResidency", "{} appearances pinned, {} MiB resident", needed.size,
+            getResidentBytes() / (1024f * 1024f));
+    }
+
+    /**
+     * Prefetches the levels that follow the current one, in the order of their ids, during the victory screen.
+     * The appearances are loaded one per frame; the least recently used ones are unloaded once they are all loaded.
+     */
+    public void prefetchNext() {
+        if(currentLevel == null) return;
+
+        LevelId[] ids = LevelId.values();
+        int current = -1;
+        for(int i = 0; i < ids.length; ++i) {
+            if(GameAssets.get().levels.get(ids[i]) == currentLevel) current = i;
+        }
+        if(current < 0) return;
+
+        ++clock;
+        for(int i = current + 1; i < ids.length && i <= current + PREFETCHED_LEVELS; ++i) {
+            Level level = GameAssets.get().levels.get(ids[i]);
+            if(level == null) continue;
+
+            collect(level.getBackground(), level.getScenario(), needed);
+            for(Appearance appearance : needed) {
+                // The nearer levels are used more recently, so they are kept longer
+                lastUse.put(appearance, clock + PREFETCHED_LEVELS - (i - current));
+                if(!appearance.isResident() && !prefetching.contains(appearance, true)) {
+                    prefetching.add(appearance);
+                }
+            }
+        }
+        clock += PREFETCHED_LEVELS;
+
+        if(prefetching.notEmpty()) {
+            Gdx.app.postRunnable(this::prefetchStep);
+        }
+    }
+
+    /**
+     * Loads the next appearance waiting to be prefetched, and asks for the next one on the following frame.
+     */
+    private void prefetchStep() {
+        if(prefetching.isEmpty()) return;
+
+        prefetching.removeIndex(0).load();
+        if(prefetching.notEmpty()) {
+            Gdx.app.postRunnable(this::prefetchStep);
+        } else {
+            evict();
+        }
+    }
+
+    /**
+     * Unloads the least recently used appearances that are not pinned, until the textures fit in the budget.
+     */
+    private void evict() {
+        long resident = getResidentBytes();
+        while(resident > budget) {
+            Appearance oldest = null;
+            long oldestUse = Long.MAX_VALUE;
+            for(Appearance appearance : managed) {
+                if(!appearance.isResident() || !appearance.isEvictable() || pinned.contains(appearance)) continue;
+
+                long use = lastUse.get(appearance, 0L);
+                if(use < oldestUse) {
+                    oldestUse = use;
+                    oldest = appearance;
+                }
+            }
+            if(oldest == null) break;
+
+            resident -= oldest.getTextureBytes();
+            oldest.unload();
+        }
+    }
+
+    /**
+     * Lists the appearances a game needs: its background, the monsters its scenario spawns,
+     * every tower (any may be built) and the build spots.
+     *
+     * @param background The background of the game.
+     * @param scenario   The scenario of the game, may be null.
+     * @param out        The array receiving the appearances, cleared first.
+     */
+    private void collect(Background background, Scenario scenario, Array<Appearance> out) {
+        out.clear();
+        GameAssets assets = GameAssets.get();
+
+        if(background != null) {
+            addAppearance(out, background.getBackgroundAppearance());
+            addAppearance(out, background.getPathAppearance());
+            addAppearance(out, background.getPathStartAppearance());
+            addAppearance(out, background.getPathEndAppearance());
+        }
+
+        if(scenario != null) {
+            monsterTypes.clear();
+            scenario.collectMonsterTypes(monsterTypes);
+            for(MonsterType type : monsterTypes) {
+                Monster monster = assets.monsterFactory.getPrototype(type);
+                if(monster != null) addAppearance(out, monster.getAppearance());
+            }
+        }
+
+        for(TowerType type : TowerType.values()) {
+            Tower tower = assets.towerFactory.getPrototype(type);
+            if(tower != null) addAppearance(out, tower.getAppearance());
+        }
+        addAppearance(out, assets.appearances.get(AppearanceId.BUILD_SPOT));
+    }
+
+    /**
+     * Adds an appearance to a list, once.
+     *
+     * @param out        The list.
+     * @param appearance The appearance, may be null.
+     */
+    private static void addAppearance(Array<Appearance> out, Appearance appearance) {
+        if(appearance != null && !out.contains(appearance, true)) {
+            out.add(appearance);
+        }
+    }
+
+    /**
+     * Computes the memory the resident textures take.
+     *
+     * @return The memory in bytes.
+     */
+    public long getResidentBytes() {
+        long bytes = 0L;
+        for(Appearance appearance : managed) {
+            bytes += appearance.getTextureBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Gets the memory the textures may take.
+     *
+     * @return The budget in bytes.
+     */
+    public long getBudget() {
+        return budget;
+    }
+
+    /**
+     * Changes the memory the textures may take, unloading textures at once if they no longer fit.
+     *
+     * @param budget The budget in bytes.
+     */
+    public void setBudget(long budget) {
+        this.budget = budget;
+        evict();
+    }
+
+    /**
+     * Forgets every appearance, when the assets are disposed of. The textures are disposed of with the appearances.
+     */
+    public void clear() {
+        managed.clear();
+        lastUse.clear();
+        pinned.clear();
+        prefetching.clear();
+        currentLevel = null;
+    }
+}
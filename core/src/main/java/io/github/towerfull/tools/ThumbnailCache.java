@@ -0,0 +1,316 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Draws the preview thumbnails of the levels off the render thread, and keeps them as PNG files on disk.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.tools;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import io.github.towerfull.entities.Appearance;
+import io.github.towerfull.gameBoard.level.Background;
+import io.github.towerfull.gameBoard.level.Level;
+import io.github.towerfull.gameBoard.level.OccupancyGrid;
+import io.github.towerfull.tools.log.Log;
+
+import java.util.function.Consumer;
+
+/**
+ * Provides a small preview image of each level: its background, its path and its build spots.
+ * A thumbnail is identified by a hash of what it shows (size, cells of the occupancy grid, images of the background),
+ * so a level whose definition changed gets a new thumbnail. The thumbnails are drawn into pixmaps on a
+ * BackgroundWorker, from the images the appearances were made from, and written as PNG files in the local
+ * storage; the next time, the file is read instead. Only the upload of the texture happens on the render thread.
+ * The textures are kept until the cache is disposed, or until the level is forgotten (a generated level).
+ * A thumbnail that could not be drawn is requested again the next time; a thumbnail forgotten while it was
+ * being drawn is dropped when it arrives.
+ */
+public class ThumbnailCache implements Disposable {
+    // Longest side of a thumbnail, in pixels
+    public static final int SIZE = 96;
+
+    // Version of the drawing, part of the hash: changing the drawing makes the old files unused
+    private static final int VERSION = 1;
+
+    // The folder of the thumbnail files, in the local storage
+    private static final String DIRECTORY = "thumbnails/";
+
+    // The cells drawn on the thumbnail
+    private static final int SHOWN_FLAGS = OccupancyGrid.PATH | OccupancyGrid.BUILD_SPOT
+        | OccupancyGrid.SPAWN | OccupancyGrid.EXIT;
+
+    // Colour of the build spots, drawn over the background
+    private static final int BUILD_SPOT_COLOR = Color.rgba8888(1f, 1f, 1f, 0.45f);
+
+    // The worker drawing the thumbnails
+    private final BackgroundWorker worker;
+
+    // The thumbnails ready, by hash
+    private final ObjectMap<String, Texture> textures = new ObjectMap<>();
+
+    // The requests waiting for a thumbnail being drawn, by hash
+    private final ObjectMap<String, Array<Consumer<Texture>>> waiting = new ObjectMap<>();
+
+    // The hashes of the thumbnails forgotten while being drawn, dropped when they arrive
+    private final ObjectSet<String> forgotten = new ObjectSet<>();
+
+    /**
+     * Constructs a thumbnail cache.
+     *
+     * @param worker The worker drawing the thumbnails.
+     */
+    public ThumbnailCache(BackgroundWorker worker) {
+        this.worker = worker;
+    }
+
+    /**
+     * Requests the thumbnail of a level. It is given at once if it is ready, and on a later frame otherwise.
+     *
+     * @param level      The level.
+     * @param persistent true to keep the thumbnail as a file, false for a level that will not be seen again.
+     * @param onReady    Receives the thumbnail, on the render thread.
+     */
+    public void request(Level level, boolean persistent, Consumer<Texture> onReady) {
+        String key = hash(level);
+        Texture texture = textures.get(key);
+        if(texture != null) {
+            onReady.accept(texture);
+            return;
+        }
+
+        Array<Consumer<Texture>> requests = waiting.get(key);
+        if(requests != null) {
+            // Wanted again after being forgotten: it is kept when it arrives
+            forgotten.remove(key);
+            requests.add(onReady);
+            return;
+        }
+
+        requests = new Array<>();
+        requests.add(onReady);
+        waiting.put(key, requests);
+
+        FileHandle file = Gdx.files.local(DIRECTORY + key + ".png");
+        worker.submit(() -> loadOrDraw(level, file, persistent), pixmap -> {
+            if(forgotten.remove(key)) {
+                // Forgotten meanwhile: never uploaded, so nothing stays behind
+                pixmap.dispose();
+                waiting.remove(key);
+                return;
+            }
+
+            Texture thumbnail = DisposableTracker.track(null, new Texture(pixmap));
+            thumbnail.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            pixmap.dispose();
+
+            textures.put(key, thumbnail);
+            for(Consumer<Texture> request : waiting.remove(key)) {
+                request.accept(thumbnail);
+            }
+        }, () -> {
+            // The requests are dropped, so the next request of the level tries again
+            waiting.remove(key);
+            forgotten.remove(key);
+        });
+    }
+
+    /**
+     * Forgets the thumbnail of a level, disposing of its texture. The texture must not be drawn anymore.
+     * If the thumbnail is still being drawn, it is dropped when it arrives, and its requests are not answered.
+     *
+     * @param level The level.
+     */
+    public void forget(Level level) {
+        String key = hash(level);
+        Texture texture = textures.remove(key);
+        if(texture != null) {
+            DisposableTracker.dispose(texture);
+        } else if(waiting.containsKey(key)) {
+            forgotten.add(key);
+        }
+    }
+
+    /**
+     * Reads the file of a thumbnail, or draws the thumbnail and writes it. Runs on the background thread.
+     *
+     * @param level      The level.
+     * @param file       The file of the thumbnail.
+     * @param persistent true to write the file of a thumbnail that was drawn.
+     * @return The thumbnail.
+     */
+    private static Pixmap loadOrDraw(Level level, FileHandle file, boolean persistent) {
+        if(file.exists()) {
+            try {
+                return new Pixmap(file);
+            } catch (GdxRuntimeException e) {
+                Log.error("ThumbnailCache", "Unreadable thumbnail, drawn again: " + file.path(), e);
+            }
+        }
+
+        Pixmap thumbnail = draw(level);
+        if(persistent) {
+            try {
+                PixmapIO.writePNG(file, thumbnail);
+            } catch (GdxRuntimeException e) {
+                Log.error("ThumbnailCache", "Could not write thumbnail: " + file.path(), e);
+            }
+        }
+        return thumbnail;
+    }
+
+    /**
+     * Draws the thumbnail of a level: every cell gets the background image, then the path and its ends,
+     * and the build spots are marked. Runs on the background thread.
+     *
+     * @param level The level.
+     * @return The thumbnail.
+     */
+    private static Pixmap draw(Level level) {
+        int cols = level.getCols();
+        int rows = level.getRows();
+        int cell = Math.max(1, SIZE / Math.max(1, Math.max(cols, rows)));
+        OccupancyGrid grid = level.getOccupancyGrid();
+        Background background = level.getBackground();
+
+        Pixmap thumbnail = new Pixmap(cols * cell, rows * cell, Pixmap.Format.RGBA8888);
+        thumbnail.setFilter(Pixmap.Filter.BiLinear);
+
+        Pixmap ground = readImage(background.getBackgroundAppearance());
+        Pixmap path = readImage(background.getPathAppearance());
+        Pixmap start = readImage(background.getPathStartAppearance());
+        Pixmap end = readImage(background.getPathEndAppearance());
+
+        for(int y = 0; y < rows; ++y) {
+            // The rows of a pixmap go down, the rows of the level go up
+            int top = (rows - 1 - y) * cell;
+            for(int x = 0; x < cols; ++x) {
+                int left = x * cell;
+                drawCell(thumbnail, ground, background.getBackgroundAppearance(), left, top, cell);
+
+                if(grid.has(x, y, OccupancyGrid.SPAWN)) {
+                    drawCell(thumbnail, start, background.getPathStartAppearance(), left, top, cell);
+                } else if(grid.has(x, y, OccupancyGrid.EXIT)) {
+                    drawCell(thumbnail, end, background.getPathEndAppearance(), left, top, cell);
+                } else if(grid.has(x, y, OccupancyGrid.PATH)) {
+                    drawCell(thumbnail, path, background.getPathAppearance(), left, top, cell);
+                } else if(grid.has(x, y, OccupancyGrid.BUILD_SPOT)) {
+                    int inset = cell / 4;
+                    thumbnail.setColor(BUILD_SPOT_COLOR);
+                    thumbnail.fillRectangle(left + inset, top + inset, cell - 2 * inset, cell - 2 * inset);
+                }
+            }
+        }
+
+        for(Pixmap image : new Pixmap[] { ground, path, start, end }) {
+            if(image != null) image.dispose();
+        }
+        return thumbnail;
+    }
+
+    /**
+     * Draws an image scaled into a cell, or fills the cell with the colour of the appearance if there is no image.
+     *
+     * @param thumbnail  The thumbnail.
+     * @param image      The image, may be null.
+     * @param appearance The appearance the image was read from, may be null.
+     * @param left       The left of the cell, in pixels.
+     * @param top        The top of the cell, in pixels.
+     * @param cell       The size of the cell, in pixels.
+     */
+    private static void drawCell(Pixmap thumbnail, Pixmap image, Appearance appearance, int left, int top, int cell) {
+        if(image != null) {
+            thumbnail.drawPixmap(image, 0, 0, image.getWidth(), image.getHeight(), left, top, cell, cell);
+        } else if(appearance != null) {
+            thumbnail.setColor(appearance.getColor());
+            thumbnail.fillRectangle(left, top, cell, cell);
+        }
+    }
+
+    /**
+     * Reads the image an appearance was made from.
+     *
+     * @param appearance The appearance, may be null.
+     * @return The image, or null if the appearance has no image file.
+     */
+    private static Pixmap readImage(Appearance appearance) {
+        if(appearance == null || appearance.getSourcePath() == null) return null;
+        return new Pixmap(Gdx.files.internal(appearance.getSourcePath()));
+    }
+
+    /**
+     * Computes the hash of what the thumbnail of a level shows: a 64 bits FNV-1a hash, in hexadecimal.
+     *
+     * @param level The level.
+     * @return The hash.
+     */
+    public static String hash(Level level) {
+        long hash = 0xcbf29ce484222325L;
+        hash = mix(hash, VERSION);
+        hash = mix(hash, level.getCols());
+        hash = mix(hash, level.getRows());
+
+        OccupancyGrid grid = level.getOccupancyGrid();
+        for(int y = 0; y < level.getRows(); ++y) {
+            for(int x = 0; x < level.getCols(); ++x) {
+                hash = mix(hash, grid.getFlags(x, y) & SHOWN_FLAGS);
+            }
+        }
+
+        Background background = level.getBackground();
+        hash = mix(hash, background.getBackgroundAppearance());
+        hash = mix(hash, background.getPathAppearance());
+        hash = mix(hash, background.getPathStartAppearance());
+        hash = mix(hash, background.getPathEndAppearance());
+        return Long.toHexString(hash);
+    }
+
+    /**
+     * Mixes the image of an appearance into a hash.
+     *
+     * @param hash       The hash.
+     * @param appearance The appearance, may be null.
+     * @return The new hash.
+     */
+    private static long mix(long hash, Appearance appearance) {
+        String path = appearance == null ? null : appearance.getSourcePath();
+        return mix(hash, path == null ? 0 : path.hashCode());
+    }
+
+    /**
+     * Mixes a value into a hash, one byte at a time.
+     *
+     * @param hash  The hash.
+     * @param value The value.
+     * @return The new hash.
+     */
+    private static long mix(long hash, int value) {
+        for(int shift = 0; shift < 32; shift += 8) {
+            hash ^= (value >>> shift) & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Disposes of the thumbnails. The images of the thumbnails still being drawn are disposed of by the worker,
+     * once it is disposed too.
+     */
+    @Override
+    public void dispose() {
+        for(Texture texture : textures.values()) {
+            DisposableTracker.dispose(texture);
+        }
+        textures.clear();
+        waiting.clear();
+        forgotten.clear();
+    }
+}
@@ -0,0 +1,238 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: A hierarchical timer wheel, calling a listener when timers scheduled on targets expire.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.tools;
+
+/**
+ * A hierarchical timer wheel: timers are put in buckets according to their deadline, so advancing the clock
+ * only looks at the timers that expire, instead of checking every timer on every update.
+ * The wheel has several levels of 64 buckets; the first level has one bucket per step of the clock,
+ * and each next level covers 64 times the span of the previous one. Timers of the higher levels are
+ * moved down one level each time the level below completes a turn.
+ * Timers carry a target, a kind and a generation, so the listener can ignore timers that became stale.
+ * Timer entries are pooled, so scheduling does not allocate once the pool is warm.
+ *
+ * @param <T> The type of the targets of the timers.
+ */
+public class TimerWheel<T> {
+    /**
+     * Listener called when a timer expires.
+     *
+     * @param <T> The type of the targets of the timers.
+     */
+    public interface ExpiryListener<T> {
+        /**
+         * Called when a timer expires.
+         *
+         * @param target     The target of the timer.
+         * @param kind       The kind of the timer.
+         * @param generation The generation given when the timer was scheduled.
+         */
+        void onExpired(T target, int kind, int generation);
+    }
+
+    /**
+     * A timer in the wheel, reused once expired.
+     */
+    private static final class Entry {
+        // The step of the clock at which the timer expires
+        long deadline;
+
+        // The data given to the listener
+        Object target;
+        int kind;
+        int generation;
+
+        // The next timer in the same bucket
+        Entry next;
+    }
+
+    // Layout of the wheel: 4 levels of 64 buckets
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    // Duration of one step of the clock, in seconds
+    private final float resolution;
+
+    // The buckets of each level
+    private final Entry[][] wheels = new Entry[LEVELS][SLOTS];
+
+    // The current step of the clock, and the time accumulated towards the next step
+    private long currentTick = 0;
+    private float elapsed = 0f;
+
+    // The number of scheduled timers
+    private int size = 0;
+
+    // Expired timers, ready to be reused
+    private Entry pool;
+
+    /**
+     * Constructs an empty timer wheel.
+     *
+     * @param resolution The duration of one step of the clock, in seconds.
+     */
+    public TimerWheel(float resolution) {
+        this.resolution = resolution;
+    }
+
+    /**
+     * Constructs an empty timer wheel whose clock is at the same time as another one.
+     * The timers of the other wheel are not copied.
+     *
+     * @param clock The wheel to take the clock from.
+     */
+    public TimerWheel(TimerWheel<?> clock) {
+        this.resolution = clock.resolution;
+        this.currentTick = clock.currentTick;
+        this.elapsed = clock.elapsed;
+    }
+
+    /**
+     * Schedules a timer. It expires on the first step of the clock at or after the given delay.
+     *
+     * @param delay      The delay before the timer expires, in seconds.
+     * @param target     The target given to the listener.
+     * @param kind       The kind given to the listener.
+     * @param generation The generation given to the listener.
+     */
+    public void schedule(float delay, T target, int kind, int generation) {
+        Entry entry = pool;
+        if(entry != null) {
+            pool = entry.next;
+        } else {
+            entry = new Entry();
+        }
+
+        long steps = Math.max(1L, (long) Math.ceil((delay + elapsed) / resolution));
+        entry.deadline = currentTick + steps;
+        entry.target = target;
+        entry.kind = kind;
+        entry.generation = generation;
+
+        insert(entry);
+        ++size;
+    }
+
+    /**
+     * Advances the clock, calling the listener for every timer that expires.
+     *
+     * @param delta    The time elapsed, in seconds.
+     * @param listener The listener to call.
+     */
+    public void advance(float delta, ExpiryListener<T> listener) {
+        elapsed += delta;
+        while(elapsed >= resolution) {
+            elapsed -= resolution;
+            step(listener);
+        }
+    }
+
+    /**
+     * Removes every timer from the wheel, keeping its clock.
+     */
+    public void clear() {
+        for(Entry[] wheel : wheels) {
+            for(int slot = 0; slot < SLOTS; ++slot) {
+                Entry entry = wheel[slot];
+                while(entry != null) {
+                    Entry next = entry.next;
+                    release(entry);
+                    entry = next;
+                }
+                wheel[slot] = null;
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Gets the current time of the clock.
+     *
+     * @return The time elapsed since the creation of the wheel, in seconds.
+     */
+    public float getTime() {
+        return currentTick * resolution + elapsed;
+    }
+
+    /**
+     * Gets the number of scheduled timers, including the ones whose generation became stale.
+     *
+     * @return The number of timers.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Advances the clock by one step: moves the timers of the higher levels down when a level completes a turn,
+     * then expires the timers of the current bucket of the first level.
+     *
+     * @param listener The listener to call.
+     */
+    @SuppressWarnings("unchecked")
+    private void step(ExpiryListener<T> listener) {
+        ++currentTick;
+
+        for(int level = 1; level < LEVELS; ++level) {
+            if((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) break;
+
+            int slot = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            Entry entry = wheels[level][slot];
+            wheels[level][slot] = null;
+            while(entry != null) {
+                Entry next = entry.next;
+                insert(entry);
+                entry = next;
+            }
+        }
+
+        int slot = (int) (currentTick & SLOT_MASK);
+        Entry entry = wheels[0][slot];
+        wheels[0][slot] = null;
+        while(entry != null) {
+            Entry next = entry.next;
+            if(entry.deadline <= currentTick) {
+                --size;
+                listener.onExpired((T) entry.target, entry.kind, entry.generation);
+                release(entry);
+            } else {
+                // Timers too far away for the highest level come back here until they are due
+                insert(entry);
+            }
+            entry = next;
+        }
+    }
+
+    /**
+     * Puts a timer in the bucket matching its deadline.
+     *
+     * @param entry The timer to insert.
+     */
+    private void insert(Entry entry) {
+        long steps = entry.deadline - currentTick;
+        int level = 0;
+        while(level < LEVELS - 1 && steps >= (1L << (SLOT_BITS * (level + 1)))) {
+            ++level;
+        }
+
+        int slot = (int) ((entry.deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        entry.next = wheels[level][slot];
+        wheels[level][slot] = entry;
+    }
+
+    /**
+     * Gives a timer back to the pool.
+     *
+     * @param entry The timer to release.
+     */
+    private void release(Entry entry) {
+        entry.target = null;
+        entry.next = pool;
+        pool = entry;
+    }
+}
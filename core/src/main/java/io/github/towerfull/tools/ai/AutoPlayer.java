@@ -0,0 +1,380 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: A computer player choosing which tower to build where, by simulating each candidate action ahead.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.tools.ai;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import io.github.towerfull.entities.defenses.BuildSpot;
+import io.github.towerfull.entities.defenses.Tower;
+import io.github.towerfull.entities.ennemies.Monster;
+import io.github.towerfull.enumElements.TowerType;
+import io.github.towerfull.gameBoard.GameArea;
+import io.github.towerfull.gameBoard.level.OccupancyGrid;
+import io.github.towerfull.tools.PrototypeFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * A computer player for the game, used by the hint button and by the headless bot benchmark.
+ * To take a decision, it lists the candidate actions (build each affordable tower on each free spot,
+ * replace a tower by a more expensive one, sell a tower), then simulates the game a fixed time ahead for each of them,
+ * in parallel on a snapshot of the game area. The candidate ending in the best state is chosen,
+ * unless waiting does at least as well.
+ * Every evaluation plays a snapshot of the same game area, with the same state of its random generator,
+ * so waiting and the candidates face the same monsters on the same paths, and differ only by the action.
+ * The candidates are evaluated from the most promising one (the most path covered, the most damage per second),
+ * so when the time budget runs out, the ones left unevaluated are the least likely to win.
+ * Selling a tower comes last, from the least useful tower: it only wins when the tower no longer pays for itself.
+ */
+public class AutoPlayer {
+    // Default time simulated ahead for each candidate, in seconds
+    public static final float DEFAULT_HORIZON = 40f;
+
+    // Default time budget of a decision, in seconds
+    public static final float DEFAULT_BUDGET = 0.25f;
+
+    // Duration of a step of the look-ahead simulations: towers fire every shot owed, so steps can be coarse
+    private static final float STEP = 0.1f;
+
+    // Simulated time between two checks of the deadline and of the end of the level, in seconds
+    private static final float CHUNK = 5f;
+
+    // Value of a life point against gold, when comparing two states
+    private static final float LIFE_VALUE = 50f;
+
+    // Maximum number of candidates evaluated for a decision
+    private static final int MAX_CANDIDATES = 64;
+
+    // The factory creating the towers built by the candidate actions
+    private final PrototypeFactory<TowerType, Tower> towerFactory;
+
+    // Threads evaluating the candidates
+    private final ExecutorService workers;
+
+    // Thread waiting for the asynchronous decisions, so the workers are never blocked by one
+    private final ExecutorService coordinator;
+
+    // Time simulated ahead for each candidate, in seconds
+    private float horizon = DEFAULT_HORIZON;
+
+    // Time budget of a decision, in nanoseconds
+    private long budgetNanos = (long) (DEFAULT_BUDGET * 1e9);
+
+    // Total time simulated by the look-ahead, in milliseconds, and number of candidates evaluated
+    private final AtomicLong simulatedMillis = new AtomicLong();
+    private final AtomicLong evaluations = new AtomicLong();
+
+    /**
+     * Constructs an auto player using every core but one.
+     *
+     * @param towerFactory The factory creating the towers.
+     */
+    public AutoPlayer(PrototypeFactory<TowerType, Tower> towerFactory) {
+        this(towerFactory, Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    /**
+     * Constructs an auto player.
+     *
+     * @param towerFactory The factory creating the towers.
+     * @param threads      The number of threads evaluating the candidates.
+     */
+    public AutoPlayer(PrototypeFactory<TowerType, Tower> towerFactory, int threads) {
+        this.towerFactory = towerFactory;
+        this.workers = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "AutoPlayer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AutoPlayer-decision");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Chooses the best action for a game area, within the time budget.
+     * The game area is only read, to take a snapshot; it must not be updated during the call.
+     *
+     * @param area The game area.
+     * @return The best action found, PlayerAction.WAIT if nothing beats waiting.
+     */
+    public PlayerAction decide(GameArea area) {
+        return search(area.snapshot());
+    }
+
+    /**
+     * Chooses the best action for a game area without blocking the caller.
+     * The snapshot should be taken on the thread owning the game area (for instance in a GameCommand);
+     * the callback is called on a thread of the auto player.
+     *
+     * @param snapshot A snapshot of the game area, not used by anything else.
+     * @param callback Called with the best action found.
+     */
+    public void decideAsync(GameArea snapshot, Consumer<PlayerAction> callback) {
+        coordinator.execute(() -> callback.accept(search(snapshot)));
+    }
+
+    /**
+     * Evaluates the candidate actions on a snapshot and returns the best one.
+     *
+     * @param base The snapshot, only copied by the evaluations.
+     * @return The best action found.
+     */
+    private PlayerAction search(GameArea base) {
+        long deadline = System.nanoTime() + budgetNanos;
+        List<PlayerAction> candidates = listCandidates(base, towerFactory, MAX_CANDIDATES, true);
+
+        // Waiting is always evaluated completely, as the reference the other candidates have to beat
+        List<Future<Float>> scores = new ArrayList<>(candidates.size() + 1);
+        scores.add(workers.submit(() -> evaluate(base, PlayerAction.WAIT, Long.MAX_VALUE)));
+        for(PlayerAction candidate : candidates) {
+            scores.add(workers.submit(() -> evaluate(base, candidate, deadline)));
+        }
+
+        PlayerAction best = PlayerAction.WAIT;
+        float bestScore = score(scores.get(0));
+        for(int i = 0; i < candidates.size(); ++i) {
+            float candidateScore = score(scores.get(i + 1));
+            if(candidateScore > bestScore) {
+                bestScore = candidateScore;
+                best = candidates.get(i);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Waits for the score of an evaluation.
+     *
+     * @param future The pending evaluation.
+     * @return The score, or negative infinity if the evaluation failed or did not finish in time.
+     */
+    private float score(Future<Float> future) {
+        try {
+            Float score = future.get();
+            return score.isNaN() ? Float.NEGATIVE_INFINITY : score;
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Float.NEGATIVE_INFINITY;
+        } catch(ExecutionException e) {
+            return Float.NEGATIVE_INFINITY;
+        }
+    }
+
+    /**
+     * Lists the candidate actions for a game area, from the most promising to the least.
+     * It is shared with the reference bot, which picks among the first candidates without simulating them.
+     *
+     * @param area         The game area.
+     * @param towerFactory The factory creating the towers.
+     * @param max          The maximum number of candidates returned.
+     * @param sells        true to list the sale of each tower, after every build and replacement.
+     * @return The candidate actions, waiting excluded.
+     */
+    static List<PlayerAction> listCandidates(GameArea area, PrototypeFactory<TowerType, Tower> towerFactory, int max,
+                                             boolean sells) {
+        Array<BuildSpot> spots = area.getBuildSpots();
+        int gold = area.getEconomyManager().getGold();
+
+        List<PlayerAction> candidates = new ArrayList<>();
+        List<Float> priorities = new ArrayList<>();
+        for(int i = 0; i < spots.size; ++i) {
+            BuildSpot spot = spots.get(i);
+            int available = gold;
+            if(spot.isUsed()) {
+                available += Math.max(spot.getTower().getCost() / 2, 0);
+            }
+
+            for(TowerType type : TowerType.values()) {
+                Tower tower = towerFactory.getPrototype(type);
+                if(tower == null || tower.getCost() > available) continue;
+
+                if(!spot.isUsed()) {
+                    candidates.add(PlayerAction.build(i, type));
+                } else if(tower.getCost() > spot.getTower().getCost()) {
+                    candidates.add(PlayerAction.replace(i, type));
+                } else {
+                    continue;
+                }
+                priorities.add(priority(area, spot.getLogicalPos(), tower));
+            }
+
+            if(sells && spot.isUsed()) {
+                // Below every build, the least useful tower first
+                candidates.add(PlayerAction.sell(i));
+                priorities.add(-1f - priority(area, spot.getLogicalPos(), spot.getTower()));
+            }
+        }
+
+        // Sort by decreasing priority
+        Integer[] order = new Integer[candidates.size()];
+        for(int i = 0; i < order.length; ++i) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Float.compare(priorities.get(b), priorities.get(a)));
+
+        List<PlayerAction> sorted = new ArrayList<>(Math.min(order.length, max));
+        for(int i = 0; i < order.length && i < max; ++i) {
+            sorted.add(candidates.get(order[i]));
+        }
+        return sorted;
+    }
+
+    /**
+     * Estimates how useful a tower would be on a spot, without simulating anything:
+     * the number of path cells within its range, times its damage per second (splash counting double).
+     *
+     * @param area  The game area.
+     * @param pos   The position of the spot.
+     * @param tower The prototype of the tower.
+     * @return The priority of the candidate, higher is better.
+     */
+    private static float priority(GameArea area, Vector2 pos, Tower tower) {
+        OccupancyGrid grid = area.getOccupancyGrid();
+        int range = tower.getRange();
+        int covered = 0;
+        for(int dx = -range; dx <= range; ++dx) {
+            for(int dy = -range; dy <= range; ++dy) {
+                if(dx * dx + dy * dy <= range * range && grid.has((int) pos.x + dx, (int) pos.y + dy, OccupancyGrid.PATH)) {
+                    ++covered;
+                }
+            }
+        }
+
+        float dps = tower.getDamage() / Math.max(tower.getCooldown(), STEP);
+        if(tower.getSplashRadius() > 0f) {
+            dps *= 2f;
+        }
+        return covered * dps;
+    }
+
+    /**
+     * Applies an action to a copy of a game area, simulates it ahead and scores the resulting state.
+     *
+     * @param base     The snapshot of the game area.
+     * @param action   The action to evaluate.
+     * @param deadline The time after which the evaluation is abandoned, as given by System.nanoTime.
+     * @return The score of the action, or NaN if it could not be applied or was abandoned.
+     */
+    private float evaluate(GameArea base, PlayerAction action, long deadline) {
+        if(System.nanoTime() > deadline) return Float.NaN;
+
+        GameArea area = base.snapshot();
+        if(!action.apply(area, towerFactory)) return Float.NaN;
+
+        float time = 0f;
+        while(time < horizon) {
+            if(System.nanoTime() > deadline) return Float.NaN;
+
+            float chunk = Math.min(CHUNK, horizon - time);
+            area.simulate(chunk, STEP);
+            time += chunk;
+            // A lost game keeps running to the horizon: stopping it would freeze the threat of its monsters,
+            // and losing early would score better than losing late
+            if(area.isCleared()) break;
+        }
+
+        simulatedMillis.addAndGet((long) (time * 1000f));
+        evaluations.incrementAndGet();
+        return score(area);
+    }
+
+    /**
+     * Scores the state of a game area: its life, its gold and the resale value of its towers,
+     * minus the threat of the monsters still alive (their damage, weighted by how far they went).
+     *
+     * @param area The game area.
+     * @return The score, higher is better.
+     */
+    public static float score(GameArea area) {
+        float score = area.getLife() * LIFE_VALUE + area.getEconomyManager().getGold();
+
+        for(BuildSpot spot : area.getBuildSpots()) {
+            if(spot.isUsed()) {
+                score += Math.max(spot.getTower().getCost() / 2, 0);
+            }
+        }
+
+        for(Monster monster : area.getMonsters()) {
+            float length = monster.getPathLength();
+            float progress = length > 0f ? monster.getDistanceTravelled() / length : 0f;
+            score -= monster.getDamage() * LIFE_VALUE * progress;
+        }
+        return score;
+    }
+
+    /**
+     * Sets the time simulated ahead for each candidate.
+     *
+     * @param seconds The horizon in seconds.
+     */
+    public void setHorizon(float seconds) {
+        this.horizon = Math.max(STEP, seconds);
+    }
+
+    /**
+     * Gets the time simulated ahead for each candidate.
+     *
+     * @return The horizon in seconds.
+     */
+    public float getHorizon() {
+        return horizon;
+    }
+
+    /**
+     * Sets the time budget of a decision. Waiting is always evaluated, even past the budget.
+     *
+     * @param seconds The budget in seconds.
+     */
+    public void setBudget(float seconds) {
+        this.budgetNanos = (long) (Math.max(0f, seconds) * 1e9);
+    }
+
+    /**
+     * Gets the time budget of a decision.
+     *
+     * @return The budget in seconds.
+     */
+    public float getBudget() {
+        return budgetNanos / 1e9f;
+    }
+
+    /**
+     * Gets the total time simulated by the look-ahead since the auto player was created.
+     *
+     * @return The simulated time in seconds.
+     */
+    public float getSimulatedSeconds() {
+        return simulatedMillis.get() / 1000f;
+    }
+
+    /**
+     * Gets the number of candidates evaluated completely since the auto player was created.
+     *
+     * @return The number of evaluations.
+     */
+    public long getEvaluations() {
+        return evaluations.get();
+    }
+
+    /**
+     * Stops the threads of the auto player. Decisions in progress are abandoned.
+     */
+    public void dispose() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,588 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Searches the waves of a scenario so that the reference bot wins a level at a target rate.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.tools.ai;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.OrderedMap;
+import io.github.towerfull.entities.defenses.Tower;
+import io.github.towerfull.entities.ennemies.Monster;
+import io.github.towerfull.entities.ennemies.Scenario;
+import io.github.towerfull.entities.ennemies.Wave;
+import io.github.towerfull.entities.ennemies.WaveEntry;
+import io.github.towerfull.entities.ennemies.WaveSchedule;
+import io.github.towerfull.enumElements.MonsterType;
+import io.github.towerfull.enumElements.TowerType;
+import io.github.towerfull.enumElements.WaveId;
+import io.github.towerfull.gameBoard.GameArea;
+import io.github.towerfull.gameBoard.level.Level;
+import io.github.towerfull.tools.PrototypeFactory;
+import io.github.towerfull.tools.data.ScenarioData;
+import io.github.towerfull.tools.data.WaveEntryData;
+import io.github.towerfull.tools.data.WaveScheduleData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * A tool tuning the difficulty of a scenario on a level, by batch simulation.
+ * The difficulty of a scenario is the rate at which the reference bot wins the level, over a fixed set of seeds.
+ * Starting from the scenario as written in scenarios.json, the tuner repeatedly mutates the waves
+ * (start time, number of monsters, monster mix) towards the target, and keeps a mutant when it gets closer.
+ * The games of a candidate are played in parallel, in batches; a candidate is abandoned as soon as the games
+ * left cannot bring it closer to the target than the best candidate so far.
+ * The same seeds are used for every candidate, so they are compared on the same games: a seed drives both
+ * the choices of the reference bot and the random generator of the game area (spawn points, branches of the paths).
+ */
+public class DifficultyTuner {
+    // Number of games played to measure the win rate of a candidate
+    private static final int GAMES = 64;
+
+    // Number of generations, and of mutants tried per generation
+    private static final int GENERATIONS = 25;
+    private static final int MUTANTS = 6;
+
+    // Distance to the target win rate considered good enough
+    private static final float TOLERANCE = 1f / 32f;
+
+    // Longest game, in simulated seconds
+    private static final float MAX_DURATION = 900f;
+
+    // Bounds of the number of monsters of a wave, relative to the original wave
+    private static final float MIN_DENSITY = 0.25f;
+    private static final float MAX_DENSITY = 4f;
+
+    // Probability of a mutation going in a random direction instead of towards the target
+    private static final float EXPLORATION = 0.2f;
+
+    // Time between two repetitions of the entries of a wave, in seconds
+    private static final float REPEAT_GAP = 0.5f;
+
+    // The factories creating the monsters and the towers
+    private final PrototypeFactory<MonsterType, Monster> monsterFactory;
+    private final PrototypeFactory<TowerType, Tower> towerFactory;
+
+    // The factory of the waves referenced by the scenarios
+    private final PrototypeFactory<WaveId, WaveSchedule> waveFactory;
+
+    // The monster types with a prototype, from the weakest to the strongest
+    private final MonsterType[] byThreat;
+
+    // Threads playing the games
+    private final ExecutorService workers;
+    private final int threads;
+
+    // Random generator of the mutations
+    private final RandomXS128 random = new RandomXS128(1);
+
+    // Number of games played, and skipped by abandoned candidates
+    private long gamesPlayed = 0;
+    private long gamesSkipped = 0;
+
+    /**
+     * Constructs a difficulty tuner.
+     *
+     * @param monsterFactory The factory creating the monsters.
+     * @param towerFactory   The factory creating the towers of the reference bot.
+     * @param waveFactory    The factory of the waves referenced by the scenarios.
+     * @param threads        The number of threads playing the games.
+     */
+    public DifficultyTuner(PrototypeFactory<MonsterType, Monster> monsterFactory,
+                           PrototypeFactory<TowerType, Tower> towerFactory,
+                           PrototypeFactory<WaveId, WaveSchedule> waveFactory, int threads) {
+        this.monsterFactory = monsterFactory;
+        this.towerFactory = towerFactory;
+        this.waveFactory = waveFactory;
+        this.threads = Math.max(1, threads);
+        this.workers = Executors.newFixedThreadPool(this.threads, runnable -> {
+            Thread thread = new Thread(runnable, "DifficultyTuner");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<MonsterType> types = new ArrayList<>();
+        for(MonsterType type : MonsterType.values()) {
+            if(monsterFactory.getPrototype(type) != null) {
+                types.add(type);
+            }
+        }
+        types.sort((a, b) -> Float.compare(threat(a), threat(b)));
+        this.byThreat = types.toArray(new MonsterType[0]);
+    }
+
+    /**
+     * Tunes a scenario so that the reference bot wins the level at the target rate.
+     *
+     * @param level    The level played, whose own scenario is ignored.
+     * @param data     The scenario as written in scenarios.json.
+     * @param target   The target win rate, between 0 and 1.
+     * @param progress Called on the calling thread with a line describing each improvement, may be null.
+     * @return The tuned scenario, to be written back in scenarios.json.
+     */
+    public ScenarioData tune(Level level, ScenarioData data, float target, Consumer<String> progress) {
+        Candidate best = Candidate.of(data, waveFactory);
+        Result bestResult = evaluate(level, best, target, Float.POSITIVE_INFINITY);
+        report(progress, "initial", bestResult, target);
+
+        for(int generation = 1; generation <= GENERATIONS && bestResult.error(target) > TOLERANCE; ++generation) {
+            // Positive when the scenario is too easy and has to become harder
+            int direction = bestResult.winRate > target ? 1 : -1;
+
+            for(int i = 0; i < MUTANTS; ++i) {
+                int mutationDirection = random.nextFloat() < EXPLORATION ? -direction : direction;
+                Candidate mutant = best.mutate(random, mutationDirection, byThreat.length);
+
+                Result result = evaluate(level, mutant, target, bestResult.error(target));
+                if(result.complete && result.error(target) < bestResult.error(target)) {
+                    best = mutant;
+                    bestResult = result;
+                    report(progress, "generation " + generation, bestResult, target);
+                }
+            }
+        }
+
+        return best.toData(byThreat);
+    }
+
+    /**
+     * Plays the games of a candidate, in parallel batches, and measures its win rate.
+     * The candidate is abandoned when it can no longer get strictly closer to the target than the given error.
+     *
+     * @param level     The level played.
+     * @param candidate The candidate scenario.
+     * @param target    The target win rate.
+     * @param bestError The error of the best candidate so far, or positive infinity to play every game.
+     * @return The result of the candidate.
+     */
+    private Result evaluate(Level level, Candidate candidate, float target, float bestError) {
+        Scenario scenario = candidate.toScenario(monsterFactory, byThreat);
+        scenario.getTimeline(); // Compiled once, before the games share it
+        Level tuned = new Level(level.getCols(), level.getRows(), level.getPathGraph(), scenario,
+            level.getBuildableTiles(), level.getStartingGold(), level.getStartingLife(), level.getBackground());
+
+        int wins = 0;
+        int played = 0;
+        int batch = Math.max(threads, 8);
+        List<Future<Boolean>> games = new ArrayList<>(batch);
+
+        while(played < GAMES) {
+            games.clear();
+            for(int seed = played; seed < Math.min(played + batch, GAMES); ++seed) {
+                long gameSeed = seed;
+                games.add(workers.submit(() -> new ReferenceBot(towerFactory, gameSeed).play(newGame(tuned, gameSeed), MAX_DURATION)));
+            }
+            for(Future<Boolean> game : games) {
+                if(won(game)) {
+                    ++wins;
+                }
+            }
+            played += games.size();
+            gamesPlayed += games.size();
+
+            if(played < GAMES && bestPossibleError(wins, played, target) >= bestError) {
+                gamesSkipped += GAMES - played;
+                return new Result(wins / (float) played, false);
+            }
+        }
+        return new Result(wins / (float) GAMES, true);
+    }
+
+    /**
+     * Creates the game area of one game, seeded so that every candidate plays it with the same spawns and paths.
+     *
+     * @param level The level played.
+     * @param seed  The seed of the game.
+     * @return The game area.
+     */
+    private static GameArea newGame(Level level, long seed) {
+        GameArea area = new GameArea(level);
+        area.setSeed(seed);
+        return area;
+    }
+
+    /**
+     * Waits for the outcome of a game.
+     *
+     * @param game The pending game.
+     * @return true if the bot won the game, false if it lost or the game failed.
+     */
+    private boolean won(Future<Boolean> game) {
+        try {
+            return game.get();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch(ExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Computes the smallest error a candidate can still reach, whatever the outcome of its remaining games.
+     *
+     * @param wins   The number of games won so far.
+     * @param played The number of games played so far.
+     * @param target The target win rate.
+     * @return The smallest reachable distance to the target win rate.
+     */
+    private static float bestPossibleError(int wins, int played, float target) {
+        float lowest = wins / (float) GAMES;
+        float highest = (wins + GAMES - played) / (float) GAMES;
+        if(target < lowest) return lowest - target;
+        if(target > highest) return target - highest;
+        return 0f;
+    }
+
+    /**
+     * Estimates how dangerous a type of monster is, to order the monster mix.
+     *
+     * @param type The type of monster.
+     * @return Its health times its damage.
+     */
+    private float threat(MonsterType type) {
+        Monster monster = monsterFactory.getPrototype(type);
+        return monster.getPv() * (float) monster.getDamage();
+    }
+
+    /**
+     * Sends a line describing the current best candidate to the progress callback.
+     *
+     * @param progress The callback, may be null.
+     * @param step     The step of the search.
+     * @param result   The result of the best candidate.
+     * @param target   The target win rate.
+     */
+    private void report(Consumer<String> progress, String step, Result result, float target) {
+        if(progress == null) return;
+        progress.accept(step + ": win rate " + MathUtils.round(result.winRate * 100f) + "% (target "
+            + MathUtils.round(target * 100f) + "%), " + gamesPlayed + " games played, " + gamesSkipped + " skipped");
+    }
+
+    /**
+     * Gets the number of games played since the tuner was created.
+     *
+     * @return The number of games.
+     */
+    public long getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /**
+     * Gets the number of games skipped because their candidate was abandoned.
+     *
+     * @return The number of games.
+     */
+    public long getGamesSkipped() {
+        return gamesSkipped;
+    }
+
+    /**
+     * Stops the threads of the tuner.
+     */
+    public void dispose() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Reads the scenarios of a scenarios.json file, keeping their order.
+     *
+     * @param file The file to read.
+     * @return The scenarios, by name.
+     */
+    @SuppressWarnings("unchecked")
+    public static OrderedMap<String, ScenarioData> readScenarios(FileHandle file) {
+        return createJson().fromJson(OrderedMap.class, ScenarioData.class, file);
+    }
+
+    /**
+     * Writes scenarios in the format of scenarios.json.
+     *
+     * @param file      The file to write.
+     * @param scenarios The scenarios, by name.
+     */
+    public static void writeScenarios(FileHandle file, OrderedMap<String, ScenarioData> scenarios) {
+        Json json = createJson();
+        JsonValue.PrettyPrintSettings settings = new JsonValue.PrettyPrintSettings();
+        settings.outputType = JsonWriter.OutputType.json;
+        settings.singleLineColumns = 60;
+
+        // Same layout as the hand-written file: two spaces per level, one wave or entry per line
+        String text = new JsonReader().parse(json.toJson(scenarios, OrderedMap.class, ScenarioData.class)).prettyPrint(settings);
+        String[] lines = text.replace("\t", "  ").split("\n");
+        StringBuilder builder = new StringBuilder();
+        for(int i = 0; i < lines.length; ++i) {
+            // The scenarios themselves are not indented by the pretty printer
+            boolean member = i > 0 && i < lines.length - 1;
+            builder.append(member ? "  " : "").append(lines[i]).append('\n');
+        }
+        file.writeString(builder.toString(), false);
+    }
+
+    /**
+     * Creates the Json instance reading and writing the scenarios, with the settings of the prototype loaders.
+     *
+     * @return The Json instance.
+     */
+    private static Json createJson() {
+        Json json = new Json(JsonWriter.OutputType.json);
+        json.setIgnoreUnknownFields(true);
+        json.setEnumNames(true);
+        return json;
+    }
+
+    /**
+     * The outcome of the games of a candidate.
+     */
+    private static final class Result {
+        // The rate of games won
+        final float winRate;
+
+        // Whether every game was played (false if the candidate was abandoned)
+        final boolean complete;
+
+        /**
+         * Constructs a result.
+         *
+         * @param winRate  The rate of games won.
+         * @param complete Whether every game was played.
+         */
+        Result(float winRate, boolean complete) {
+            this.winRate = winRate;
+            this.complete = complete;
+        }
+
+        /**
+         * Computes the distance of the win rate to the target.
+         *
+         * @param target The target win rate.
+         * @return The absolute difference.
+         */
+        float error(float target) {
+            return Math.abs(winRate - target);
+        }
+    }
+
+    /**
+     * One wave of a candidate scenario: the entries it is based on, and how they are changed.
+     */
+    private static final class WavePlan {
+        // The wave of scenarios.json this plan is based on
+        final WaveId wave;
+
+        // The entries the plan is based on
+        final List<WaveEntry> entries;
+
+        // Whether the entries were written inline in scenarios.json
+        final boolean inline;
+
+        // The start time of the wave in the scenario, in seconds
+        final float startTime;
+
+        // The number of monsters, relative to the entries
+        final float density;
+
+        // The number of steps each monster is moved in the order of threat (positive for stronger ones)
+        final int tierShift;
+
+        /**
+         * Constructs a wave plan.
+         *
+         * @param wave      The wave this plan is based on.
+         * @param entries   The entries the plan is based on.
+         * @param inline    Whether the entries were written inline.
+         * @param startTime The start time of the wave, in seconds.
+         * @param density   The number of monsters, relative to the entries.
+         * @param tierShift The shift of the monsters in the order of threat.
+         */
+        WavePlan(WaveId wave, List<WaveEntry> entries, boolean inline, float startTime, float density, int tierShift) {
+            this.wave = wave;
+            this.entries = entries;
+            this.inline = inline;
+            this.startTime = startTime;
+            this.density = density;
+            this.tierShift = tierShift;
+        }
+
+        /**
+         * Checks if the wave differs from the one of scenarios.json it is based on.
+         *
+         * @return true if the entries must be written inline.
+         */
+        boolean isModified() {
+            return inline || density != 1f || tierShift != 0;
+        }
+
+        /**
+         * Computes the entries of the wave: the base entries are repeated (or cut) to match the density,
+         * and each monster is replaced by the one tierShift steps further in the order of threat.
+         *
+         * @param byThreat The monster types from the weakest to the strongest.
+         * @return The entries of the wave.
+         */
+        List<WaveEntry> expand(MonsterType[] byThreat) {
+            List<WaveEntry> expanded = new ArrayList<>();
+            if(entries.isEmpty()) return expanded;
+
+            float period = entries.get(entries.size() - 1).getRelativeSpawnTime() + REPEAT_GAP;
+            int count = Math.max(1, MathUtils.round(entries.size() * density));
+            for(int k = 0; k < count; ++k) {
+                WaveEntry entry = entries.get(k % entries.size());
+                float time = entry.getRelativeSpawnTime() + (k / entries.size()) * period;
+                expanded.add(new WaveEntry(shift(entry.getType(), byThreat), Math.round(time * 100f) / 100f));
+            }
+            return expanded;
+        }
+
+        /**
+         * Moves a monster type in the order of threat.
+         *
+         * @param type     The type of monster.
+         * @param byThreat The monster types from the weakest to the strongest.
+         * @return The shifted type, or the same one if it has no prototype.
+         */
+        private MonsterType shift(MonsterType type, MonsterType[] byThreat) {
+            if(tierShift == 0) return type;
+            int index = Arrays.asList(byThreat).indexOf(type);
+            if(index < 0) return type;
+            return byThreat[MathUtils.clamp(index + tierShift, 0, byThreat.length - 1)];
+        }
+    }
+
+    /**
+     * A candidate scenario: one plan per wave. Candidates are immutable, mutations create new ones.
+     */
+    private static final class Candidate {
+        // The plans of the waves, in the order of scenarios.json
+        final WavePlan[] waves;
+
+        /**
+         * Constructs a candidate.
+         *
+         * @param waves The plans of the waves.
+         */
+        Candidate(WavePlan[] waves) {
+            this.waves = waves;
+        }
+
+        /**
+         * Creates the candidate of a scenario as written in scenarios.json.
+         *
+         * @param data        The scenario.
+         * @param waveFactory The factory of the waves referenced by the scenario.
+         * @return The candidate, unchanged from the scenario.
+         */
+        static Candidate of(ScenarioData data, PrototypeFactory<WaveId, WaveSchedule> waveFactory) {
+            List<WavePlan> plans = new ArrayList<>();
+            for(WaveScheduleData schedule : data.waves) {
+                List<WaveEntry> entries = new ArrayList<>();
+                if(schedule.entries != null) {
+                    for(WaveEntryData entry : schedule.entries) {
+                        entries.add(new WaveEntry(entry.type, entry.spawnTime));
+                    }
+                } else {
+                    WaveSchedule wave = waveFactory.create(schedule.wave);
+                    if(wave == null) continue;
+                    entries.addAll(wave.getWave().getEntries());
+                }
+                plans.add(new WavePlan(schedule.wave, entries, schedule.entries != null, schedule.startTime, 1f, 0));
+            }
+            return new Candidate(plans.toArray(new WavePlan[0]));
+        }
+
+        /**
+         * Creates a mutant of this candidate, changing one wave.
+         * The wave gets more or fewer monsters, stronger or weaker ones, or starts sooner or later.
+         *
+         * @param random    The random generator.
+         * @param direction 1 to make the scenario harder, -1 to make it easier.
+         * @param typeCount The number of monster types.
+         * @return The mutant.
+         */
+        Candidate mutate(RandomXS128 random, int direction, int typeCount) {
+            WavePlan[] mutated = waves.clone();
+            if(mutated.length == 0) return this;
+
+            int index = random.nextInt(mutated.length);
+            WavePlan plan = mutated[index];
+            float density = plan.density;
+            int tierShift = plan.tierShift;
+            float startTime = plan.startTime;
+
+            switch(random.nextInt(3)) {
+                case 0:
+                    density = MathUtils.clamp(density * (direction > 0 ? 1.25f : 0.8f), MIN_DENSITY, MAX_DENSITY);
+                    break;
+                case 1:
+                    tierShift = MathUtils.clamp(tierShift + direction, 1 - typeCount, typeCount - 1);
+                    break;
+                default:
+                    // A harder wave comes sooner after the previous one, an easier one later
+                    float previous = index > 0 ? mutated[index - 1].startTime : 0f;
+                    float gap = Math.max(1f, startTime - previous);
+                    startTime = Math.max(previous, startTime - direction * 0.2f * gap);
+                    startTime = Math.round(startTime * 10f) / 10f;
+                    break;
+            }
+
+            mutated[index] = new WavePlan(plan.wave, plan.entries, plan.inline, startTime, density, tierShift);
+            return new Candidate(mutated);
+        }
+
+        /**
+         * Creates the scenario of this candidate.
+         *
+         * @param monsterFactory The factory creating the monsters.
+         * @param byThreat       The monster types from the weakest to the strongest.
+         * @return The scenario.
+         */
+        Scenario toScenario(PrototypeFactory<MonsterType, Monster> monsterFactory, MonsterType[] byThreat) {
+            Scenario scenario = new Scenario(monsterFactory);
+            for(WavePlan plan : waves) {
+                scenario.addWave(new Wave(plan.expand(byThreat)), plan.startTime);
+            }
+            return scenario;
+        }
+
+        /**
+         * Converts this candidate to the format of scenarios.json.
+         * Unchanged waves only reference their wave; changed ones list their entries inline.
+         *
+         * @param byThreat The monster types from the weakest to the strongest.
+         * @return The scenario data.
+         */
+        ScenarioData toData(MonsterType[] byThreat) {
+            ScenarioData data = new ScenarioData();
+            data.waves = new ArrayList<>();
+            for(WavePlan plan : waves) {
+                WaveScheduleData schedule = new WaveScheduleData();
+                schedule.wave = plan.wave;
+                schedule.startTime = plan.startTime;
+                if(plan.isModified()) {
+                    schedule.entries = new ArrayList<>();
+                    for(WaveEntry entry : plan.expand(byThreat)) {
+                        WaveEntryData entryData = new WaveEntryData();
+                        entryData.type = entry.getType();
+                        entryData.spawnTime = entry.getRelativeSpawnTime();
+                        schedule.entries.add(entryData);
+                    }
+                }
+                data.waves.add(schedule);
+            }
+            return data;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: An action the auto player can take: waiting, building a tower, or selling one to build another.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.tools.ai;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.towerfull.entities.defenses.BuildSpot;
+import io.github.towerfull.entities.defenses.Tower;
+import io.github.towerfull.enumElements.TowerType;
+import io.github.towerfull.gameBoard.GameArea;
+import io.github.towerfull.tools.PrototypeFactory;
+
+/**
+ * An action of the player, as considered by the auto player.
+ * Build spots are referred to by their index in the game area, so the same action can be applied
+ * to any copy of a game area. An action can sell the tower of a spot, then build a tower on a spot
+ * (the same one to replace a tower by another type), or do nothing at all.
+ */
+public class PlayerAction {
+    /**
+     * The action doing nothing.
+     */
+    public static final PlayerAction WAIT = new PlayerAction(-1, -1, null);
+
+    // Index of the spot whose tower is sold first, or -1
+    private final int sellSpot;
+
+    // Index of the spot on which a tower is built, or -1
+    private final int buildSpot;
+
+    // Type of the tower built, or null
+    private final TowerType towerType;
+
+    /**
+     * Constructs an action.
+     *
+     * @param sellSpot  The index of the spot whose tower is sold first, or -1.
+     * @param buildSpot The index of the spot on which a tower is built, or -1.
+     * @param towerType The type of the tower built, or null.
+     */
+    private PlayerAction(int sellSpot, int buildSpot, TowerType towerType) {
+        this.sellSpot = sellSpot;
+        this.buildSpot = buildSpot;
+        this.towerType = towerType;
+    }
+
+    /**
+     * Creates an action building a tower on a free spot.
+     *
+     * @param spot The index of the build spot.
+     * @param type The type of the tower.
+     * @return The action.
+     */
+    public static PlayerAction build(int spot, TowerType type) {
+        return new PlayerAction(-1, spot, type);
+    }
+
+    /**
+     * Creates an action selling the tower of a spot.
+     *
+     * @param spot The index of the build spot.
+     * @return The action.
+     */
+    public static PlayerAction sell(int spot) {
+        return new PlayerAction(spot, -1, null);
+    }
+
+    /**
+     * Creates an action selling the tower of a spot, then building a tower of another type in its place.
+     *
+     * @param spot The index of the build spot.
+     * @param type The type of the new tower.
+     * @return The action.
+     */
+    public static PlayerAction replace(int spot, TowerType type) {
+        return new PlayerAction(spot, spot, type);
+    }
+
+    /**
+     * Applies the action to a game area, with the same rules as the construction and destruction menus:
+     * a tower costs its price, and selling it refunds half of it.
+     * Nothing is done if the action is no longer possible (spot taken, not enough gold).
+     *
+     * @param area         The game area, owned by the calling thread.
+     * @param towerFactory The factory creating the towers.
+     * @return true if the action was applied, false otherwise.
+     */
+    public boolean apply(GameArea area, PrototypeFactory<TowerType, Tower> towerFactory) {
+        if(isWait()) return true;
+
+        if(sellSpot >= 0) {
+            BuildSpot spot = area.getBuildSpots().get(sellSpot);
+            if(!spot.isUsed()) return false;
+
+            Tower tower = towerType != null ? towerFactory.getPrototype(towerType) : null;
+            int refund = Math.max(spot.getTower().getCost() / 2, 0);
+            if(tower != null && area.getEconomyManager().getGold() + refund < tower.getCost()) return false;
+
+            area.getEconomyManager().earnGold(refund);
+            area.removeTower(spot);
+        }
+
+        if(buildSpot >= 0) {
+            BuildSpot spot = area.getBuildSpots().get(buildSpot);
+            if(spot.isUsed()) return false;
+
+            Tower tower = towerFactory.create(towerType);
+            if(tower == null || !area.getEconomyManager().spendGold(tower.getCost())) return false;
+            area.buildTower(spot, tower);
+        }
+        return true;
+    }
+
+    /**
+     * Describes the action for the player, with the position of its build spot.
+     *
+     * @param area The game area the action applies to.
+     * @return A short description of the action.
+     */
+    public String describe(GameArea area) {
+        if(isWait()) return "Wait";
+
+        int index = buildSpot >= 0 ? buildSpot : sellSpot;
+        Vector2 pos = area.getBuildSpots().get(index).getLogicalPos();
+        String where = "(" + (int) pos.x + ", " + (int) pos.y + ")";
+
+        if(sellSpot < 0) return "Build " + towerType + " at " + where;
+        if(buildSpot < 0) return "Sell the tower at " + where;
+        return "Replace the tower at " + where + " by " + towerType;
+    }
+
+    /**
+     * Checks if the action does nothing.
+     *
+     * @return true for the waiting action, false otherwise.
+     */
+    public boolean isWait() {
+        return sellSpot < 0 && buildSpot < 0;
+    }
+
+    /**
+     * Gets the index of the spot whose tower is sold.
+     *
+     * @return The index of the spot, or -1 if nothing is sold.
+     */
+    public int getSellSpot() {
+        return sellSpot;
+    }
+
+    /**
+     * Gets the index of the spot on which a tower is built.
+     *
+     * @return The index of the spot, or -1 if nothing is built.
+     */
+    public int getBuildSpot() {
+        return buildSpot;
+    }
+
+    /**
+     * Gets the type of the tower built.
+     *
+     * @return The type of the tower, or null if nothing is built.
+     */
+    public TowerType getTowerType() {
+        return towerType;
+    }
+}
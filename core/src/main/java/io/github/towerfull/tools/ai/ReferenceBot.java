@@ -0,0 +1,85 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: A cheap, seeded computer player, standing for an average player when measuring the difficulty of a level.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.tools.ai;
+
+import com.badlogic.gdx.math.RandomXS128;
+import io.github.towerfull.entities.defenses.Tower;
+import io.github.towerfull.enumElements.TowerType;
+import io.github.towerfull.gameBoard.GameArea;
+import io.github.towerfull.tools.PrototypeFactory;
+
+import java.util.List;
+
+/**
+ * A computer player that does not simulate anything: at each decision, it picks one of the most promising
+ * candidate actions at random, or sometimes waits to save gold, and reacts after a random delay.
+ * The randomness stands for the variety of human players: the same level played with different seeds
+ * is won or lost depending on the choices made, which gives a win rate instead of a single outcome.
+ * It is cheap enough to play thousands of games, which is what the difficulty tuner needs.
+ */
+public class ReferenceBot {
+    // Number of best candidates the bot picks from
+    private static final int CHOICES = 3;
+
+    // Probability of waiting instead of building when something is affordable
+    private static final float SAVE_CHANCE = 0.25f;
+
+    // Shortest and longest time between two decisions, in seconds
+    private static final float MIN_REACTION = 0.5f;
+    private static final float MAX_REACTION = 2.5f;
+
+    // Duration of a simulation step, in seconds
+    private static final float STEP = 0.1f;
+
+    // The factory creating the towers
+    private final PrototypeFactory<TowerType, Tower> towerFactory;
+
+    // The random generator of the bot's choices
+    private final RandomXS128 random;
+
+    /**
+     * Constructs a reference bot.
+     *
+     * @param towerFactory The factory creating the towers.
+     * @param seed         The seed of the bot's choices.
+     */
+    public ReferenceBot(PrototypeFactory<TowerType, Tower> towerFactory, long seed) {
+        this.towerFactory = towerFactory;
+        this.random = new RandomXS128(seed);
+    }
+
+    /**
+     * Chooses an action for a game area.
+     *
+     * @param area The game area.
+     * @return The chosen action.
+     */
+    public PlayerAction decide(GameArea area) {
+        // The bot does not simulate its choices, so it never sells a tower blindly
+        List<PlayerAction> candidates = AutoPlayer.listCandidates(area, towerFactory, CHOICES, false);
+        if(candidates.isEmpty() || random.nextFloat() < SAVE_CHANCE) return PlayerAction.WAIT;
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+
+    /**
+     * Plays a game area until the level is won or lost, or until a maximum duration.
+     *
+     * @param area        The game area, owned by the calling thread.
+     * @param maxDuration The maximum simulated time, in seconds.
+     * @return true if the level was won, false otherwise.
+     */
+    public boolean play(GameArea area, float maxDuration) {
+        float time = 0f;
+        while(time < maxDuration && area.getLife() > 0 && !area.isCleared()) {
+            decide(area).apply(area, towerFactory);
+
+            float reaction = MIN_REACTION + random.nextFloat() * (MAX_REACTION - MIN_REACTION);
+            area.simulate(reaction, STEP);
+            time += reaction;
+        }
+        return area.isCleared();
+    }
+}
@@ -7,6 +7,7 @@
 package io.github.towerfull.tools.data;
 
 import io.github.towerfull.enumElements.AppearanceId;
+import io.github.towerfull.enumElements.StatusEffect;
 
 public class TowerData {
     public int damage;
@@ -14,4 +15,10 @@ public class TowerData {
     public int cost;
     public float cooldown;
     public AppearanceId appearance;
+    public float splashRadius;
+    public float splashFalloff;
+    public StatusEffect effect;
+    public float effectStrength;
+    public float effectDuration;
+    public float projectileSpeed;
 }
@@ -8,7 +8,10 @@ package io.github.towerfull.tools.data;
 
 import io.github.towerfull.enumElements.WaveId;
 
+import java.util.List;
+
 public class WaveScheduleData {
     public WaveId wave;
     public float startTime;
+    public List<WaveEntryData> entries; // Optional, replaces the entries of the wave (written by the difficulty tuner)
 }
@@ -11,6 +11,7 @@ import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.ObjectMap;
 import io.github.towerfull.tools.Prototype;
 import io.github.towerfull.tools.PrototypeFactory;
+import io.github.towerfull.tools.log.Log;
 
 /**
  * Abstract class for loading prototypes from JSON files.
@@ -50,9 +51,9 @@ public abstract class AbstractPrototypeLoader<T extends Prototype, D, E extends
                 factory.register(type, instance);
             }
 
-            Gdx.app.log("PrototypeLoader", "✅ Chargement des prototypes depuis " + path);
+            Log.info("PrototypeLoader", "✅ Chargement des prototypes depuis {}", path);
         } catch (Exception e) {
-            Gdx.app.error("PrototypeLoader", "❌ Erreur lors du chargement du fichier JSON : " + path, e);
+            Log.error("PrototypeLoader", "❌ Erreur lors du chargement du fichier JSON : " + path, e);
         }
     }
 
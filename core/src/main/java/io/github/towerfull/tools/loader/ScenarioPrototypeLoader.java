@@ -7,14 +7,20 @@ package io.github.towerfull.tools.loader;
 
 import io.github.towerfull.entities.ennemies.Monster;
 import io.github.towerfull.entities.ennemies.Scenario;
+import io.github.towerfull.entities.ennemies.Wave;
+import io.github.towerfull.entities.ennemies.WaveEntry;
 import io.github.towerfull.entities.ennemies.WaveSchedule;
 import io.github.towerfull.enumElements.MonsterType;
 import io.github.towerfull.enumElements.ScenarioId;
 import io.github.towerfull.enumElements.WaveId;
 import io.github.towerfull.tools.PrototypeFactory;
 import io.github.towerfull.tools.data.ScenarioData;
+import io.github.towerfull.tools.data.WaveEntryData;
 import io.github.towerfull.tools.data.WaveScheduleData;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class ScenarioPrototypeLoader extends AbstractPrototypeLoader<Scenario, ScenarioData, ScenarioId> {
     // The factories to create wave and monster prototypes
     private final PrototypeFactory<WaveId, WaveSchedule> waveFactory;
@@ -44,6 +50,16 @@ public class ScenarioPrototypeLoader extends AbstractPrototypeLoader<Scenario, S
         Scenario scenario = new Scenario(monsterFactory);
 
         for(WaveScheduleData waveScheduleData : data.waves) {
+            // Waves tuned for this scenario list their own entries instead of using the shared wave
+            if(waveScheduleData.entries != null) {
+                List<WaveEntry> entries = new ArrayList<>();
+                for(WaveEntryData entry : waveScheduleData.entries) {
+                    entries.add(new WaveEntry(entry.type, entry.spawnTime));
+                }
+                scenario.addWave(new Wave(entries), waveScheduleData.startTime);
+                continue;
+            }
+
             WaveSchedule original = waveFactory.create(waveScheduleData.wave);
             if(original != null) {
                 WaveSchedule clone = new WaveSchedule(original.getWave().clone(), waveScheduleData.startTime);
@@ -18,7 +18,13 @@ public class TowerPrototypeLoader extends AbstractPrototypeLoader<Tower, TowerDa
                 data.damage,
                 data.cooldown,
                 data.cost,
-                GameAssets.get().appearances.get(data.appearance)
+                GameAssets.get().appearances.get(data.appearance),
+                data.splashRadius,
+                data.splashFalloff,
+                data.effect,
+                data.effectStrength,
+                data.effectDuration,
+                data.projectileSpeed
         );
     }
 }
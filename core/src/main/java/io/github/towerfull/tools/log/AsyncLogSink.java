@@ -0,0 +1,248 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Writes the log messages to the console and to a file on its own thread, through a ring buffer.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.tools.log;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationLogger;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A log sink writing the messages on a dedicated thread, so that the render and simulation threads never wait
+ * for the console or the disk. Messages are copied into a fixed ring buffer of preallocated slots;
+ * the writer thread drains it regularly, or as soon as it is half full or an error is logged.
+ * When the buffer is full, new messages are dropped and counted instead of blocking the caller.
+ */
+public class AsyncLogSink implements Runnable {
+    // Number of messages the ring buffer can hold
+    private static final int CAPACITY = 1024;
+
+    // Longest time a message waits in the buffer before being written, in nanoseconds
+    private static final long FLUSH_INTERVAL = 100_000_000L;
+
+    // The slots of the ring buffer: level, tag, time, text and exception of each message
+    private final int[] levels = new int[CAPACITY];
+    private final String[] tags = new String[CAPACITY];
+    private final long[] times = new long[CAPACITY];
+    private final StringBuilder[] texts = new StringBuilder[CAPACITY];
+    private final Throwable[] exceptions = new Throwable[CAPACITY];
+
+    // Index of the oldest message, and number of messages in the buffer (guarded by this)
+    private int head;
+    private int size;
+
+    // Number of messages dropped because the buffer was full (guarded by this)
+    private long dropped;
+
+    // The file the messages are written to
+    private final Writer file;
+
+    // The logger of the application, to write the messages to the console (null to write the file only)
+    private final ApplicationLogger console;
+
+    // The writer thread
+    private final Thread thread;
+
+    // Whether the writer thread should keep running
+    private volatile boolean running = true;
+
+    // The line being written, only used by the writer thread
+    private final StringBuilder line = new StringBuilder(256);
+
+    /**
+     * Creates the sink and starts its writer thread.
+     *
+     * @param logFile   The file the messages are written to, replaced if it exists.
+     * @param toConsole Whether the messages are also written to the console.
+     */
+    public AsyncLogSink(FileHandle logFile, boolean toConsole) {
+        for(int i = 0; i < CAPACITY; ++i) {
+            texts[i] = new StringBuilder(128);
+        }
+        this.file = new BufferedWriter(logFile.writer(false, "UTF-8"));
+        this.console = toConsole && Gdx.app != null ? Gdx.app.getApplicationLogger() : null;
+
+        thread = new Thread(this, "LogWriter");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Copies a message into the ring buffer. Called by the logging threads.
+     *
+     * @param level     The level of the message.
+     * @param tag       The tag of the message.
+     * @param text      The formatted message.
+     * @param exception The exception causing the message, may be null.
+     * @return true if the message was taken, false if the sink is closed.
+     */
+    public boolean offer(int level, String tag, CharSequence text, Throwable exception) {
+        if(!running) return false;
+
+        int pending;
+        synchronized(this) {
+            if(size == CAPACITY) {
+                ++dropped;
+                return true;
+            }
+            int slot = (head + size) % CAPACITY;
+            levels[slot] = level;
+            tags[slot] = tag;
+            times[slot] = System.currentTimeMillis();
+            texts[slot].setLength(0);
+            texts[slot].append(text);
+            exceptions[slot] = exception;
+            pending = ++size;
+        }
+
+        // The writer is woken once when the buffer reaches half its capacity, not at every message after that
+        if(level == Application.LOG_ERROR || pending == CAPACITY / 2) {
+            LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    /**
+     * The writer loop: drains the buffer, then sleeps until the next flush or until woken up.
+     */
+    @Override
+    public void run() {
+        while(running) {
+            drain();
+            LockSupport.parkNanos(FLUSH_INTERVAL);
+        }
+        drain();
+    }
+
+    /**
+     * Writes every message of the buffer, one at a time, releasing the buffer while writing.
+     */
+    private void drain() {
+        boolean wrote = false;
+        while(true) {
+            int level;
+            String tag;
+            String message;
+            long time;
+            Throwable exception;
+            long skipped;
+            synchronized(this) {
+                if(size == 0) break;
+                level = levels[head];
+                tag = tags[head];
+                message = texts[head].toString();
+                time = times[head];
+                exception = exceptions[head];
+                tags[head] = null;
+                exceptions[head] = null;
+                head = (head + 1) % CAPACITY;
+                --size;
+                skipped = dropped;
+                dropped = 0;
+            }
+
+            if(skipped > 0) {
+                writeLine("... " + skipped + " messages dropped, the log buffer was full");
+            }
+            line.setLength(0);
+            line.append(time).append(' ').append(levelName(level)).append(" [").append(tag).append("] ").append(message);
+            writeLine(line);
+            if(exception != null) {
+                StringWriter trace = new StringWriter();
+                exception.printStackTrace(new PrintWriter(trace));
+                writeLine(trace.toString());
+            }
+            writeConsole(level, tag, message, exception);
+            wrote = true;
+        }
+
+        if(wrote) {
+            try {
+                file.flush();
+            } catch (IOException e) {
+                // The console still receives the messages
+            }
+        }
+    }
+
+    /**
+     * Writes a line to the log file.
+     *
+     * @param text The line.
+     */
+    private void writeLine(CharSequence text) {
+        try {
+            file.append(text).append('\n');
+        } catch (IOException e) {
+            // The console still receives the messages
+        }
+    }
+
+    /**
+     * Writes a message to the console, through the logger of the application.
+     *
+     * @param level     The level of the message.
+     * @param tag       The tag of the message.
+     * @param message   The message.
+     * @param exception The exception causing the message, may be null.
+     */
+    private void writeConsole(int level, String tag, String message, Throwable exception) {
+        if(console == null) return;
+        if(level == Application.LOG_ERROR) {
+            if(exception != null) {
+                console.error(tag, message, exception);
+            } else {
+                console.error(tag, message);
+            }
+        } else if(level == Application.LOG_DEBUG) {
+            console.debug(tag, message);
+        } else {
+            console.log(tag, message);
+        }
+    }
+
+    /**
+     * Gets the name written in the file for a level.
+     *
+     * @param level The level.
+     * @return The name of the level.
+     */
+    private static String levelName(int level) {
+        switch(level) {
+            case Application.LOG_ERROR:
+                return "ERROR";
+            case Application.LOG_DEBUG:
+                return "DEBUG";
+            default:
+                return "INFO";
+        }
+    }
+
+    /**
+     * Stops the writer thread after it wrote the remaining messages, and closes the file.
+     */
+    public void dispose() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            file.close();
+        } catch (IOException e) {
+            // Nothing more can be done
+        }
+    }
+}
@@ -0,0 +1,389 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: The logging facade of the game: level-gated, parameterised messages sent to an asynchronous sink.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.tools.log;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+
+/**
+ * The logging facade used by the whole game instead of Gdx.app.log.
+ * Every call first checks the level, a static field, so a disabled message costs a comparison:
+ * the message is only formatted if it will be written. Messages are parameterised with {} placeholders,
+ * and the overloads taking long and float arguments format them without boxing, into a buffer reused by each thread.
+ * When an AsyncLogSink is installed, the formatted message is copied into its ring buffer and written to the
+ * console and to a file by its own thread; otherwise it is written directly with Gdx.app.
+ * The level is LOG_INFO by default, or the one given by the system property towerfull.log
+ * (none, error, info or debug). Setting DEBUG to false removes every debug call at compile time.
+ */
+public final class Log {
+    /**
+     * Whether debug messages are compiled in. When false, the debug methods are empty and inlined away.
+     */
+    public static final boolean DEBUG = true;
+
+    // The current level, one of the Application.LOG_* constants
+    private static volatile int level = parseLevel(System.getProperty("towerfull.log"));
+
+    // The sink receiving the messages, null to write them directly
+    private static volatile AsyncLogSink sink;
+
+    // The buffer in which each thread formats its messages
+    private static final ThreadLocal<StringBuilder> BUFFERS = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    /**
+     * The facade only has static methods.
+     */
+    private Log() {}
+
+    /**
+     * Sets the level of the messages written.
+     *
+     * @param newLevel One of Application.LOG_NONE, LOG_ERROR, LOG_INFO or LOG_DEBUG.
+     */
+    public static void setLevel(int newLevel) {
+        level = newLevel;
+    }
+
+    /**
+     * Gets the level of the messages written.
+     *
+     * @return One of Application.LOG_NONE, LOG_ERROR, LOG_INFO or LOG_DEBUG.
+     */
+    public static int getLevel() {
+        return level;
+    }
+
+    /**
+     * Checks if debug messages are written.
+     *
+     * @return true if debug messages are written, false otherwise.
+     */
+    public static boolean isDebugEnabled() {
+        return DEBUG && level >= Application.LOG_DEBUG;
+    }
+
+    /**
+     * Checks if info messages are written.
+     *
+     * @return true if info messages are written, false otherwise.
+     */
+    public static boolean isInfoEnabled() {
+        return level >= Application.LOG_INFO;
+    }
+
+    /**
+     * Installs the sink receiving the messages, or removes it.
+     *
+     * @param newSink The sink, or null to write the messages directly.
+     */
+    public static void setSink(AsyncLogSink newSink) {
+        sink = newSink;
+    }
+
+    /**
+     * Logs a debug message.
+     *
+     * @param tag     The tag of the message.
+     * @param message The message.
+     */
+    public static void debug(String tag, String message) {
+        if(!isDebugEnabled()) return;
+        write(Application.LOG_DEBUG, tag, buffer(), message, 0, null);
+    }
+
+    /**
+     * Logs a debug message with one argument.
+     *
+     * @param tag    The tag of the message.
+     * @param format The message, with a {} placeholder.
+     * @param a      The argument.
+     */
+    public static void debug(String tag, String format, Object a) {
+        if(!isDebugEnabled()) return;
+        StringBuilder out = buffer();
+        int from = appendPart(out, format, 0);
+        out.append(a);
+        write(Application.LOG_DEBUG, tag, out, format, from, null);
+    }
+
+    /**
+     * Logs a debug message with two arguments.
+     *
+     * @param tag    The tag of the message.
+     * @param format The message, with two {} placeholders.
+     * @param a      The first argument.
+     * @param b      The second argument.
+     */
+    public static void debug(String tag, String format, Object a, Object b) {
+        if(!isDebugEnabled()) return;
+        StringBuilder out = buffer();
+        int from = appendPart(out, format, 0);
+        out.append(a);
+        from = appendPart(out, format, from);
+        out.append(b);
+        write(Application.LOG_DEBUG, tag, out, format, from, null);
+    }
+
+    /**
+     * Logs a debug message with an integer argument, without boxing it.
+     *
+     * @param tag    The tag of the message.
+     * @param format The message, with a {} placeholder.
+     * @param a      The argument.
+     */
+    public static void debug(String tag, String format, long a) {
+        if(!isDebugEnabled()) return;
+        StringBuilder out = buffer();
+        int from = appendPart(out, format, 0);
+        out.append(a);
+        write(Application.LOG_DEBUG, tag, out, format, from, null);
+    }
+
+    /**
+     * Logs a debug message with a decimal argument, without boxing it.
+     *
+     * @param tag    The tag of the message.
+     * @param format The message, with a {} placeholder.
+     * @param a      The argument.
+     */
+    public static void debug(String tag, String format, float a) {
+        if(!isDebugEnabled()) return;
+        StringBuilder out = buffer();
+        int from = appendPart(out, format, 0);
+        out.append(a);
+        write(Application.LOG_DEBUG, tag, out, format, from, null);
+    }
+
+    /**
+     * Logs a debug message with an integer and a decimal argument, without boxing them.
+     *
+     * @param tag    The tag of the message.
+     * @param format The message, with two {} placeholders.
+     * @param a      The first argument.
+     * @param b      The second argument.
+     */
+    public static void debug(String tag, String format, long a, float b) {
+        if(!isDebugEnabled()) return;
+        StringBuilder out = buffer();
+        int from = appendPart(out, format, 0);
+        out.append(a);
+        from = appendPart(out, format, from);
+        out.append(b);
+        write(Application.LOG_DEBUG, tag, out, format, from, null);
+    }
+
+    /**
+     * Logs an info message.
+     *
+     * @param tag     The tag of the message.
+     * @param message The message.
+     */
+    public static void info(String tag, String message) {
+        if(!isInfoEnabled()) return;
+        write(Application.LOG_INFO, tag, buffer(), message, 0, null);
+    }
+
+    /**
+     * Logs an info message with one argument.
+     *
+     * @param tag    The tag of the message.
+     * @param format The message, with a {} placeholder.
+     * @param a      The argument.
+     */
+    public static void info(String tag, String format, Object a) {
+        if(!isInfoEnabled()) return;
+        StringBuilder out = buffer();
+        int from = appendPart(out, format, 0);
+        out.append(a);
+        write(Application.LOG_INFO, tag, out, format, from, null);
+    }
+
+    /**
+     * Logs an info message with two arguments.
+     *
+     * @param tag    The tag of the message.
+     * @param format The message, with two {} placeholders.
+     * @param a      The first argument.
+     * @param b      The second argument.
+     */
+    public static void info(String tag, String format, Object a, Object b) {
+        if(!isInfoEnabled()) return;
+        StringBuilder out = buffer();
+        int from = appendPart(out, format, 0);
+        out.append(a);
+        from = appendPart(out, format, from);
+        out.append(b);
+        write(Application.LOG_INFO, tag, out, format, from, null);
+    }
+
+    /**
+     * Logs an info message with an integer argument, without boxing it.
+     *
+     * @param tag    The tag of the message.
+     * @param format The message, with a {} placeholder.
+     * @param a      The argument.
+     */
+    public static void info(String tag, String format, long a) {
+        if(!isInfoEnabled()) return;
+        StringBuilder out = buffer();
+        int from = appendPart(out, format, 0);
+        out.append(a);
+        write(Application.LOG_INFO, tag, out, format, from, null);
+    }
+
+    /**
+     * Logs an info message with a decimal argument, without boxing it.
+     *
+     * @param tag    The tag of the message.
+     * @param format The message, with a {} placeholder.
+     * @param a      The argument.
+     */
+    public static void info(String tag, String format, float a) {
+        if(!isInfoEnabled()) return;
+        StringBuilder out = buffer();
+        int from = appendPart(out, format, 0);
+        out.append(a);
+        write(Application.LOG_INFO, tag, out, format, from, null);
+    }
+
+    /**
+     * Logs an error message.
+     *
+     * @param tag     The tag of the message.
+     * @param message The message.
+     */
+    public static void error(String tag, String message) {
+        if(level < Application.LOG_ERROR) return;
+        write(Application.LOG_ERROR, tag, buffer(), message, 0, null);
+    }
+
+    /**
+     * Logs an error message with one argument.
+     *
+     * @param tag    The tag of the message.
+     * @param format The message, with a {} placeholder.
+     * @param a      The argument.
+     */
+    public static void error(String tag, String format, Object a) {
+        if(level < Application.LOG_ERROR) return;
+        StringBuilder out = buffer();
+        int from = appendPart(out, format, 0);
+        out.append(a);
+        write(Application.LOG_ERROR, tag, out, format, from, null);
+    }
+
+    /**
+     * Logs an error message with two arguments.
+     *
+     * @param tag    The tag of the message.
+     * @param format The message, with two {} placeholders.
+     * @param a      The first argument.
+     * @param b      The second argument.
+     */
+    public static void error(String tag, String format, Object a, Object b) {
+        if(level < Application.LOG_ERROR) return;
+        StringBuilder out = buffer();
+        int from = appendPart(out, format, 0);
+        out.append(a);
+        from = appendPart(out, format, from);
+        out.append(b);
+        write(Application.LOG_ERROR, tag, out, format, from, null);
+    }
+
+    /**
+     * Logs an error message with the exception that caused it.
+     *
+     * @param tag       The tag of the message.
+     * @param message   The message.
+     * @param exception The exception.
+     */
+    public static void error(String tag, String message, Throwable exception) {
+        if(level < Application.LOG_ERROR) return;
+        write(Application.LOG_ERROR, tag, buffer(), message, 0, exception);
+    }
+
+    /**
+     * Gets the formatting buffer of the calling thread, emptied.
+     *
+     * @return The buffer.
+     */
+    private static StringBuilder buffer() {
+        StringBuilder out = BUFFERS.get();
+        out.setLength(0);
+        return out;
+    }
+
+    /**
+     * Appends the part of a format before its next placeholder.
+     *
+     * @param out    The buffer.
+     * @param format The format.
+     * @param from   The index where the part starts.
+     * @return The index after the placeholder, or the length of the format if there is none.
+     */
+    private static int appendPart(StringBuilder out, String format, int from) {
+        int index = format.indexOf("{}", from);
+        if(index < 0) {
+            out.append(format, from, format.length());
+            return format.length();
+        }
+        out.append(format, from, index);
+        return index + 2;
+    }
+
+    /**
+     * Appends the end of the format and sends the message to the sink, or writes it directly without one.
+     *
+     * @param messageLevel The level of the message.
+     * @param tag          The tag of the message.
+     * @param out          The buffer holding the start of the message.
+     * @param format       The format.
+     * @param from         The index where the rest of the format starts.
+     * @param exception    The exception causing the message, may be null.
+     */
+    private static void write(int messageLevel, String tag, StringBuilder out, String format, int from, Throwable exception) {
+        out.append(format, from, format.length());
+
+        AsyncLogSink current = sink;
+        if(current != null && current.offer(messageLevel, tag, out, exception)) return;
+
+        String message = out.toString();
+        if(Gdx.app == null) {
+            System.out.println("[" + tag + "] " + message);
+            if(exception != null) exception.printStackTrace(System.out);
+        } else if(messageLevel == Application.LOG_ERROR) {
+            if(exception != null) {
+                Gdx.app.getApplicationLogger().error(tag, message, exception);
+            } else {
+                Gdx.app.getApplicationLogger().error(tag, message);
+            }
+        } else if(messageLevel == Application.LOG_DEBUG) {
+            Gdx.app.getApplicationLogger().debug(tag, message);
+        } else {
+            Gdx.app.getApplicationLogger().log(tag, message);
+        }
+    }
+
+    /**
+     * Reads a level from its name.
+     *
+     * @param name The name of the level (none, error, info or debug), may be null.
+     * @return The level, LOG_INFO if the name is null or unknown.
+     */
+    private static int parseLevel(String name) {
+        if(name == null) return Application.LOG_INFO;
+        switch(name.toLowerCase()) {
+            case "none":
+                return Application.LOG_NONE;
+            case "error":
+                return Application.LOG_ERROR;
+            case "debug":
+                return Application.LOG_DEBUG;
+            default:
+                return Application.LOG_INFO;
+        }
+    }
+}
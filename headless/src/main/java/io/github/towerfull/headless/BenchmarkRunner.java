@@ -0,0 +1,76 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Runs the benchmark given on the command line, then exits the headless application.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import io.github.towerfull.tools.log.Log;
+
+import java.util.Arrays;
+
+/**
+ * The application run by the headless launcher.
+ * It runs the benchmark named by the first command line argument once the application is created, then exits.
+ */
+public class BenchmarkRunner extends ApplicationAdapter {
+    // The command line arguments of the launcher
+    private final String[] args;
+
+    /**
+     * Constructs a BenchmarkRunner with the arguments of the launcher.
+     *
+     * @param args The command line arguments, the first one being the name of the benchmark.
+     */
+    public BenchmarkRunner(String[] args) {
+        this.args = args;
+    }
+
+    /**
+     * Runs the requested benchmark and exits the application.
+     */
+    @Override
+    public void create() {
+        String command = args.length > 0 ? args[0] : "";
+
+        switch(command) {
+            case "splash":
+                new SplashBenchmark().run();
+                break;
+            case "effects":
+                new EffectsBenchmark().run();
+                break;
+            case "projectiles":
+                new ProjectileBenchmark().run();
+                break;
+            case "fastforward":
+                new FastForwardBenchmark().run();
+                break;
+            case "timestep":
+                new TimeStepBenchmark().run();
+                break;
+            case "spawnburst":
+                new SpawnBurstBenchmark().run();
+                break;
+            case "bot":
+                new BotBenchmark().run();
+                break;
+            case "endless":
+                new EndlessBenchmark().run();
+                break;
+            case "logging":
+                new LoggingBenchmark().run();
+                break;
+            case "tune":
+                new DifficultyTuning().run(Arrays.copyOfRange(args, 1, args.length));
+                break;
+            default:
+                Log.info("BenchmarkRunner", "Usage: headless:run --args=\"<benchmark>\", benchmarks: splash, effects, projectiles, fastforward, timestep, spawnburst, bot, endless, logging, tune");
+                break;
+        }
+
+        Gdx.app.exit();
+    }
+}
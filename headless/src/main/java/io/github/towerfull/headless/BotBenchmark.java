@@ -0,0 +1,92 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Lets the auto player play every level of the game, as a regression benchmark of the game balance and speed.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.headless;
+
+import com.badlogic.gdx.Application;
+import io.github.towerfull.enumElements.LevelId;
+import io.github.towerfull.gameBoard.GameArea;
+import io.github.towerfull.gameBoard.level.Level;
+import io.github.towerfull.tools.GameAssets;
+import io.github.towerfull.tools.ai.AutoPlayer;
+import io.github.towerfull.tools.ai.PlayerAction;
+import io.github.towerfull.tools.log.Log;
+
+/**
+ * A benchmark letting the auto player play each level several times, taking a decision every few seconds.
+ * For each level, it logs the win rate, the average life left, and the throughput of the look-ahead
+ * simulations (simulated seconds per second of wall time, over every thread).
+ */
+public class BotBenchmark {
+    // Number of games played on each level
+    private static final int GAMES = 3;
+
+    // Simulated time between two decisions, and duration of a simulation step, in seconds
+    private static final float DECISION_INTERVAL = 2f;
+    private static final float STEP = 1 / 20f;
+
+    // Longest game, in simulated seconds, in case a level never ends
+    private static final float MAX_DURATION = 1800f;
+
+    // Time budget of a decision, in seconds
+    private static final float BUDGET = 0.05f;
+
+    /**
+     * Runs the benchmark and logs its results.
+     */
+    public void run() {
+        GameAssets.get().loadSimulationData();
+        AutoPlayer player = new AutoPlayer(GameAssets.get().towerFactory);
+        player.setBudget(BUDGET);
+        int logLevel = Log.getLevel();
+
+        for(LevelId id : LevelId.values()) {
+            Level level = GameAssets.get().levels.get(id);
+            if(level == null || level.getScenario() == null) continue;
+
+            int wins = 0;
+            int life = 0;
+            float simulatedBefore = player.getSimulatedSeconds();
+            long start = System.nanoTime();
+
+            Log.setLevel(Application.LOG_ERROR);
+            for(int game = 0; game < GAMES; ++game) {
+                GameArea area = play(player, new GameArea(level));
+                if(area.isCleared()) {
+                    ++wins;
+                }
+                life += area.getLife();
+            }
+            Log.setLevel(logLevel);
+
+            float wallTime = (System.nanoTime() - start) / 1e9f;
+            float simulated = player.getSimulatedSeconds() - simulatedBefore;
+            Log.info("BotBenchmark", id + ": " + wins + "/" + GAMES + " won, average life "
+                + String.format("%.1f", life / (float) GAMES) + ", look-ahead "
+                + String.format("%.0f", simulated / wallTime) + " simulated s/s (" + String.format("%.1f", wallTime) + " s)");
+        }
+
+        player.dispose();
+    }
+
+    /**
+     * Plays a level until it is won, lost, or takes too long.
+     *
+     * @param player The auto player.
+     * @param area   The game area of the level.
+     * @return The game area at the end of the game.
+     */
+    private GameArea play(AutoPlayer player, GameArea area) {
+        float time = 0f;
+        while(time < MAX_DURATION && area.getLife() > 0 && !area.isCleared()) {
+            PlayerAction action = player.decide(area);
+            action.apply(area, GameAssets.get().towerFactory);
+
+            area.simulate(DECISION_INTERVAL, STEP);
+            time += DECISION_INTERVAL;
+        }
+        return area;
+    }
+}
@@ -0,0 +1,72 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Tunes the scenarios given on the command line to a target win rate, and writes them back to scenarios.json.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.OrderedMap;
+import io.github.towerfull.enumElements.LevelId;
+import io.github.towerfull.gameBoard.level.Level;
+import io.github.towerfull.tools.GameAssets;
+import io.github.towerfull.tools.ai.DifficultyTuner;
+import io.github.towerfull.tools.data.ScenarioData;
+import io.github.towerfull.tools.log.Log;
+
+/**
+ * Runs the difficulty tuner on the scenarios given on the command line, then writes them back to scenarios.json
+ * (in the working directory, which is the assets folder when run from Gradle).
+ * Each target is written SCENARIO:LEVEL:WIN_RATE, for instance SCENARIO_HARD_1:LEVEL_3:0.6;
+ * together, the targets form the win rate curve of the game. Without targets, the hard scenarios are tuned.
+ */
+public class DifficultyTuning {
+    // The targets used when none is given
+    private static final String[] DEFAULT_TARGETS = { "SCENARIO_HARD_1:LEVEL_3:0.6", "SCENARIO_HARD_2:LEVEL_3:0.4" };
+
+    // The file holding the scenarios
+    private static final String SCENARIOS_FILE = "scenarios.json";
+
+    /**
+     * Tunes the scenarios and writes them back.
+     *
+     * @param targets The targets, as SCENARIO:LEVEL:WIN_RATE.
+     */
+    public void run(String[] targets) {
+        if(targets.length == 0) {
+            targets = DEFAULT_TARGETS;
+        }
+
+        GameAssets.get().loadSimulationData();
+        FileHandle file = Gdx.files.local(SCENARIOS_FILE);
+        OrderedMap<String, ScenarioData> scenarios = DifficultyTuner.readScenarios(file);
+
+        DifficultyTuner tuner = new DifficultyTuner(GameAssets.get().monsterFactory, GameAssets.get().towerFactory,
+            GameAssets.get().waveFactory, Runtime.getRuntime().availableProcessors());
+        long start = System.nanoTime();
+
+        for(String target : targets) {
+            String[] parts = target.split(":");
+            if(parts.length != 3 || !scenarios.containsKey(parts[0])) {
+                Log.error("DifficultyTuning", "Invalid target: " + target + ", expected SCENARIO:LEVEL:WIN_RATE");
+                continue;
+            }
+
+            Level level = GameAssets.get().levels.get(LevelId.valueOf(parts[1]));
+            float winRate = Float.parseFloat(parts[2]);
+
+            ScenarioData tuned = tuner.tune(level, scenarios.get(parts[0]), winRate,
+                line -> Log.info("DifficultyTuning", parts[0] + " " + line));
+
+            scenarios.put(parts[0], tuned);
+        }
+
+        DifficultyTuner.writeScenarios(file, scenarios);
+        tuner.dispose();
+
+        float seconds = (System.nanoTime() - start) / 1e9f;
+        Log.info("DifficultyTuning", tuner.getGamesPlayed() + " games played, " + tuner.getGamesSkipped()
+            + " skipped, in " + String.format("%.1f", seconds) + " s; written to " + file.path());
+    }
+}
@@ -0,0 +1,111 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Measures the cost of the status effects with 10,000 monsters carrying several effects each.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.headless;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import io.github.towerfull.entities.ennemies.Monster;
+import io.github.towerfull.entities.ennemies.Scenario;
+import io.github.towerfull.enumElements.StatusEffect;
+import io.github.towerfull.gameBoard.GameArea;
+import io.github.towerfull.gameBoard.level.Level;
+import io.github.towerfull.tools.PrototypeFactory;
+import io.github.towerfull.tools.log.Log;
+
+/**
+ * A benchmark running 10,000 monsters along a long path, while a part of them receive slows, poisons and stuns
+ * of random durations on every tick. The time of a tick is compared with the same game area without any effect.
+ */
+public class EffectsBenchmark {
+    // The size of the benchmark
+    private static final int MONSTERS = 10_000;
+    private static final int TICKS = 600;
+    private static final int WARMUP_TICKS = 120;
+    private static final float TICK = 1 / 60f;
+
+    // The fraction of the monsters receiving a new effect on each tick
+    private static final float EFFECTS_PER_TICK = 0.1f;
+
+    // The level: a long straight path
+    private static final int COLS = 200;
+    private static final int ROWS = 3;
+
+    /**
+     * Runs the benchmark and logs its results.
+     */
+    public void run() {
+        double withoutEffects = measure(false);
+        double withEffects = measure(true);
+
+        Log.info("EffectsBenchmark", MONSTERS + " monsters: " + String.format("%.3f", withoutEffects)
+            + " ms per tick without effects, " + String.format("%.3f", withEffects) + " ms per tick with effects");
+    }
+
+    /**
+     * Runs the game area for the warm-up and measured ticks.
+     *
+     * @param effects Whether effects are applied to the monsters on each tick.
+     * @return The average time of a tick, in milliseconds.
+     */
+    private double measure(boolean effects) {
+        GameArea area = createArea();
+        RandomXS128 random = new RandomXS128(42);
+
+        for(int i = 0; i < WARMUP_TICKS; ++i) {
+            tick(area, random, effects);
+        }
+
+        long start = System.nanoTime();
+        for(int i = 0; i < TICKS; ++i) {
+            tick(area, random, effects);
+        }
+        return (System.nanoTime() - start) / 1e6 / TICKS;
+    }
+
+    /**
+     * Applies random effects to a part of the monsters, then updates the game area.
+     *
+     * @param area    The game area.
+     * @param random  The random generator.
+     * @param effects Whether effects are applied.
+     */
+    private void tick(GameArea area, RandomXS128 random, boolean effects) {
+        if(effects) {
+            Array<Monster> monsters = area.getMonsters();
+            int count = (int) (monsters.size * EFFECTS_PER_TICK);
+            for(int i = 0; i < count; ++i) {
+                Monster monster = monsters.get(random.nextInt(monsters.size));
+                StatusEffect effect = StatusEffect.get(random.nextInt(StatusEffect.COUNT));
+                float strength = effect == StatusEffect.SLOW ? 0.5f : 3f;
+                area.applyEffect(monster, effect, strength, 0.2f + random.nextFloat() * 3f);
+            }
+        }
+        area.update(TICK);
+    }
+
+    /**
+     * Creates the game area with the monsters spread along the path.
+     *
+     * @return The game area to benchmark.
+     */
+    private GameArea createArea() {
+        Array<Vector2> path = new Array<>();
+        path.add(new Vector2(0, 1));
+        path.add(new Vector2(COLS - 1, 1));
+
+        Scenario scenario = new Scenario(new PrototypeFactory<>());
+        Level level = new Level(COLS, ROWS, path, scenario, new Array<>(), 0, 1, null);
+        GameArea area = new GameArea(level);
+
+        // The monsters are slow and very resistant, so they all stay in the game area
+        for(int i = 0; i < MONSTERS; ++i) {
+            area.spawnMonster(new Monster(Integer.MAX_VALUE, 0.1f, 1, 0, null));
+        }
+
+        return area;
+    }
+}
@@ -0,0 +1,74 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Runs an endless game for several simulated hours, to check its memory and spawn rate stay bounded.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.headless;
+
+import com.badlogic.gdx.Application;
+import io.github.towerfull.entities.ennemies.EndlessScenario;
+import io.github.towerfull.enumElements.LevelId;
+import io.github.towerfull.gameBoard.GameArea;
+import io.github.towerfull.gameBoard.level.Level;
+import io.github.towerfull.tools.GameAssets;
+import io.github.towerfull.tools.log.Log;
+
+/**
+ * A benchmark running an endless game on the first level for several simulated hours, with a life
+ * high enough never to lose. Every update is timed and reported to the scenario, as the simulation thread does.
+ * Every simulated hour, it logs the waves generated, the spawns waiting in the buffer, the monsters alive,
+ * the spawn rate ceiling and the heap used, which should all stay bounded.
+ */
+public class EndlessBenchmark {
+    // The simulated time, and the time between two reports, in seconds
+    private static final float DURATION = 4 * 3600f;
+    private static final float REPORT_INTERVAL = 3600f;
+
+    // Duration of an update, in seconds
+    private static final float TICK = 1 / 20f;
+
+    // The seed of the waves
+    private static final long SEED = 1;
+
+    /**
+     * Runs the benchmark and logs its results.
+     */
+    public void run() {
+        GameAssets.get().loadSimulationData();
+        Level base = GameAssets.get().levels.get(LevelId.LEVEL_1);
+        EndlessScenario scenario = new EndlessScenario(GameAssets.get().monsterFactory, SEED);
+        Level level = new Level(base.getCols(), base.getRows(), base.getPathGraph(), scenario,
+            base.getBuildableTiles(), base.getStartingGold(), Integer.MAX_VALUE, base.getBackground());
+
+        int logLevel = Log.getLevel();
+        Log.setLevel(Application.LOG_ERROR);
+        GameArea area = new GameArea(level);
+        Log.setLevel(logLevel);
+
+        EndlessScenario endless = (EndlessScenario) area.getScenario();
+        long start = System.nanoTime();
+        float time = 0f;
+        float nextReport = REPORT_INTERVAL;
+
+        while(time < DURATION) {
+            long before = System.nanoTime();
+            area.update(TICK);
+            endless.reportTickTime((System.nanoTime() - before) / 1e9f);
+            time += TICK;
+
+            if(time >= nextReport) {
+                nextReport += REPORT_INTERVAL;
+                Runtime runtime = Runtime.getRuntime();
+                System.gc();
+                long heap = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+                Log.info("EndlessBenchmark", String.format("%.0f h: ", time / 3600f) + endless.getWaveCount()
+                    + " waves, " + endless.getSpawnedCount() + " monsters spawned, " + endless.getPendingCount()
+                    + " pending, " + area.getMonsters().size + " alive, ceiling "
+                    + String.format("%.1f", endless.getSpawnRate()) + "/s, heap " + heap + " MB");
+            }
+        }
+
+        Log.info("EndlessBenchmark", "Simulated " + String.format("%.0f", DURATION / 3600f) + " h in "
+            + String.format("%.1f", (System.nanoTime() - start) / 1e9f) + " s");
+    }
+}
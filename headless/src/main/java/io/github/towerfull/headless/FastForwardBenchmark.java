@@ -0,0 +1,122 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Compares a tick by tick simulation of a level with a simulation skipping the idle periods.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.headless;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import io.github.towerfull.entities.defenses.Tower;
+import io.github.towerfull.entities.ennemies.Monster;
+import io.github.towerfull.entities.ennemies.Scenario;
+import io.github.towerfull.entities.ennemies.Wave;
+import io.github.towerfull.entities.ennemies.WaveEntry;
+import io.github.towerfull.enumElements.MonsterType;
+import io.github.towerfull.gameBoard.GameArea;
+import io.github.towerfull.gameBoard.level.Level;
+import io.github.towerfull.tools.PrototypeFactory;
+import io.github.towerfull.tools.log.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A benchmark simulating fifteen minutes of a level with long pauses between the waves and a long path,
+ * defended by towers placed near the exit. The same level is run tick by tick, then with GameArea.simulate,
+ * which skips the periods where nothing can happen. Both runs should end in the same state.
+ */
+public class FastForwardBenchmark {
+    // The simulated time and the duration of a tick
+    private static final float DURATION = 920f;
+    private static final float TICK = 1 / 60f;
+
+    // The scenario: ten waves of fifteen monsters, one wave every ninety seconds
+    private static final int WAVES = 10;
+    private static final int MONSTERS_PER_WAVE = 15;
+    private static final float WAVE_INTERVAL = 90f;
+    private static final float SPAWN_INTERVAL = 0.8f;
+
+    // The level: a serpentine path over the whole map
+    private static final int COLS = 30;
+    private static final int ROWS = 15;
+
+    /**
+     * Runs the benchmark and logs its results.
+     */
+    public void run() {
+        int logLevel = Log.getLevel();
+        Log.setLevel(Application.LOG_ERROR);
+
+        GameArea ticked = createArea();
+        long start = System.nanoTime();
+        for(float time = 0f; time < DURATION; time += TICK) {
+            ticked.update(TICK);
+        }
+        long tickTime = System.nanoTime() - start;
+
+        GameArea skipped = createArea();
+        start = System.nanoTime();
+        skipped.simulate(DURATION, TICK);
+        long skipTime = System.nanoTime() - start;
+
+        Log.setLevel(logLevel);
+        Log.info("FastForwardBenchmark", DURATION + " s simulated: tick by tick "
+            + String.format("%.1f", tickTime / 1e6) + " ms, with skips " + String.format("%.1f", skipTime / 1e6) + " ms");
+        Log.info("FastForwardBenchmark", "Tick by tick: " + describe(ticked) + ", with skips: " + describe(skipped));
+    }
+
+    /**
+     * Describes the final state of a simulated game area, to compare runs of the same level.
+     *
+     * @param area The game area.
+     * @return The life, gold and remaining monsters of the game area.
+     */
+    static String describe(GameArea area) {
+        return "life " + area.getLife() + ", gold " + area.getEconomyManager().getGold()
+            + ", monsters " + area.getMonsters().size;
+    }
+
+    /**
+     * Creates the game area: the serpentine path, the towers near the exit and the scenario.
+     * It is shared with the other benchmarks simulating a whole level.
+     *
+     * @return The game area to simulate.
+     */
+    static GameArea createArea() {
+        Array<Vector2> path = new Array<>();
+        for(int row = 1; row < ROWS; row += 3) {
+            boolean toRight = (row / 3) % 2 == 0;
+            path.add(new Vector2(toRight ? 0 : COLS - 1, row));
+            path.add(new Vector2(toRight ? COLS - 1 : 0, row));
+        }
+
+        Array<Vector2> spots = new Array<>();
+        spots.add(new Vector2(5, ROWS - 1));
+        spots.add(new Vector2(12, ROWS - 1));
+        spots.add(new Vector2(20, ROWS - 1));
+
+        PrototypeFactory<MonsterType, Monster> factory = new PrototypeFactory<>();
+        factory.register(MonsterType.RAT, new Monster(12, 2f, 1, 2, null));
+        factory.register(MonsterType.GOLEM, new Monster(60, 0.8f, 3, 10, null));
+
+        Scenario scenario = new Scenario(factory);
+        for(int w = 0; w < WAVES; ++w) {
+            List<WaveEntry> entries = new ArrayList<>();
+            for(int i = 0; i < MONSTERS_PER_WAVE; ++i) {
+                entries.add(new WaveEntry(i % 5 == 4 ? MonsterType.GOLEM : MonsterType.RAT, i * SPAWN_INTERVAL));
+            }
+            scenario.addWave(new Wave(entries), w * WAVE_INTERVAL);
+        }
+
+        Level level = new Level(COLS, ROWS, path, scenario, spots, 0, 100, null);
+        GameArea area = new GameArea(level);
+
+        for(int i = 0; i < area.getBuildSpots().size; ++i) {
+            area.buildTower(area.getBuildSpots().get(i), new Tower(3, 6, 0.7f, 0, null));
+        }
+
+        return area;
+    }
+}
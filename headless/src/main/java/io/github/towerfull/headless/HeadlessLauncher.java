@@ -0,0 +1,27 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Launches the headless application, used to run benchmarks of the simulation.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.headless;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/** Launches the headless application. Can be converted into a server application or a scripting utility. */
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        createApplication(args);
+    }
+
+    private static Application createApplication(String[] args) {
+        return new HeadlessApplication(new BenchmarkRunner(args), getDefaultConfiguration());
+    }
+
+    private static HeadlessApplicationConfiguration getDefaultConfiguration() {
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1; // When this value is negative, render() is never called.
+        return configuration;
+    }
+}
@@ -0,0 +1,69 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Measures the cost of a debug message on the calling thread, disabled, written directly and sent to the sink.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.headless;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.files.FileHandle;
+import io.github.towerfull.tools.log.AsyncLogSink;
+import io.github.towerfull.tools.log.Log;
+
+/**
+ * A benchmark logging the same parameterised debug message many times, and measuring the time spent
+ * by the calling thread: with debug messages disabled, written directly through Gdx.app,
+ * and sent to an AsyncLogSink writing to a temporary file. Each run is preceded by a warm-up run.
+ */
+public class LoggingBenchmark {
+    // Number of messages logged in each run
+    private static final int MESSAGES = 200_000;
+
+    // Number of messages logged in the run writing directly, which is much slower
+    private static final int DIRECT_MESSAGES = 500;
+
+    /**
+     * Runs the benchmark and logs its results.
+     */
+    public void run() {
+        int logLevel = Log.getLevel();
+
+        Log.setLevel(Application.LOG_INFO);
+        measure(MESSAGES);
+        float disabled = measure(MESSAGES);
+
+        // Direct writes go to the console, which is what a debug build without the sink did
+        Log.setLevel(Application.LOG_DEBUG);
+        measure(DIRECT_MESSAGES);
+        float direct = measure(DIRECT_MESSAGES);
+
+        FileHandle file = FileHandle.tempFile("towerfull-log");
+        AsyncLogSink sink = new AsyncLogSink(file, false);
+        Log.setSink(sink);
+        measure(MESSAGES);
+        float async = measure(MESSAGES);
+        Log.setSink(null);
+        sink.dispose();
+        long lines = file.readString().split("\n").length;
+        file.delete();
+
+        Log.setLevel(logLevel);
+        Log.info("LoggingBenchmark", "Disabled: " + String.format("%.1f", disabled) + " ns per message, direct: "
+            + String.format("%.1f", direct) + " ns, to the sink: " + String.format("%.1f", async) + " ns ("
+            + lines + " lines written to the file)");
+    }
+
+    /**
+     * Logs a debug message a number of times.
+     *
+     * @param count The number of messages.
+     * @return The average time spent per message, in nanoseconds.
+     */
+    private float measure(int count) {
+        long start = System.nanoTime();
+        for(int i = 0; i < count; ++i) {
+            Log.debug("LoggingBenchmark", "Spawning {} monsters at t={}", i, i * 0.016f);
+        }
+        return (System.nanoTime() - start) / (float) count;
+    }
+}
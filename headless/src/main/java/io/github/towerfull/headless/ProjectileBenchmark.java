@@ -0,0 +1,127 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Measures the cost of the projectile simulation with 20,000 projectiles in flight.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.headless;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import io.github.towerfull.entities.defenses.Tower;
+import io.github.towerfull.entities.ennemies.Monster;
+import io.github.towerfull.entities.ennemies.Scenario;
+import io.github.towerfull.gameBoard.GameArea;
+import io.github.towerfull.gameBoard.ProjectileBuffer;
+import io.github.towerfull.gameBoard.level.Level;
+import io.github.towerfull.tools.PrototypeFactory;
+import io.github.towerfull.tools.log.Log;
+
+/**
+ * A benchmark keeping 20,000 projectiles in flight towards 1,000 moving monsters.
+ * The projectiles are fired by towers using the projectile speeds and splash settings of towers.json,
+ * and the buffer is topped up before every tick, as if the towers fired continuously.
+ */
+public class ProjectileBenchmark {
+    // The size of the benchmark
+    private static final int MONSTERS = 1000;
+    private static final int IN_FLIGHT = 20_000;
+    private static final int TICKS = 600;
+    private static final int WARMUP_TICKS = 120;
+    private static final float TICK = 1 / 60f;
+
+    // The level: a long straight path in the middle, towers firing from the top and bottom rows
+    private static final int COLS = 200;
+    private static final int ROWS = 21;
+    private static final int PATH_ROW = 10;
+
+    /**
+     * Runs the benchmark and logs its results.
+     */
+    public void run() {
+        GameArea area = createArea();
+        Array<Tower> towers = createTowers();
+        RandomXS128 random = new RandomXS128(42);
+
+        for(int i = 0; i < WARMUP_TICKS; ++i) {
+            tick(area, towers, random);
+        }
+
+        long impacts = 0;
+        long start = System.nanoTime();
+        for(int i = 0; i < TICKS; ++i) {
+            impacts += tick(area, towers, random);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Log.info("ProjectileBenchmark", area.getProjectiles().size() + " projectiles in flight: "
+            + String.format("%.3f", elapsed / 1e6 / TICKS) + " ms per tick, "
+            + impacts / TICKS + " impacts per tick");
+    }
+
+    /**
+     * Fires projectiles until the buffer holds the requested number, then updates the game area.
+     *
+     * @param area   The game area.
+     * @param towers The towers firing the projectiles.
+     * @param random The random generator.
+     * @return The number of projectiles that hit during the tick.
+     */
+    private int tick(GameArea area, Array<Tower> towers, RandomXS128 random) {
+        ProjectileBuffer projectiles = area.getProjectiles();
+        Array<Monster> monsters = area.getMonsters();
+
+        while(projectiles.size() < IN_FLIGHT) {
+            Tower tower = towers.get(random.nextInt(towers.size));
+            Monster target = monsters.get(random.nextInt(monsters.size));
+            float fromX = random.nextFloat() * COLS;
+            float fromY = random.nextBoolean() ? 0 : ROWS - 1;
+            projectiles.spawn(fromX, fromY, tower.getProjectileSpeed(), target, tower, 0f);
+        }
+
+        int before = projectiles.size();
+        area.update(TICK);
+        return before - projectiles.size();
+    }
+
+    /**
+     * Creates the towers firing the projectiles, one per tower type of towers.json with a projectile speed.
+     * They deal a single point of damage, so the monsters survive the whole benchmark.
+     *
+     * @return The towers.
+     */
+    private Array<Tower> createTowers() {
+        Array<Tower> towers = new Array<>();
+        towers.add(new Tower(3, 1, 2f, 0, null, 0f, 0f, null, 0f, 0f, 8f));      // CASTLE
+        towers.add(new Tower(4, 1, 3f, 0, null, 1.5f, 0.5f, null, 0f, 0f, 5f));  // CATAPULT
+        towers.add(new Tower(6, 1, 1.6f, 0, null, 0f, 0f, null, 0f, 0f, 12f));   // LONGBOW
+        towers.add(new Tower(2, 1, 0.5f, 0, null, 0f, 0f, null, 0f, 0f, 9f));    // SLINGSHOT
+        towers.add(new Tower(3, 1, 0.8f, 0, null, 1f, 0.25f, null, 0f, 0f, 7f)); // MAGE
+        towers.add(new Tower(2, 1, 5f, 0, null, 0f, 0f, null, 0f, 0f, 12f));     // GOLD_ARROW
+        return towers;
+    }
+
+    /**
+     * Creates the game area with the monsters spread along the path.
+     *
+     * @return The game area to benchmark.
+     */
+    private GameArea createArea() {
+        Array<Vector2> path = new Array<>();
+        path.add(new Vector2(0, PATH_ROW));
+        path.add(new Vector2(COLS - 1, PATH_ROW));
+
+        Scenario scenario = new Scenario(new PrototypeFactory<>());
+        Level level = new Level(COLS, ROWS, path, scenario, new Array<>(), 0, 1, null);
+        GameArea area = new GameArea(level);
+
+        RandomXS128 random = new RandomXS128(7);
+        for(int i = 0; i < MONSTERS; ++i) {
+            Monster monster = new Monster(Integer.MAX_VALUE, 0.5f, 1, 0, null);
+            area.spawnMonster(monster);
+            monster.advance(random.nextFloat() * (COLS - 40));
+        }
+
+        return area;
+    }
+}
@@ -0,0 +1,88 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Measures how a swarm spawning all at once is spread over several ticks by the spawn budget.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.headless;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import io.github.towerfull.entities.ennemies.Monster;
+import io.github.towerfull.entities.ennemies.Scenario;
+import io.github.towerfull.entities.ennemies.Wave;
+import io.github.towerfull.entities.ennemies.WaveEntry;
+import io.github.towerfull.enumElements.MonsterType;
+import io.github.towerfull.gameBoard.GameArea;
+import io.github.towerfull.gameBoard.level.Level;
+import io.github.towerfull.tools.PrototypeFactory;
+import io.github.towerfull.tools.log.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A benchmark spawning a swarm of monsters at the same instant, on a long straight path without towers.
+ * It logs the number of ticks the swarm was spread over, the longest tick, and how far apart the monsters are
+ * once they all entered: since they were all due at the same time, they should all be at the same place.
+ */
+public class SpawnBurstBenchmark {
+    // Number of monsters of the swarm, and the time at which they are due
+    private static final int SWARM = 200;
+    private static final float SWARM_TIME = 1f;
+
+    // The simulated time and the duration of a tick
+    private static final float DURATION = 3f;
+    private static final float TICK = 1 / 60f;
+
+    // Length of the path
+    private static final int LENGTH = 200;
+
+    /**
+     * Runs the benchmark and logs its results.
+     */
+    public void run() {
+        Array<Vector2> path = new Array<>();
+        path.add(new Vector2(0, 0));
+        path.add(new Vector2(LENGTH, 0));
+
+        PrototypeFactory<MonsterType, Monster> factory = new PrototypeFactory<>();
+        factory.register(MonsterType.RAT, new Monster(12, 2f, 1, 2, null));
+
+        List<WaveEntry> entries = new ArrayList<>();
+        for(int i = 0; i < SWARM; ++i) {
+            entries.add(new WaveEntry(MonsterType.RAT, 0f));
+        }
+        Scenario scenario = new Scenario(factory);
+        scenario.addWave(new Wave(entries), SWARM_TIME);
+
+        int logLevel = Log.getLevel();
+        Log.setLevel(Application.LOG_ERROR);
+        GameArea area = new GameArea(new Level(LENGTH + 1, 1, path, scenario, new Array<>(), 0, 100, null));
+        Log.setLevel(logLevel);
+
+        int spawningTicks = 0;
+        long longestTick = 0;
+        for(float time = 0f; time < DURATION; time += TICK) {
+            int before = area.getMonsters().size;
+            long start = System.nanoTime();
+            area.update(TICK);
+            longestTick = Math.max(longestTick, System.nanoTime() - start);
+            if(area.getMonsters().size > before) {
+                ++spawningTicks;
+            }
+        }
+
+        float first = Float.POSITIVE_INFINITY;
+        float last = Float.NEGATIVE_INFINITY;
+        for(Monster monster : area.getMonsters()) {
+            first = Math.min(first, monster.getDistanceTravelled());
+            last = Math.max(last, monster.getDistanceTravelled());
+        }
+
+        Log.info("SpawnBurstBenchmark", area.getMonsters().size + " monsters spawned over " + spawningTicks
+            + " ticks (budget " + Scenario.SPAWN_BUDGET + " per tick), longest tick "
+            + String.format("%.2f", longestTick / 1e6) + " ms, spread of the swarm "
+            + String.format("%.4f", last - first) + " cells");
+    }
+}
@@ -0,0 +1,143 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Measures the cost of splash damage with many monsters clustered in front of several catapults.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.headless;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import io.github.towerfull.entities.defenses.Tower;
+import io.github.towerfull.entities.ennemies.Monster;
+import io.github.towerfull.entities.ennemies.Scenario;
+import io.github.towerfull.gameBoard.GameArea;
+import io.github.towerfull.gameBoard.MonsterIndex;
+import io.github.towerfull.gameBoard.level.Level;
+import io.github.towerfull.tools.PrototypeFactory;
+import io.github.towerfull.tools.log.Log;
+
+/**
+ * A benchmark putting 1,000 monsters on one segment of a straight path, in range of six catapults firing together.
+ * It measures the time of a full simulation tick, then compares a radius query on the monster index
+ * with a scan of every monster.
+ */
+public class SplashBenchmark {
+    // The size of the benchmark
+    private static final int MONSTERS = 1000;
+    private static final int TICKS = 600;
+    private static final int WARMUP_TICKS = 120;
+    private static final int QUERIES = 100_000;
+    private static final float TICK = 1 / 60f;
+
+    // The level: a straight path on the middle row, monsters clustered between CLUSTER_START and CLUSTER_END
+    private static final int COLS = 40;
+    private static final int ROWS = 11;
+    private static final int PATH_ROW = 5;
+    private static final float CLUSTER_START = 10f;
+    private static final float CLUSTER_END = 16f;
+
+    // The catapults: damage is low and health high, so the monsters survive the whole benchmark
+    private static final int[][] CATAPULTS = { {10, 4}, {12, 4}, {14, 4}, {11, 6}, {13, 6}, {15, 6} };
+    private static final float SPLASH_RADIUS = 1.5f;
+    private static final float SPLASH_FALLOFF = 0.5f;
+
+    /**
+     * Runs the benchmark and logs its results.
+     */
+    public void run() {
+        GameArea area = createArea();
+
+        for(int i = 0; i < WARMUP_TICKS; ++i) {
+            area.update(TICK);
+        }
+
+        long start = System.nanoTime();
+        for(int i = 0; i < TICKS; ++i) {
+            area.update(TICK);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Log.info("SplashBenchmark", MONSTERS + " monsters, " + CATAPULTS.length + " catapults: "
+            + String.format("%.3f", elapsed / 1e6 / TICKS) + " ms per tick");
+
+        compareQueries(area);
+    }
+
+    /**
+     * Creates the game area: the path, the catapults and the clustered monsters.
+     *
+     * @return The game area to benchmark.
+     */
+    private GameArea createArea() {
+        Array<Vector2> path = new Array<>();
+        path.add(new Vector2(0, PATH_ROW));
+        path.add(new Vector2(COLS - 1, PATH_ROW));
+
+        Array<Vector2> spots = new Array<>();
+        for(int[] catapult : CATAPULTS) {
+            spots.add(new Vector2(catapult[0], catapult[1]));
+        }
+
+        Scenario scenario = new Scenario(new PrototypeFactory<>());
+        Level level = new Level(COLS, ROWS, path, scenario, spots, 0, 1, null);
+        GameArea area = new GameArea(level);
+
+        for(int i = 0; i < area.getBuildSpots().size; ++i) {
+            area.buildTower(area.getBuildSpots().get(i),
+                new Tower(4, 1, 0.1f, 0, null, SPLASH_RADIUS, SPLASH_FALLOFF));
+        }
+
+        // The monsters do not move, so they stay clustered on the same segment
+        RandomXS128 random = new RandomXS128(42);
+        for(int i = 0; i < MONSTERS; ++i) {
+            Monster monster = new Monster(Integer.MAX_VALUE, 0f, 1, 0, null);
+            area.spawnMonster(monster);
+            monster.setLogicalPos(new Vector2(
+                CLUSTER_START + random.nextFloat() * (CLUSTER_END - CLUSTER_START),
+                PATH_ROW - 0.4f + random.nextFloat() * 0.8f
+            ));
+        }
+
+        return area;
+    }
+
+    /**
+     * Compares a radius query on the monster index with a scan of every monster, at random impact points.
+     *
+     * @param area The game area, whose monster index is up to date.
+     */
+    private void compareQueries(GameArea area) {
+        MonsterIndex index = area.getMonsterIndex();
+        Array<Monster> monsters = area.getMonsters();
+        RandomXS128 random = new RandomXS128(7);
+
+        float[] xs = new float[QUERIES];
+        for(int i = 0; i < QUERIES; ++i) {
+            xs[i] = CLUSTER_START + random.nextFloat() * (CLUSTER_END - CLUSTER_START);
+        }
+
+        long found = 0;
+        long start = System.nanoTime();
+        for(int i = 0; i < QUERIES; ++i) {
+            found += index.query(xs[i], PATH_ROW, SPLASH_RADIUS);
+        }
+        long indexTime = System.nanoTime() - start;
+
+        long scanned = 0;
+        float radius2 = SPLASH_RADIUS * SPLASH_RADIUS;
+        start = System.nanoTime();
+        for(int i = 0; i < QUERIES; ++i) {
+            for(Monster monster : monsters) {
+                if(!monster.isDead() && monster.getLogicalPos().dst2(xs[i], PATH_ROW) <= radius2) {
+                    ++scanned;
+                }
+            }
+        }
+        long scanTime = System.nanoTime() - start;
+
+        Log.info("SplashBenchmark", "Radius query: index " + String.format("%.3f", indexTime / 1e3 / QUERIES)
+            + " us, full scan " + String.format("%.3f", scanTime / 1e3 / QUERIES)
+            + " us (" + found + " / " + scanned + " monsters hit)");
+    }
+}
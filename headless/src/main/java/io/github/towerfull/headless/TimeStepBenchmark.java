@@ -0,0 +1,42 @@
+// Authors: Thomas Vuilleumier, Sebastian Diaz, Lionel Pollien
+// Date of creation: 2026-10-19
+// Aim: Simulates the same level with time steps of different lengths, to check they lead to the same outcome.
+// -------------------------------------------------------------------------------------
+
+package io.github.towerfull.headless;
+
+import com.badlogic.gdx.Application;
+import io.github.towerfull.gameBoard.GameArea;
+import io.github.towerfull.tools.log.Log;
+
+/**
+ * A benchmark simulating the level of the fast-forward benchmark with longer and longer time steps.
+ * Towers fire every shot owed during a step, so coarse steps should end in (almost) the same state
+ * as the reference run at 60 updates per second, for a fraction of its cost.
+ */
+public class TimeStepBenchmark {
+    // The simulated time
+    private static final float DURATION = 920f;
+
+    // The time steps compared, the first one being the reference
+    private static final float[] TICKS = { 1 / 60f, 1 / 20f, 1 / 10f, 1 / 4f };
+
+    /**
+     * Runs the benchmark and logs its results.
+     */
+    public void run() {
+        int logLevel = Log.getLevel();
+
+        for(float tick : TICKS) {
+            Log.setLevel(Application.LOG_ERROR);
+            GameArea area = FastForwardBenchmark.createArea();
+            long start = System.nanoTime();
+            area.simulate(DURATION, tick);
+            long elapsed = System.nanoTime() - start;
+            Log.setLevel(logLevel);
+
+            Log.info("TimeStepBenchmark", "Step " + String.format("%.3f", tick) + " s: "
+                + String.format("%.1f", elapsed / 1e6) + " ms, " + FastForwardBenchmark.describe(area));
+        }
+    }
+}